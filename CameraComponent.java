@@ -3,7 +3,9 @@ package com.csse3200.game.components;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 
 public class CameraComponent extends Component {
   private final Camera camera;
@@ -36,6 +38,28 @@ public class CameraComponent extends Component {
     return camera;
   }
 
+  /**
+   * Get the world area currently visible to the camera, taking zoom into account.
+   *
+   * @param bounds rectangle to store the visible area in
+   * @return bounds
+   */
+  public Rectangle getViewBounds(Rectangle bounds) {
+    // The first four frustum points are the corners of the near plane
+    Vector3[] corners = camera.frustum.planePoints;
+    float minX = corners[0].x;
+    float minY = corners[0].y;
+    float maxX = minX;
+    float maxY = minY;
+    for (int i = 1; i < 4; i++) {
+      minX = Math.min(minX, corners[i].x);
+      minY = Math.min(minY, corners[i].y);
+      maxX = Math.max(maxX, corners[i].x);
+      maxY = Math.max(maxY, corners[i].y);
+    }
+    return bounds.set(minX, minY, maxX - minX, maxY - minY);
+  }
+
   public void resize(int screenWidth, int screenHeight, float gameWidth) {
     float ratio = (float) screenHeight / screenWidth;
     camera.viewportWidth = gameWidth;
@@ -74,6 +74,21 @@ public  class Component {
     this.enabled = enabled;
   }
 
+  /** @return true if the component runs update() and earlyUpdate() */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Called when the entity is suspended or resumed, after it has been disabled or enabled. Components
+   * registered with a service, e.g. for rendering or input, should leave it while suspended.
+   *
+   * @param suspended true when suspended, false when resumed
+   */
+  public void setSuspended(boolean suspended) {
+    // No action by default.
+  }
+
   /** Used to trigger the component to update itself. This should not need to be called manually. */
   public final void triggerUpdate() {
     if (enabled) {
@@ -5,6 +5,7 @@ import com.csse3200.game.GdxGame;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
 
 
 /**
@@ -33,6 +34,10 @@ public class EnterCombatComponent extends Component {
     @Override
     public void create() {
         entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+        PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+        if (physics != null) {
+            physics.addCollisionInterest(targetLayer);
+        }
         hitboxComponent = entity.getComponent(HitboxComponent.class);
     }
 
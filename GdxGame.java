@@ -5,6 +5,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.csse3200.game.components.settingsmenu.UserSettings;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.prefabs.PrefabLibrary;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.screens.*;
 import com.csse3200.game.services.ServiceContainer;
@@ -28,6 +29,7 @@ public class GdxGame extends Game {
     public void create() {
         logger.info("Creating game");
         loadSettings();
+        PrefabLibrary.load();
         // Assign the gdxgame to a singleton
         GdxGameManager.setInstance(this);
 
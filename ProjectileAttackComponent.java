@@ -8,6 +8,10 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.physics.components.KinematicBodyComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.kinematic.KinematicBody;
+import com.csse3200.game.physics.kinematic.KinematicWorld;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 
 
@@ -15,7 +19,8 @@ import com.csse3200.game.rendering.AnimationRenderComponent;
  * A component that allows an entity to attack other entities upon collision, dealing damage and applying knockback.
  *
  * <p>This component should be added to a projectile entity. It requires the entity to have a
- * {@link CombatStatsComponent} to define its damage capabilities and a {@link HitboxComponent} to detect collisions.
+ * {@link CombatStatsComponent} to define its damage capabilities and a {@link HitboxComponent} or
+ * {@link KinematicBodyComponent} to detect collisions.
  * When a collision is detected with an entity on the specified target layer, this component will deal damage to the
  * target if it has a {@link CombatStatsComponent}.
  * The projectile is then disposed of after the collision.
@@ -42,6 +47,15 @@ public class ProjectileAttackComponent extends Component {
   @Override
   public void create() {
     entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    if (physics != null) {
+      physics.addCollisionInterest(targetLayer);
+    }
+    KinematicBodyComponent kinematicBody = entity.getComponent(KinematicBodyComponent.class);
+    if (kinematicBody != null) {
+      entity.getEvents().addListener(KinematicWorld.COLLISION_START, this::onKinematicCollisionStart);
+      kinematicBody.getBody().addCollisionInterest(targetLayer);
+    }
     combatStats = entity.getComponent(CombatStatsComponent.class);
     hitboxComponent = entity.getComponent(HitboxComponent.class);
   }
@@ -64,13 +78,35 @@ public class ProjectileAttackComponent extends Component {
       return;
     }
 
-    // does damage if player
     Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
-    target.getComponent(CombatStatsComponent.class).addHealth(-2); //placeholder value
-    
+    hit(target);
+  }
+
+  /**
+   * Handles collision start events for a kinematic projectile, like {@link #onCollisionStart}.
+   *
+   * @param me    The kinematic body of this entity.
+   * @param other The kinematic body of the other entity involved in the collision.
+   */
+  private void onKinematicCollisionStart(KinematicBody me, KinematicBody other) {
+    if (!PhysicsLayer.contains(targetLayer, other.getLayer())) {
+      return;
+    }
+    hit(other.getEntity());
+  }
+
+  private void hit(Entity target) {
+    // does damage if player
+    CombatStatsComponent targetStats =
+        target == null ? null : target.getComponent(CombatStatsComponent.class);
+    if (targetStats != null) {
+      targetStats.addHealth(-2); //placeholder value
+    }
+
     // disposes of projectile
-    Entity owner = getEntity();
-    ProjectileMovementTask task = (ProjectileMovementTask) owner.getComponent(AITaskComponent.class).getCurrentTask();
-    task.movementTask.stop();
+    AITaskComponent ai = getEntity().getComponent(AITaskComponent.class);
+    if (ai != null && ai.getCurrentTask() instanceof ProjectileMovementTask) {
+      ((ProjectileMovementTask) ai.getCurrentTask()).hit();
+    }
   }
 }
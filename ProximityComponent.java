@@ -11,6 +11,8 @@ import com.csse3200.game.rendering.AnimationRenderComponent;
 public class ProximityComponent extends Component {
     private final Entity target;
     private final double proximityRange;
+    private final Vector2 position = new Vector2();
+    private final Vector2 targetPosition = new Vector2();
 
     /**
      * @param target         the player entity, for detecting if it is in range
@@ -28,8 +30,7 @@ public class ProximityComponent extends Component {
      */
     @Override
     public void update() {
-        if (Vector2.dst(entity.getPosition().x, entity.getPosition().y,
-                target.getPosition().x, target.getPosition().y) < proximityRange) {
+        if (entity.getPosition(position).dst(target.getPosition(targetPosition)) < proximityRange) {
             this.entity.getEvents().trigger("proximityTriggered");
             this.entity.setEnabled(true); // Enable the entity when in proximity
         }
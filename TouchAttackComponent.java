@@ -35,6 +35,10 @@ public class TouchAttackComponent extends Component {
   @Override
   public void create() {
     entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    if (physics != null) {
+      physics.addCollisionInterest(targetLayer);
+    }
     combatStats = entity.getComponent(CombatStatsComponent.class);
     hitboxComponent = entity.getComponent(HitboxComponent.class);
   }
@@ -0,0 +1,204 @@
+package com.csse3200.game.ai.movement;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCategory;
+import com.csse3200.game.entities.SpatialHash;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Steering behaviours for a movement controller: seek, arrive, separation from nearby entities and
+ * obstacle avoidance. Each behaviour gives a direction with a length of at most 1, and
+ * {@link #calculate} blends them into the direction to move in. Movement controllers scale it by
+ * their speed.
+ *
+ * <p>Neighbours come from the entity service's {@link SpatialHash}, so separation only looks at
+ * nearby entities and entities spread out before their bodies collide. Obstacles are found with a
+ * raycast along the current heading every so often, see {@link #setAvoidance(float, float, float)}.
+ */
+public class Steering {
+  // Slow down within this distance of the target
+  private float arriveRadius = 0.5f;
+  // Never slow down below this fraction of full speed, so arriving doesn't stall
+  private float minArriveSpeed = 0.25f;
+  // Keep at least this far from neighbours
+  private float separationRadius = 0.8f;
+  private float separationWeight = 1.2f;
+  // Only separate from the closest few neighbours
+  private int maxNeighbours = 4;
+  // Categories of entities to keep away from
+  private int separationMask = EntityCategory.ENEMY | EntityCategory.NPC;
+  // How far ahead to look for obstacles
+  private float avoidDistance = 1f;
+  private float avoidWeight = 1.5f;
+  private float avoidInterval = 0.15f;
+
+  private final Array<Entity> neighbours = new Array<>(false, 8);
+  private final Vector2 position = new Vector2();
+  private final Vector2 other = new Vector2();
+  private final Vector2 seek = new Vector2();
+  private final Vector2 separation = new Vector2();
+  private final Vector2 avoidance = new Vector2();
+  private final Vector2 lastAvoidance = new Vector2();
+  private final Vector2 rayEnd = new Vector2();
+  private final RaycastHit hit = new RaycastHit();
+  private float avoidTimer = 0f;
+  private boolean crowded = false;
+
+  /**
+   * @param radius slow down within this distance of the target
+   * @param minSpeed never slow down below this fraction of full speed
+   * @return self
+   */
+  public Steering setArrive(float radius, float minSpeed) {
+    this.arriveRadius = radius;
+    this.minArriveSpeed = minSpeed;
+    return this;
+  }
+
+  /**
+   * @param radius keep at least this far from neighbours
+   * @param weight strength of separation relative to seeking the target
+   * @param maxNeighbours only separate from this many of the closest neighbours
+   * @param mask {@link EntityCategory} bits of the entities to keep away from
+   * @return self
+   */
+  public Steering setSeparation(float radius, float weight, int maxNeighbours, int mask) {
+    this.separationRadius = radius;
+    this.separationWeight = weight;
+    this.maxNeighbours = maxNeighbours;
+    this.separationMask = mask;
+    return this;
+  }
+
+  /**
+   * @param distance how far ahead to look for obstacles
+   * @param weight strength of avoidance relative to seeking the target
+   * @param interval seconds between raycasts for obstacles
+   * @return self
+   */
+  public Steering setAvoidance(float distance, float weight, float interval) {
+    this.avoidDistance = distance;
+    this.avoidWeight = weight;
+    this.avoidInterval = interval;
+    return this;
+  }
+
+  /**
+   * Direction straight at a target.
+   *
+   * @param position current position
+   * @param target position to move towards
+   * @param out vector to store the unit direction in
+   * @return out
+   */
+  public Vector2 seek(Vector2 position, Vector2 target, Vector2 out) {
+    return out.set(target).sub(position).nor();
+  }
+
+  /**
+   * Direction at a target, slowing down as it gets close, see {@link #setArrive(float, float)}.
+   *
+   * @param position current position
+   * @param target position to move towards
+   * @param out vector to store the direction in
+   * @return out
+   */
+  public Vector2 arrive(Vector2 position, Vector2 target, Vector2 out) {
+    float distance = position.dst(target);
+    seek(position, target, out);
+    if (distance < arriveRadius) {
+      out.scl(Math.max(distance / arriveRadius, minArriveSpeed));
+    }
+    return out;
+  }
+
+  /**
+   * Direction away from the closest neighbours, stronger the closer they are.
+   *
+   * @param entity entity being steered
+   * @param position its position
+   * @param out vector to store the direction in
+   * @return out
+   */
+  public Vector2 separate(Entity entity, Vector2 position, Vector2 out) {
+    out.setZero();
+    crowded = false;
+    if (ServiceLocator.getEntityService() == null) {
+      return out;
+    }
+    SpatialHash hash = ServiceLocator.getEntityService().getSpatialHash();
+    neighbours.clear();
+    hash.queryNearest(position, maxNeighbours, separationRadius, separationMask, entity, neighbours);
+    for (Entity neighbour : neighbours) {
+      neighbour.getPosition(other);
+      float distance = position.dst(other);
+      if (distance < 0.0001f) {
+        continue;
+      }
+      // Full strength when touching, nothing at the edge of the radius
+      float strength = 1f - distance / separationRadius;
+      out.add((position.x - other.x) / distance * strength, (position.y - other.y) / distance * strength);
+      crowded = true;
+    }
+    neighbours.clear();
+    return out.limit(1f);
+  }
+
+  /**
+   * Direction away from an obstacle ahead, along the obstacle's surface normal. The raycast is only
+   * repeated every so often, see {@link #setAvoidance(float, float, float)}.
+   *
+   * @param position current position
+   * @param heading direction currently being moved in
+   * @param delta seconds since the last call
+   * @param out vector to store the direction in
+   * @return out
+   */
+  public Vector2 avoidObstacles(Vector2 position, Vector2 heading, float delta, Vector2 out) {
+    avoidTimer -= delta;
+    if (avoidTimer <= 0f) {
+      avoidTimer = avoidInterval;
+      lastAvoidance.setZero();
+      if (ServiceLocator.getPhysicsService() != null && !heading.isZero()) {
+        PhysicsEngine physics = ServiceLocator.getPhysicsService().getPhysics();
+        rayEnd.set(heading).nor().scl(avoidDistance).add(position);
+        if (physics.raycast(position, rayEnd, PhysicsLayer.OBSTACLE, hit)) {
+          // Closer obstacles push harder
+          lastAvoidance.set(hit.normal).nor().scl(1f - hit.fraction);
+        }
+      }
+    }
+    return out.set(lastAvoidance);
+  }
+
+  /**
+   * Blend arriving at the target with separation and obstacle avoidance.
+   *
+   * @param entity entity being steered
+   * @param target position to move towards
+   * @param out vector to store the direction in, with a length of at most 1
+   * @return out
+   */
+  public Vector2 calculate(Entity entity, Vector2 target, Vector2 out) {
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    float delta = timeSource == null ? 0f : timeSource.getDeltaTime();
+    entity.getPosition(position);
+
+    arrive(position, target, seek);
+    separate(entity, position, separation);
+    avoidObstacles(position, seek, delta, avoidance);
+    out.set(seek).mulAdd(separation, separationWeight).mulAdd(avoidance, avoidWeight);
+    return out.limit(1f);
+  }
+
+  /** @return true if there were neighbours within the separation radius last time */
+  public boolean isCrowded() {
+    return crowded;
+  }
+}
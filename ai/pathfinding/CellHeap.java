@@ -0,0 +1,68 @@
+package com.csse3200.game.ai.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of cells by priority, packed into longs so it doesn't allocate per entry.
+ * Priorities must not be negative, so that their float bits sort the same as the floats.
+ */
+class CellHeap {
+  private long[] entries = new long[64];
+  private int size;
+
+  void push(float priority, int cell) {
+    if (size == entries.length) {
+      entries = Arrays.copyOf(entries, size * 2);
+    }
+    long entry = ((long) Float.floatToIntBits(priority) << 32) | (cell & 0xffffffffL);
+    int i = size++;
+    while (i > 0) {
+      int parent = (i - 1) / 2;
+      if (entries[parent] <= entry) {
+        break;
+      }
+      entries[i] = entries[parent];
+      i = parent;
+    }
+    entries[i] = entry;
+  }
+
+  /** @return the entry with the lowest priority, read with {@link #priority} and {@link #cell} */
+  long pop() {
+    long top = entries[0];
+    long last = entries[--size];
+    int i = 0;
+    while (true) {
+      int child = i * 2 + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && entries[child + 1] < entries[child]) {
+        child++;
+      }
+      if (last <= entries[child]) {
+        break;
+      }
+      entries[i] = entries[child];
+      i = child;
+    }
+    entries[i] = last;
+    return top;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  static float priority(long entry) {
+    return Float.intBitsToFloat((int) (entry >>> 32));
+  }
+
+  static int cell(long entry) {
+    return (int) entry;
+  }
+}
@@ -0,0 +1,207 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+import java.util.Arrays;
+
+/**
+ * Shared directions towards one target for every cell within a radius of it. The field is built
+ * with a single Dijkstra search out from the target's cell, and only rebuilt when the target moves
+ * to another cell, so any number of chasers can look up their direction in constant time. Moving
+ * the target changes every cell's cost, so the search is always run in full, but the obstacles
+ * sampled for the last build are shifted along rather than sampled again.
+ *
+ * <p>Get fields from {@link PathfindingService#getFlowField(Entity, float)} and give them back with
+ * {@link PathfindingService#releaseFlowField(FlowField)}. Main thread only.
+ */
+public class FlowField {
+  private static final byte NO_DIRECTION = -1;
+
+  private final NavGrid grid;
+  private final Entity target;
+  private final CellHeap heap = new CellHeap();
+  private final Vector2 position = new Vector2();
+  private int radius;
+  private int width;
+  private float[] costs = new float[0];
+  private byte[] directions = new byte[0];
+  private boolean[] blocked = new boolean[0];
+  private boolean[] previousBlocked = new boolean[0];
+  // Whether blocked still matches the grid, so it can be shifted rather than sampled again
+  private boolean blockedValid = false;
+  private int originX;
+  private int originY;
+  private int targetX = Integer.MIN_VALUE;
+  private int targetY = Integer.MIN_VALUE;
+  private boolean dirty = true;
+  private int rebuilds = 0;
+  // Chasers using the field, managed by the pathfinding service
+  int users = 0;
+
+  FlowField(NavGrid grid, Entity target, float radius) {
+    this.grid = grid;
+    this.target = target;
+    setRadius(radius);
+  }
+
+  /**
+   * Get the direction to move in from a position to get closer to the target.
+   *
+   * @param from position in the world
+   * @param out vector to store the unit direction in
+   * @return false if the position is outside the field, can't reach the target, or is already in
+   *     the target's cell
+   */
+  public boolean getDirection(Vector2 from, Vector2 out) {
+    update();
+    int x = grid.toCell(from.x) - originX;
+    int y = grid.toCell(from.y) - originY;
+    if (x < 0 || y < 0 || x >= width || y >= width) {
+      return false;
+    }
+    byte direction = directions[y * width + x];
+    if (direction == NO_DIRECTION) {
+      return false;
+    }
+    out.set(LocalSearch.DX[direction], LocalSearch.DY[direction]).nor();
+    return true;
+  }
+
+  /**
+   * Get the cost of walking from a position to the target along the field.
+   *
+   * @param from position in the world
+   * @return cost in cells, or infinity if outside the field or unreachable
+   */
+  public float getCost(Vector2 from) {
+    update();
+    int x = grid.toCell(from.x) - originX;
+    int y = grid.toCell(from.y) - originY;
+    if (x < 0 || y < 0 || x >= width || y >= width) {
+      return Float.POSITIVE_INFINITY;
+    }
+    return costs[y * width + x];
+  }
+
+  /** @return number of times the field has been built */
+  public int getRebuilds() {
+    return rebuilds;
+  }
+
+  public Entity getTarget() {
+    return target;
+  }
+
+  /** Grow the field to cover at least this distance from the target. */
+  void setRadius(float distance) {
+    int cells = MathUtils.ceil(distance / grid.getCellSize());
+    if (cells > radius) {
+      radius = cells;
+      width = radius * 2 + 1;
+      costs = new float[width * width];
+      directions = new byte[width * width];
+      blocked = new boolean[width * width];
+      previousBlocked = new boolean[width * width];
+      blockedValid = false;
+      dirty = true;
+    }
+  }
+
+  /** Rebuild on the next lookup, e.g. after obstacles change. */
+  void invalidate() {
+    dirty = true;
+    blockedValid = false;
+  }
+
+  private void update() {
+    target.getPosition(position);
+    int x = grid.toCell(position.x);
+    int y = grid.toCell(position.y);
+    if (!dirty && x == targetX && y == targetY) {
+      return;
+    }
+    targetX = x;
+    targetY = y;
+    dirty = false;
+    rebuild();
+  }
+
+  private void rebuild() {
+    rebuilds++;
+    int oldOriginX = originX;
+    int oldOriginY = originY;
+    originX = targetX - radius;
+    originY = targetY - radius;
+    sampleBlocked(originX - oldOriginX, originY - oldOriginY);
+    Arrays.fill(costs, Float.POSITIVE_INFINITY);
+    Arrays.fill(directions, NO_DIRECTION);
+
+    // Search out from the target, so each cell's cost is its distance to the target
+    int start = radius * width + radius;
+    costs[start] = 0f;
+    heap.clear();
+    heap.push(0f, start);
+    while (!heap.isEmpty()) {
+      long entry = heap.pop();
+      int cell = CellHeap.cell(entry);
+      float cost = costs[cell];
+      if (CellHeap.priority(entry) > cost) {
+        continue;
+      }
+      int cx = cell % width;
+      int cy = cell / width;
+      for (int d = 0; d < LocalSearch.DX.length; d++) {
+        int nx = cx + LocalSearch.DX[d];
+        int ny = cy + LocalSearch.DY[d];
+        if (nx < 0 || ny < 0 || nx >= width || ny >= width || blocked[ny * width + nx]) {
+          continue;
+        }
+        boolean diagonal = d >= 4;
+        if (diagonal && (blocked[cy * width + nx] || blocked[ny * width + cx])) {
+          continue;
+        }
+        int next = ny * width + nx;
+        float nextCost = cost + (diagonal ? LocalSearch.DIAGONAL_COST : 1f);
+        if (nextCost < costs[next]) {
+          costs[next] = nextCost;
+          // Moves are symmetric, so the way back is the opposite move
+          directions[next] = opposite(d);
+          heap.push(nextCost, next);
+        }
+      }
+    }
+  }
+
+  /** Fill in the obstacles around the new origin, reusing the ones which overlap the old window. */
+  private void sampleBlocked(int shiftX, int shiftY) {
+    boolean[] previous = blocked;
+    blocked = previousBlocked;
+    previousBlocked = previous;
+    boolean reuse = blockedValid && Math.abs(shiftX) < width && Math.abs(shiftY) < width;
+    for (int y = 0; y < width; y++) {
+      int previousY = y + shiftY;
+      boolean rowOverlaps = reuse && previousY >= 0 && previousY < width;
+      for (int x = 0; x < width; x++) {
+        int previousX = x + shiftX;
+        if (rowOverlaps && previousX >= 0 && previousX < width) {
+          blocked[y * width + x] = previous[previousY * width + previousX];
+        } else {
+          blocked[y * width + x] = grid.isBlocked(originX + x, originY + y);
+        }
+      }
+    }
+    blockedValid = true;
+  }
+
+  private static byte opposite(int direction) {
+    int dx = -LocalSearch.DX[direction];
+    int dy = -LocalSearch.DY[direction];
+    for (byte d = 0; d < LocalSearch.DX.length; d++) {
+      if (LocalSearch.DX[d] == dx && LocalSearch.DY[d] == dy) {
+        return d;
+      }
+    }
+    return NO_DIRECTION;
+  }
+}
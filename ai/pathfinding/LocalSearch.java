@@ -0,0 +1,120 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+
+/**
+ * Searches over the cells of a single chunk, moving in 8 directions without cutting corners. Keeps
+ * its working arrays between searches, so each thread should have its own.
+ */
+class LocalSearch {
+  static final float DIAGONAL_COST = 1.4142135f;
+  // Orthogonal moves first, then diagonals
+  static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+  static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+  private float[] costs = new float[0];
+  private int[] parents = new int[0];
+  private final CellHeap heap = new CellHeap();
+
+  /**
+   * Find the cost of walking from a cell to every other cell in the chunk.
+   *
+   * @param chunk chunk to search
+   * @param start local index of the start cell
+   * @return cost to each local cell, infinite if unreachable. Reused by the next search.
+   */
+  float[] costsFrom(NavChunk chunk, int start) {
+    search(chunk, start, -1);
+    return costs;
+  }
+
+  /**
+   * Find the cheapest path between two cells in the chunk.
+   *
+   * @param chunk chunk to search
+   * @param start local index of the start cell
+   * @param goal local index of the goal cell
+   * @param out array to add the local cell indices to, from start to goal
+   * @return cost of the path, or infinity if there isn't one
+   */
+  float path(NavChunk chunk, int start, int goal, IntArray out) {
+    search(chunk, start, goal);
+    float cost = costs[goal];
+    if (cost == Float.POSITIVE_INFINITY) {
+      return cost;
+    }
+    int from = out.size;
+    for (int cell = goal; cell != -1; cell = parents[cell]) {
+      out.add(cell);
+    }
+    // Walked back from the goal, so flip the added cells
+    for (int a = from, b = out.size - 1; a < b; a++, b--) {
+      out.swap(a, b);
+    }
+    return cost;
+  }
+
+  private void search(NavChunk chunk, int start, int goal) {
+    int size = chunk.size;
+    int cells = size * size;
+    if (costs.length < cells) {
+      costs = new float[cells];
+      parents = new int[cells];
+    }
+    Arrays.fill(costs, 0, cells, Float.POSITIVE_INFINITY);
+    Arrays.fill(parents, 0, cells, -1);
+    heap.clear();
+    if (chunk.blocked[start]) {
+      return;
+    }
+
+    int goalX = goal % size;
+    int goalY = goal / size;
+    costs[start] = 0f;
+    heap.push(goal < 0 ? 0f : heuristic(start % size, start / size, goalX, goalY), start);
+    while (!heap.isEmpty()) {
+      long entry = heap.pop();
+      int cell = CellHeap.cell(entry);
+      if (cell == goal) {
+        return;
+      }
+      int x = cell % size;
+      int y = cell / size;
+      float cost = costs[cell];
+      if (CellHeap.priority(entry) > cost + heuristicOrZero(x, y, goal, size)) {
+        // Stale entry for a cell which was reached more cheaply since
+        continue;
+      }
+      for (int d = 0; d < DX.length; d++) {
+        int nx = x + DX[d];
+        int ny = y + DY[d];
+        if (nx < 0 || ny < 0 || nx >= size || ny >= size || chunk.isBlocked(nx, ny)) {
+          continue;
+        }
+        boolean diagonal = d >= 4;
+        if (diagonal && (chunk.isBlocked(nx, y) || chunk.isBlocked(x, ny))) {
+          continue;
+        }
+        int next = ny * size + nx;
+        float nextCost = cost + (diagonal ? DIAGONAL_COST : 1f);
+        if (nextCost < costs[next]) {
+          costs[next] = nextCost;
+          parents[next] = cell;
+          heap.push(nextCost + heuristicOrZero(nx, ny, goal, size), next);
+        }
+      }
+    }
+  }
+
+  private static float heuristicOrZero(int x, int y, int goal, int size) {
+    return goal < 0 ? 0f : heuristic(x, y, goal % size, goal / size);
+  }
+
+  /** Octile distance, exact on an empty grid */
+  static float heuristic(int x, int y, int goalX, int goalY) {
+    int dx = Math.abs(x - goalX);
+    int dy = Math.abs(y - goalY);
+    return Math.max(dx, dy) + (DIAGONAL_COST - 1f) * Math.min(dx, dy);
+  }
+}
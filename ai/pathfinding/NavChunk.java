@@ -0,0 +1,38 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Walkable cells of one terrain chunk, with the portals to its neighbours and the cost of walking
+ * between each pair of portals. Never modified once built, so searches can read it from any thread.
+ */
+class NavChunk {
+  final int chunkX;
+  final int chunkY;
+  final int size;
+  final boolean[] blocked;
+  /** Local cell index of each portal cell */
+  final IntArray portals = new IntArray(false, 8);
+  /** Cost between each pair of portals through this chunk, infinite if there's no way through */
+  float[][] portalCosts;
+
+  NavChunk(int chunkX, int chunkY, int size) {
+    this.chunkX = chunkX;
+    this.chunkY = chunkY;
+    this.size = size;
+    this.blocked = new boolean[size * size];
+  }
+
+  boolean isBlocked(int localX, int localY) {
+    return blocked[localY * size + localX];
+  }
+
+  /** @return true once portals and their costs have been computed */
+  boolean isLinked() {
+    return portalCosts != null;
+  }
+
+  int getPortalIndex(int localCell) {
+    return portals.indexOf(localCell);
+  }
+}
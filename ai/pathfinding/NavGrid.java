@@ -0,0 +1,217 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
+
+/**
+ * Grid of walkable cells built from the static obstacles in the physics world, one chunk at a time
+ * as searches need them. A cell is blocked if any static obstacle's bounding box overlaps it.
+ *
+ * <p>Chunks are linked to their neighbours through portals: the middle cell of each run of open
+ * cells along a shared edge. Building must happen on the main thread, since it queries Box2D.
+ */
+class NavGrid {
+  private final PhysicsEngine physics;
+  private final float cellSize;
+  private final int chunkSize;
+  private final LongMap<NavChunk> chunks = new LongMap<>();
+  private final LocalSearch search = new LocalSearch();
+  private final Array<Fixture> fixtures = new Array<>();
+  private final Vector2 vertex = new Vector2();
+
+  NavGrid(PhysicsEngine physics, float cellSize, int chunkSize) {
+    this.physics = physics;
+    this.cellSize = cellSize;
+    this.chunkSize = chunkSize;
+  }
+
+  float getCellSize() {
+    return cellSize;
+  }
+
+  int getChunkSize() {
+    return chunkSize;
+  }
+
+  int toCell(float world) {
+    return MathUtils.floor(world / cellSize);
+  }
+
+  int toChunk(int cell) {
+    return Math.floorDiv(cell, chunkSize);
+  }
+
+  /**
+   * Build and link every chunk in a rectangle of chunks, and copy them into a snapshot for a search
+   * to use off the main thread.
+   *
+   * @param out map to put the linked chunks in
+   */
+  void snapshot(int minChunkX, int minChunkY, int maxChunkX, int maxChunkY, LongMap<NavChunk> out) {
+    for (int x = minChunkX; x <= maxChunkX; x++) {
+      for (int y = minChunkY; y <= maxChunkY; y++) {
+        out.put(key(x, y), getLinked(x, y));
+      }
+    }
+  }
+
+  /**
+   * Check whether a cell is blocked, building its chunk if needed.
+   *
+   * @param cellX x of the cell in the whole grid
+   * @param cellY y of the cell in the whole grid
+   * @return true if an obstacle overlaps the cell
+   */
+  boolean isBlocked(int cellX, int cellY) {
+    NavChunk chunk = getBuilt(toChunk(cellX), toChunk(cellY));
+    int localX = Math.floorMod(cellX, chunkSize);
+    int localY = Math.floorMod(cellY, chunkSize);
+    return chunk.isBlocked(localX, localY);
+  }
+
+  int getChunkCount() {
+    return chunks.size;
+  }
+
+  void clear() {
+    chunks.clear();
+  }
+
+  private NavChunk getLinked(int chunkX, int chunkY) {
+    NavChunk chunk = getBuilt(chunkX, chunkY);
+    if (!chunk.isLinked()) {
+      link(chunk);
+    }
+    return chunk;
+  }
+
+  private NavChunk getBuilt(int chunkX, int chunkY) {
+    long key = key(chunkX, chunkY);
+    NavChunk chunk = chunks.get(key);
+    if (chunk == null) {
+      chunk = build(chunkX, chunkY);
+      chunks.put(key, chunk);
+    }
+    return chunk;
+  }
+
+  private NavChunk build(int chunkX, int chunkY) {
+    NavChunk chunk = new NavChunk(chunkX, chunkY, chunkSize);
+    float minX = chunkX * chunkSize * cellSize;
+    float minY = chunkY * chunkSize * cellSize;
+    float extent = chunkSize * cellSize;
+    physics.queryAABB(minX, minY, minX + extent, minY + extent, PhysicsLayer.OBSTACLE, fixtures);
+    for (Fixture fixture : fixtures) {
+      if (fixture.getBody().getType() == BodyType.StaticBody && !fixture.isSensor()) {
+        rasterize(chunk, fixture);
+      }
+    }
+    fixtures.clear();
+    return chunk;
+  }
+
+  /** Block every cell of the chunk overlapped by the fixture's bounding box. */
+  private void rasterize(NavChunk chunk, Fixture fixture) {
+    float lowerX = Float.MAX_VALUE;
+    float lowerY = Float.MAX_VALUE;
+    float upperX = -Float.MAX_VALUE;
+    float upperY = -Float.MAX_VALUE;
+    Shape shape = fixture.getShape();
+    if (shape instanceof PolygonShape) {
+      PolygonShape polygon = (PolygonShape) shape;
+      for (int i = 0; i < polygon.getVertexCount(); i++) {
+        polygon.getVertex(i, vertex);
+        fixture.getBody().getTransform().mul(vertex);
+        lowerX = Math.min(lowerX, vertex.x);
+        lowerY = Math.min(lowerY, vertex.y);
+        upperX = Math.max(upperX, vertex.x);
+        upperY = Math.max(upperY, vertex.y);
+      }
+    } else if (shape instanceof CircleShape) {
+      CircleShape circle = (CircleShape) shape;
+      vertex.set(fixture.getBody().getWorldPoint(circle.getPosition()));
+      float radius = circle.getRadius();
+      lowerX = vertex.x - radius;
+      lowerY = vertex.y - radius;
+      upperX = vertex.x + radius;
+      upperY = vertex.y + radius;
+    } else {
+      return;
+    }
+
+    int originX = chunk.chunkX * chunkSize;
+    int originY = chunk.chunkY * chunkSize;
+    int fromX = Math.max(toCell(lowerX) - originX, 0);
+    int fromY = Math.max(toCell(lowerY) - originY, 0);
+    int toX = Math.min(toCell(upperX) - originX, chunkSize - 1);
+    int toY = Math.min(toCell(upperY) - originY, chunkSize - 1);
+    for (int y = fromY; y <= toY; y++) {
+      for (int x = fromX; x <= toX; x++) {
+        chunk.blocked[y * chunkSize + x] = true;
+      }
+    }
+  }
+
+  /** Find the portals on each edge of the chunk, then the costs between them. */
+  private void link(NavChunk chunk) {
+    int last = chunkSize - 1;
+    NavChunk east = getBuilt(chunk.chunkX + 1, chunk.chunkY);
+    NavChunk west = getBuilt(chunk.chunkX - 1, chunk.chunkY);
+    NavChunk north = getBuilt(chunk.chunkX, chunk.chunkY + 1);
+    NavChunk south = getBuilt(chunk.chunkX, chunk.chunkY - 1);
+    addEdgePortals(chunk, east, last, 0, true);
+    addEdgePortals(chunk, west, 0, last, true);
+    addEdgePortals(chunk, north, last, 0, false);
+    addEdgePortals(chunk, south, 0, last, false);
+
+    int count = chunk.portals.size;
+    float[][] costs = new float[count][count];
+    for (int i = 0; i < count; i++) {
+      float[] fromPortal = search.costsFrom(chunk, chunk.portals.get(i));
+      for (int j = 0; j < count; j++) {
+        costs[i][j] = fromPortal[chunk.portals.get(j)];
+      }
+    }
+    chunk.portalCosts = costs;
+  }
+
+  /**
+   * Add a portal for each run of cells which are open on both sides of an edge. The neighbour runs
+   * the same scan from its side, so both pick the same cells.
+   *
+   * @param line column (vertical edge) or row (horizontal edge) of the edge in this chunk
+   * @param neighbourLine the same edge in the neighbour
+   * @param vertical true for east and west edges
+   */
+  private void addEdgePortals(
+      NavChunk chunk, NavChunk neighbour, int line, int neighbourLine, boolean vertical) {
+    int runStart = -1;
+    for (int i = 0; i <= chunkSize; i++) {
+      boolean open =
+          i < chunkSize
+              && (vertical
+                  ? !chunk.isBlocked(line, i) && !neighbour.isBlocked(neighbourLine, i)
+                  : !chunk.isBlocked(i, line) && !neighbour.isBlocked(i, neighbourLine));
+      if (open && runStart < 0) {
+        runStart = i;
+      } else if (!open && runStart >= 0) {
+        int middle = (runStart + i - 1) / 2;
+        chunk.portals.add(vertical ? middle * chunkSize + line : line * chunkSize + middle);
+        runStart = -1;
+      }
+    }
+  }
+
+  static long key(int chunkX, int chunkY) {
+    return ((long) chunkX << 32) | (chunkY & 0xffffffffL);
+  }
+}
@@ -0,0 +1,37 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A path which may still be being searched for. Poll {@link #isDone()} each frame rather than
+ * waiting on it.
+ */
+public class PathRequest {
+  private final CompletableFuture<Array<Vector2>> result;
+  // When the service first saw the search had failed, 0 until then
+  long failedAt = 0L;
+
+  PathRequest(CompletableFuture<Array<Vector2>> result) {
+    this.result = result;
+  }
+
+  /** @return true once the search has finished, whether or not it found a path */
+  public boolean isDone() {
+    return result.isDone();
+  }
+
+  /**
+   * Get the waypoints of the path, ending at the cell containing the goal. Paths are shared between
+   * requests, so they must not be modified.
+   *
+   * @return waypoints, or null if there is no path or the search hasn't finished
+   */
+  public Array<Vector2> getPath() {
+    if (!result.isDone() || result.isCompletedExceptionally()) {
+      return null;
+    }
+    return result.getNow(null);
+  }
+}
@@ -0,0 +1,296 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import java.util.PriorityQueue;
+
+/**
+ * Hierarchical A* over a snapshot of linked chunks. The search first finds a route through chunk
+ * portals, using the cached costs between them, then refines each leg into cells within a single
+ * chunk, and finally drops the waypoints which can be skipped in a straight line.
+ *
+ * <p>Only reads its snapshot, so it can run on any thread.
+ */
+class PathSearch {
+  /** Stop searching after expanding this many portals */
+  private static final int MAX_EXPANSIONS = 4096;
+  /** Furthest ahead to look when skipping waypoints */
+  private static final int MAX_SKIP = 24;
+  private static final int[] DX = {1, -1, 0, 0};
+  private static final int[] DY = {0, 0, 1, -1};
+
+  private final LongMap<NavChunk> chunks;
+  private final int chunkSize;
+  private final float cellSize;
+  private final LocalSearch local = new LocalSearch();
+  private final IntArray localPath = new IntArray();
+
+  PathSearch(LongMap<NavChunk> chunks, int chunkSize, float cellSize) {
+    this.chunks = chunks;
+    this.chunkSize = chunkSize;
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Find a path between two cells.
+   *
+   * @return waypoints at cell centres, ending at the goal cell, or null if there is no path
+   */
+  Array<Vector2> find(int startX, int startY, int goalX, int goalY) {
+    long start = nearestOpen(startX, startY);
+    long goal = nearestOpen(goalX, goalY);
+    if (start == Long.MIN_VALUE || goal == Long.MIN_VALUE) {
+      return null;
+    }
+
+    LongArray cells = new LongArray();
+    NavChunk startChunk = chunkOf(start);
+    NavChunk goalChunk = chunkOf(goal);
+    if (startChunk == goalChunk) {
+      localPath.clear();
+      float cost = local.path(startChunk, localIndex(start), localIndex(goal), localPath);
+      if (cost < Float.POSITIVE_INFINITY) {
+        addLocalPath(startChunk, cells);
+        return toWaypoints(cells);
+      }
+    }
+
+    Node route = searchPortals(start, startChunk, goal, goalChunk);
+    if (route == null) {
+      return null;
+    }
+    refine(route, cells);
+    return toWaypoints(cells);
+  }
+
+  private Node searchPortals(long start, NavChunk startChunk, long goal, NavChunk goalChunk) {
+    float[] goalCosts = copyPortalCosts(goalChunk, local.costsFrom(goalChunk, localIndex(goal)));
+    float[] startCosts =
+        copyPortalCosts(startChunk, local.costsFrom(startChunk, localIndex(start)));
+
+    PriorityQueue<Node> open = new PriorityQueue<>();
+    ObjectFloatMap<Long> best = new ObjectFloatMap<>();
+    Node root = new Node(start, 0f, null);
+    for (int i = 0; i < startCosts.length; i++) {
+      push(open, best, portalCell(startChunk, i), startCosts[i], root, goal);
+    }
+
+    int expansions = 0;
+    while (!open.isEmpty() && expansions < MAX_EXPANSIONS) {
+      Node node = open.poll();
+      if (node.cell == goal) {
+        return node;
+      }
+      if (node.cost > best.get(node.cell, Float.POSITIVE_INFINITY)) {
+        continue;
+      }
+      expansions++;
+
+      NavChunk chunk = chunkOf(node.cell);
+      int portal = chunk.getPortalIndex(localIndex(node.cell));
+      if (portal < 0) {
+        continue;
+      }
+      if (chunk == goalChunk) {
+        push(open, best, goal, node.cost + goalCosts[portal], node, goal);
+      }
+      float[] costs = chunk.portalCosts[portal];
+      for (int i = 0; i < costs.length; i++) {
+        if (i != portal) {
+          push(open, best, portalCell(chunk, i), node.cost + costs[i], node, goal);
+        }
+      }
+      // Step across the chunk edge into the matching portal of the neighbour
+      int x = cellX(node.cell);
+      int y = cellY(node.cell);
+      for (int d = 0; d < DX.length; d++) {
+        long across = cell(x + DX[d], y + DY[d]);
+        NavChunk neighbour = chunkOf(across);
+        if (neighbour != null
+            && neighbour != chunk
+            && neighbour.getPortalIndex(localIndex(across)) >= 0) {
+          push(open, best, across, node.cost + 1f, node, goal);
+        }
+      }
+    }
+    return null;
+  }
+
+  private void push(
+      PriorityQueue<Node> open, ObjectFloatMap<Long> best, long cell, float cost, Node parent,
+      long goal) {
+    if (cost == Float.POSITIVE_INFINITY || cost >= best.get(cell, Float.POSITIVE_INFINITY)) {
+      return;
+    }
+    best.put(cell, cost);
+    Node node = new Node(cell, cost, parent);
+    node.estimate =
+        cost + LocalSearch.heuristic(cellX(cell), cellY(cell), cellX(goal), cellY(goal));
+    open.add(node);
+  }
+
+  /** Turn the portal route into cells, searching within a chunk for each leg. */
+  private void refine(Node route, LongArray cells) {
+    Array<Node> nodes = new Array<>();
+    for (Node node = route; node != null; node = node.parent) {
+      nodes.add(node);
+    }
+    nodes.reverse();
+
+    cells.add(nodes.first().cell);
+    for (int i = 1; i < nodes.size; i++) {
+      long from = nodes.get(i - 1).cell;
+      long to = nodes.get(i).cell;
+      NavChunk chunk = chunkOf(from);
+      if (chunk != chunkOf(to)) {
+        // Adjacent cells across an edge
+        cells.add(to);
+        continue;
+      }
+      localPath.clear();
+      local.path(chunk, localIndex(from), localIndex(to), localPath);
+      // The first cell is already in the path
+      localPath.removeIndex(0);
+      addLocalPath(chunk, cells);
+    }
+  }
+
+  private void addLocalPath(NavChunk chunk, LongArray cells) {
+    int originX = chunk.chunkX * chunkSize;
+    int originY = chunk.chunkY * chunkSize;
+    for (int i = 0; i < localPath.size; i++) {
+      int index = localPath.get(i);
+      cells.add(cell(originX + index % chunkSize, originY + index / chunkSize));
+    }
+  }
+
+  /** Keep only the cells where the path has to turn, and convert them to world positions. */
+  private Array<Vector2> toWaypoints(LongArray cells) {
+    Array<Vector2> waypoints = new Array<>();
+    int anchor = 0;
+    while (anchor < cells.size - 1) {
+      int next = anchor + 1;
+      int limit = Math.min(cells.size - 1, anchor + MAX_SKIP);
+      for (int i = limit; i > next; i--) {
+        if (isClear(cells.get(anchor), cells.get(i))) {
+          next = i;
+          break;
+        }
+      }
+      long cell = cells.get(next);
+      waypoints.add(new Vector2((cellX(cell) + 0.5f) * cellSize, (cellY(cell) + 0.5f) * cellSize));
+      anchor = next;
+    }
+    return waypoints;
+  }
+
+  /** Walk the cells a straight line between two cell centres passes through. */
+  private boolean isClear(long from, long to) {
+    int x = cellX(from);
+    int y = cellY(from);
+    int toX = cellX(to);
+    int toY = cellY(to);
+    int dx = Math.abs(toX - x);
+    int dy = Math.abs(toY - y);
+    int stepX = toX > x ? 1 : -1;
+    int stepY = toY > y ? 1 : -1;
+    int error = dx - dy;
+    dx *= 2;
+    dy *= 2;
+    while (x != toX || y != toY) {
+      if (error > 0) {
+        x += stepX;
+        error -= dy;
+      } else if (error < 0) {
+        y += stepY;
+        error += dx;
+      } else {
+        // Passing exactly through a corner, both sides need to be open
+        if (isBlocked(x + stepX, y) || isBlocked(x, y + stepY)) {
+          return false;
+        }
+        x += stepX;
+        y += stepY;
+        error += dx - dy;
+      }
+      if (isBlocked(x, y)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long nearestOpen(int x, int y) {
+    for (int radius = 0; radius <= 1; radius++) {
+      for (int ox = -radius; ox <= radius; ox++) {
+        for (int oy = -radius; oy <= radius; oy++) {
+          if (!isBlocked(x + ox, y + oy)) {
+            return cell(x + ox, y + oy);
+          }
+        }
+      }
+    }
+    return Long.MIN_VALUE;
+  }
+
+  private boolean isBlocked(int x, int y) {
+    NavChunk chunk = chunkOf(cell(x, y));
+    return chunk == null || chunk.blocked[localIndex(cell(x, y))];
+  }
+
+  private float[] copyPortalCosts(NavChunk chunk, float[] cellCosts) {
+    float[] costs = new float[chunk.portals.size];
+    for (int i = 0; i < costs.length; i++) {
+      costs[i] = cellCosts[chunk.portals.get(i)];
+    }
+    return costs;
+  }
+
+  private long portalCell(NavChunk chunk, int portal) {
+    int index = chunk.portals.get(portal);
+    return cell(chunk.chunkX * chunkSize + index % chunkSize, chunk.chunkY * chunkSize + index / chunkSize);
+  }
+
+  private NavChunk chunkOf(long cell) {
+    return chunks.get(
+        NavGrid.key(Math.floorDiv(cellX(cell), chunkSize), Math.floorDiv(cellY(cell), chunkSize)));
+  }
+
+  private int localIndex(long cell) {
+    return Math.floorMod(cellY(cell), chunkSize) * chunkSize + Math.floorMod(cellX(cell), chunkSize);
+  }
+
+  private static long cell(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+
+  private static int cellX(long cell) {
+    return (int) (cell >> 32);
+  }
+
+  private static int cellY(long cell) {
+    return (int) cell;
+  }
+
+  private static class Node implements Comparable<Node> {
+    final long cell;
+    final float cost;
+    final Node parent;
+    float estimate;
+
+    Node(long cell, float cost, Node parent) {
+      this.cell = cell;
+      this.cost = cost;
+      this.parent = parent;
+    }
+
+    @Override
+    public int compareTo(Node other) {
+      return Float.compare(estimate, other.estimate);
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package com.csse3200.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsEngine;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds paths around static obstacles for AI movement. The walkable grid is built from the physics
+ * world a chunk at a time and searched with hierarchical A* across chunk portals on the job system.
+ *
+ * <p>Paths are cached by coarse start and goal cells, so entities moving between the same areas
+ * share one search. Entities chasing the same target can share a {@link FlowField} instead. Must be
+ * called from the main thread.
+ */
+public class PathfindingService {
+  private static final Logger logger = LoggerFactory.getLogger(PathfindingService.class);
+  public static final float DEFAULT_CELL_SIZE = 1f;
+  public static final int DEFAULT_CHUNK_SIZE = 16;
+  /** Size of the coarse cells paths are cached by, in cells */
+  private static final int CACHE_CELL = 4;
+  private static final int DEFAULT_CACHE_SIZE = 256;
+  /** Searches only cover chunks between the start and goal, plus this many around them */
+  private static final int CHUNK_MARGIN = 1;
+  /** Give up straight away on goals further than this many chunks away */
+  private static final int MAX_CHUNK_DISTANCE = 4;
+  /** Failed searches are reused for this long before searching again, e.g. for a walled in goal */
+  private static final long FAILED_PATH_MILLIS = 1000L;
+
+  private final NavGrid grid;
+  private final PathRequest noPath = new PathRequest(CompletableFuture.completedFuture(null));
+  private final Map<Long, PathRequest> cache;
+  private final ObjectMap<Entity, FlowField> flowFields = new ObjectMap<>();
+  private int cacheSize = DEFAULT_CACHE_SIZE;
+  private int hits = 0;
+  private int searches = 0;
+
+  public PathfindingService(PhysicsEngine physics) {
+    this(physics, DEFAULT_CELL_SIZE, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * @param physics physics world containing the obstacles
+   * @param cellSize width of a grid cell in metres
+   * @param chunkSize width of a chunk in cells
+   */
+  public PathfindingService(PhysicsEngine physics, float cellSize, int chunkSize) {
+    this.grid = new NavGrid(physics, cellSize, chunkSize);
+    this.cache =
+        new LinkedHashMap<Long, PathRequest>(cacheSize, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, PathRequest> eldest) {
+            return size() > cacheSize;
+          }
+        };
+  }
+
+  /**
+   * Request a path between two points. Returns a cached or in-progress request for the same coarse
+   * cells if there is one, otherwise starts a search in the background. A search which found no
+   * path is cached too, but only for a short time, since obstacles may have moved.
+   *
+   * @param from start position in the world
+   * @param to goal position in the world
+   * @return request to poll for the path
+   */
+  public PathRequest findPath(Vector2 from, Vector2 to) {
+    int startX = grid.toCell(from.x);
+    int startY = grid.toCell(from.y);
+    int goalX = grid.toCell(to.x);
+    int goalY = grid.toCell(to.y);
+
+    long key = cacheKey(startX, startY, goalX, goalY);
+    PathRequest cached = cache.get(key);
+    if (cached != null && !isExpired(cached)) {
+      hits++;
+      return cached;
+    }
+
+    int startChunkX = grid.toChunk(startX);
+    int startChunkY = grid.toChunk(startY);
+    int goalChunkX = grid.toChunk(goalX);
+    int goalChunkY = grid.toChunk(goalY);
+    if (Math.abs(startChunkX - goalChunkX) > MAX_CHUNK_DISTANCE
+        || Math.abs(startChunkY - goalChunkY) > MAX_CHUNK_DISTANCE) {
+      return noPath;
+    }
+
+    // Build the chunks here since it needs Box2D, then search a snapshot of them on a worker
+    LongMap<NavChunk> chunks = new LongMap<>();
+    grid.snapshot(
+        Math.min(startChunkX, goalChunkX) - CHUNK_MARGIN,
+        Math.min(startChunkY, goalChunkY) - CHUNK_MARGIN,
+        Math.max(startChunkX, goalChunkX) + CHUNK_MARGIN,
+        Math.max(startChunkY, goalChunkY) + CHUNK_MARGIN,
+        chunks);
+    PathSearch search = new PathSearch(chunks, grid.getChunkSize(), grid.getCellSize());
+    // A search which throws is treated as finding no path
+    CompletableFuture<Array<Vector2>> result =
+        JobSystem.launch(() -> search.find(startX, startY, goalX, goalY))
+            .exceptionally(
+                e -> {
+                  logger.error("Path search failed", e);
+                  return null;
+                });
+
+    PathRequest request = new PathRequest(result);
+    cache.put(key, request);
+    searches++;
+    return request;
+  }
+
+  /**
+   * Get the flow field towards a target, shared by everything chasing it. The field grows to the
+   * largest radius asked for. Give it back with {@link #releaseFlowField(FlowField)} once done.
+   *
+   * @param target entity to move towards
+   * @param radius distance from the target the field should cover
+   * @return shared flow field
+   */
+  public FlowField getFlowField(Entity target, float radius) {
+    FlowField field = flowFields.get(target);
+    if (field == null) {
+      field = new FlowField(grid, target, radius);
+      flowFields.put(target, field);
+    } else {
+      field.setRadius(radius);
+    }
+    field.users++;
+    return field;
+  }
+
+  /**
+   * Stop using a flow field from {@link #getFlowField(Entity, float)}. The field is dropped once
+   * nothing uses it or its target has been disposed.
+   *
+   * @param field flow field
+   */
+  public void releaseFlowField(FlowField field) {
+    field.users--;
+    if (field.users <= 0 || field.getTarget().isDisposed()) {
+      // The field may have been replaced since, e.g. after clear()
+      if (flowFields.get(field.getTarget()) == field) {
+        removeFlowField(field.getTarget());
+      }
+    }
+  }
+
+  /**
+   * Forget the grid and cached paths, e.g. when obstacles are added or removed or the map changes.
+   */
+  public void clear() {
+    grid.clear();
+    cache.clear();
+    // Chasers may still hold fields, so make sure they rebuild against the new grid
+    for (FlowField field : flowFields.values()) {
+      field.invalidate();
+    }
+    flowFields.clear();
+  }
+
+  /**
+   * Stop sharing a target's flow field, e.g. when the target is disposed.
+   *
+   * @param target entity the field moves towards
+   */
+  public void removeFlowField(Entity target) {
+    flowFields.remove(target);
+  }
+
+  /** @param size maximum number of cached paths */
+  public void setCacheSize(int size) {
+    this.cacheSize = size;
+  }
+
+  /** @return number of requests answered from the cache */
+  public int getCacheHits() {
+    return hits;
+  }
+
+  /** @return number of searches started */
+  public int getSearches() {
+    return searches;
+  }
+
+  /** @return number of chunks built for searching */
+  public int getChunkCount() {
+    return grid.getChunkCount();
+  }
+
+  /** A failed search expires a while after it was first seen to have failed. */
+  private static boolean isExpired(PathRequest request) {
+    if (!request.isDone() || request.getPath() != null) {
+      return false;
+    }
+    long now = TimeUtils.millis();
+    if (request.failedAt == 0L) {
+      request.failedAt = now;
+    }
+    return now - request.failedAt > FAILED_PATH_MILLIS;
+  }
+
+  private static long cacheKey(int startX, int startY, int goalX, int goalY) {
+    return ((long) coarse(startX) << 48)
+        | ((long) coarse(startY) << 32)
+        | ((long) coarse(goalX) << 16)
+        | coarse(goalY);
+  }
+
+  private static int coarse(int cell) {
+    return Math.floorDiv(cell, CACHE_CELL) & 0xffff;
+  }
+}
@@ -0,0 +1,233 @@
+package com.csse3200.game.ai.tasks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Runs every AI task component in round-robin slices under a per-frame time budget. How often an
+ * agent runs depends on its distance from the focus (the camera by default): nearby agents run
+ * every frame, further ones a few times a second. Each agent is given the time elapsed since it
+ * last ran, so timers keep their real rate.
+ *
+ * <p>Agents which are due but don't fit in the budget keep their elapsed time and are first in line
+ * on the next frame.
+ */
+public class AIScheduler {
+  public static final float DEFAULT_BUDGET_MS = 2f;
+  // Looking for the camera goes through every entity, so don't retry every frame
+  private static final float CAMERA_SEARCH_INTERVAL = 1f;
+
+  private final Array<AITaskComponent> agents = new Array<>(false, 32);
+  private final Vector2 focusPosition = new Vector2();
+  private final Vector2 position = new Vector2();
+  // Agents within each distance run at the interval of the same index, the rest at the last one
+  private float[] tierDistances = {12f, 30f};
+  private float[] tierIntervals = {0f, 0.1f, 0.5f};
+  private long budgetNanos = (long) (DEFAULT_BUDGET_MS * 1_000_000);
+  private Entity focus;
+  private CameraComponent camera;
+  private float cameraSearchCooldown = 0f;
+  private int cursor = 0;
+  private int removedCount = 0;
+  private int ranThisFrame = 0;
+  private int deferredThisFrame = 0;
+
+  /**
+   * Start scheduling an agent. Called when the component is created or resumed.
+   *
+   * @param agent AI task component
+   */
+  void add(AITaskComponent agent) {
+    if (agent.scheduler == this) {
+      return;
+    }
+    agent.scheduler = this;
+    agent.pendingTime = 0f;
+    if (removedCount > 0 && agents.contains(agent, true)) {
+      // Removed since the last update and not compacted yet
+      removedCount--;
+    } else {
+      agents.add(agent);
+    }
+  }
+
+  /**
+   * Stop scheduling an agent. Safe to call while the scheduler is running, e.g. when an agent
+   * disposes its own entity.
+   *
+   * @param agent AI task component
+   */
+  void remove(AITaskComponent agent) {
+    if (agent.scheduler == this) {
+      agent.scheduler = null;
+      removedCount++;
+    }
+  }
+
+  /** Run the agents which are due, until the frame's budget is spent. */
+  public void update() {
+    compact();
+    ranThisFrame = 0;
+    deferredThisFrame = 0;
+    if (agents.isEmpty()) {
+      return;
+    }
+
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    float delta = timeSource == null ? 0f : timeSource.getDeltaTime();
+    boolean hasFocus = updateFocus(delta);
+    long start = TimeUtils.nanoTime();
+    boolean overBudget = false;
+    int count = agents.size;
+    int nextCursor = cursor;
+
+    for (int i = 0; i < count; i++) {
+      int index = (cursor + i) % count;
+      AITaskComponent agent = agents.get(index);
+      if (!agent.isActive()) {
+        continue;
+      }
+      agent.pendingTime += delta;
+      if (agent.pendingTime < getInterval(agent, hasFocus)) {
+        continue;
+      }
+      if (overBudget) {
+        deferredThisFrame++;
+        continue;
+      }
+
+      float elapsed = agent.pendingTime;
+      agent.pendingTime = 0f;
+      agent.run(elapsed);
+      ranThisFrame++;
+      nextCursor = (index + 1) % count;
+      // Always run at least one agent so everything makes progress
+      overBudget = TimeUtils.nanoTime() - start > budgetNanos;
+    }
+    cursor = overBudget ? nextCursor : cursor;
+  }
+
+  /**
+   * Set the entity whose distance decides how often agents run. Defaults to the camera.
+   *
+   * @param focus entity to measure distance from, or null to use the camera
+   */
+  public void setFocus(Entity focus) {
+    this.focus = focus;
+  }
+
+  /**
+   * Set how often agents run by distance from the focus.
+   *
+   * @param distances increasing distances in metres where each tier ends
+   * @param intervals seconds between runs for each tier, one more than distances for agents beyond
+   *     the last distance. 0 runs every frame.
+   */
+  public void setTiers(float[] distances, float[] intervals) {
+    if (intervals.length != distances.length + 1) {
+      throw new IllegalArgumentException("Need one more interval than distances");
+    }
+    this.tierDistances = distances.clone();
+    this.tierIntervals = intervals.clone();
+  }
+
+  /**
+   * Set the maximum time to spend running agents each frame. At least one agent is always run.
+   *
+   * @param milliseconds time budget
+   */
+  public void setBudget(float milliseconds) {
+    this.budgetNanos = (long) (milliseconds * 1_000_000);
+  }
+
+  public float getBudget() {
+    return budgetNanos / 1_000_000f;
+  }
+
+  /** @return number of scheduled agents */
+  public int getAgentCount() {
+    return agents.size - removedCount;
+  }
+
+  /** @return number of agents run in the last update */
+  public int getRanThisFrame() {
+    return ranThisFrame;
+  }
+
+  /** @return number of agents which were due but didn't fit in the last update's budget */
+  public int getDeferredThisFrame() {
+    return deferredThisFrame;
+  }
+
+  /** Stop scheduling every agent. */
+  public void clear() {
+    for (AITaskComponent agent : agents) {
+      agent.scheduler = null;
+    }
+    agents.clear();
+    removedCount = 0;
+    cursor = 0;
+    focus = null;
+    camera = null;
+    cameraSearchCooldown = 0f;
+  }
+
+  private float getInterval(AITaskComponent agent, boolean hasFocus) {
+    if (!hasFocus) {
+      return tierIntervals[0];
+    }
+    float dst2 = agent.getEntity().getPosition(position).dst2(focusPosition);
+    for (int i = 0; i < tierDistances.length; i++) {
+      if (dst2 <= tierDistances[i] * tierDistances[i]) {
+        return tierIntervals[i];
+      }
+    }
+    return tierIntervals[tierIntervals.length - 1];
+  }
+
+  private boolean updateFocus(float delta) {
+    if (focus != null) {
+      if (!focus.isDisposed()) {
+        focus.getPosition(focusPosition);
+        return true;
+      }
+      focus = null;
+    }
+    if (camera != null && camera.getEntity().isDisposed()) {
+      // e.g. the screen was changed, look for its replacement
+      camera = null;
+      cameraSearchCooldown = 0f;
+    }
+    cameraSearchCooldown -= delta;
+    if (camera == null && cameraSearchCooldown <= 0f && ServiceLocator.getEntityService() != null) {
+      Entity cameraEntity = ServiceLocator.getEntityService().getEntity(CameraComponent.class);
+      camera = cameraEntity == null ? null : cameraEntity.getComponent(CameraComponent.class);
+      cameraSearchCooldown = CAMERA_SEARCH_INTERVAL;
+    }
+    if (camera == null) {
+      return false;
+    }
+    focusPosition.set(camera.getCamera().position.x, camera.getCamera().position.y);
+    return true;
+  }
+
+  private void compact() {
+    if (removedCount == 0) {
+      return;
+    }
+    for (int i = agents.size - 1; i >= 0; i--) {
+      if (agents.get(i).scheduler != this) {
+        agents.removeIndex(i);
+      }
+    }
+    removedCount = 0;
+    if (cursor >= agents.size) {
+      cursor = 0;
+    }
+  }
+}
@@ -1,6 +1,13 @@
 package com.csse3200.game.ai.tasks;
 
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,14 +18,32 @@ import java.util.*;
  * highest priority task each frame. Tasks can be made up of smaller sub-tasks. A negative priority
  * indicates that the task should not be run.
  *
+ * <p>Priorities are cached, and each task is only asked again once its evaluation interval is up,
+ * it reports its priority as stale, the entity collides with a player, NPC or projectile, or {@link
+ * #invalidate()} is called. The current task's status is still checked every frame, and a task which has finished or
+ * failed causes every priority to be evaluated again.
+ *
+ * <p>Once created, the component is run by the entity service's {@link AIScheduler} rather than on
+ * every update, so far away entities think less often.
+ *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
+  /** Layers whose contacts can change what the entity wants to do, unlike walls and scenery */
+  private static final short INTERESTING_LAYERS =
+      (short) (PhysicsLayer.PLAYER | PhysicsLayer.NPC | PhysicsLayer.PROJECTILE);
 
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
+  private final Array<Evaluation> evaluations = new Array<>(false, 2);
   private PriorityTask currentTask;
+  private float time = 0f;
+  private float deltaTime = 0f;
+  private int evaluationsThisFrame = 0;
+  // Managed by the scheduler
+  AIScheduler scheduler;
+  float pendingTime = 0f;
 
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
@@ -30,6 +55,7 @@ public class AITaskComponent extends Component implements TaskRunner {
   public AITaskComponent addTask(PriorityTask task) {
     logger.debug("{} Adding task {}", this, task);
     priorityTasks.add(task);
+    evaluations.add(new Evaluation());
     task.create(this);
 
     return this;
@@ -39,14 +65,42 @@ public class AITaskComponent extends Component implements TaskRunner {
     return currentTask;
   }
 
-  /**
-   * On update, run the current highest priority task. If it's a different one, stop the old one and
-   * start the new one. If the highest priority task has negative priority, no task will be run.
-   */
+  @Override
+  public void create() {
+    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    if (physics != null) {
+      physics.addCollisionInterest(INTERESTING_LAYERS);
+    }
+    if (ServiceLocator.getEntityService() != null) {
+      ServiceLocator.getEntityService().getAIScheduler().add(this);
+    }
+  }
+
+  /** Without a scheduler, run every update. */
   @Override
   public void update() {
+    if (scheduler == null) {
+      GameTime timeSource = ServiceLocator.getTimeSource();
+      run(timeSource == null ? 0f : timeSource.getDeltaTime());
+    }
+  }
+
+  /**
+   * Run the current highest priority task. If it's a different one, stop the old one and start the
+   * new one. If the highest priority task has negative priority, no task will be run.
+   *
+   * @param elapsed seconds since this component last ran
+   */
+  void run(float elapsed) {
+    deltaTime = elapsed;
+    time += elapsed;
+    if (currentTask != null && currentTask.getStatus() != Task.Status.ACTIVE) {
+      invalidate();
+    }
+
     PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
+    if (desiredtask == null || getCachedPriority(desiredtask) < 0) {
       return;
     }
 
@@ -58,17 +112,96 @@ public class AITaskComponent extends Component implements TaskRunner {
 
   @Override
   public void dispose() {
+    if (scheduler != null) {
+      scheduler.remove(this);
+    }
     if (currentTask != null) {
       currentTask.stop();
     }
   }
 
+  /** Suspended agents leave the scheduler, so it doesn't keep stepping over them. */
+  @Override
+  public void setSuspended(boolean suspended) {
+    if (suspended) {
+      if (scheduler != null) {
+        scheduler.remove(this);
+      }
+    } else if (ServiceLocator.getEntityService() != null) {
+      ServiceLocator.getEntityService().getAIScheduler().add(this);
+    }
+  }
+
+  private void onCollisionStart(Fixture me, Fixture other) {
+    // Bumping into another character usually changes what the entity wants to do
+    if (PhysicsLayer.contains(INTERESTING_LAYERS, other.getFilterData().categoryBits)) {
+      invalidate();
+    }
+  }
+
+  /** Evaluate every task's priority on the next update. */
+  public void invalidate() {
+    for (Evaluation evaluation : evaluations) {
+      evaluation.invalid = true;
+    }
+  }
+
+  /**
+   * Evaluate a task's priority on the next update.
+   *
+   * @param task task added to this component
+   */
+  public void invalidate(PriorityTask task) {
+    int index = priorityTasks.indexOf(task);
+    if (index >= 0) {
+      evaluations.get(index).invalid = true;
+    }
+  }
+
+  /**
+   * Get the time since the component last ran, which can be several frames for far away entities.
+   * Tasks should use this rather than the frame's delta time.
+   *
+   * @return seconds since the last run
+   */
+  public float getDeltaTime() {
+    return deltaTime;
+  }
+
+  boolean isActive() {
+    return enabled && entity.getEnabled();
+  }
+
+  /** @return number of getPriority() calls in the last update */
+  public int getEvaluationsThisFrame() {
+    return evaluationsThisFrame;
+  }
+
   private PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
+    evaluationsThisFrame = 0;
+    PriorityTask highest = null;
+    int highestPriority = 0;
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      PriorityTask task = priorityTasks.get(i);
+      Evaluation evaluation = evaluations.get(i);
+      if (evaluation.invalid || time >= evaluation.nextTime || task.isPriorityStale()) {
+        evaluation.priority = task.getPriority();
+        // Jitter so entities spawned together don't keep evaluating on the same frame
+        evaluation.nextTime = time + task.getEvaluationInterval() * MathUtils.random(0.75f, 1.25f);
+        evaluation.invalid = false;
+        evaluationsThisFrame++;
+      }
+      // First task wins ties
+      if (highest == null || evaluation.priority > highestPriority) {
+        highest = task;
+        highestPriority = evaluation.priority;
+      }
     }
+    return highest;
+  }
+
+  private int getCachedPriority(PriorityTask task) {
+    return evaluations.get(priorityTasks.indexOf(task)).priority;
   }
 
   private void changeTask(PriorityTask desiredTask) {
@@ -79,6 +212,14 @@ public class AITaskComponent extends Component implements TaskRunner {
     currentTask = desiredTask;
     if (desiredTask != null) {
       desiredTask.start();
+      // Priorities usually depend on whether the task is running
+      invalidate();
     }
   }
+
+  private static class Evaluation {
+    int priority;
+    float nextTime;
+    boolean invalid = true;
+  }
 }
@@ -3,7 +3,30 @@ package com.csse3200.game.ai.tasks;
 /**
  * A priority task is a task that also has a priority. This is required for an AI task component to
  * decide which task to run.
+ *
+ * <p>Priorities can be expensive to compute (distances, raycasts), so the AI task component caches
+ * them and only asks again every {@link #getEvaluationInterval()} seconds, or sooner if the task
+ * reports its priority as stale or the component is invalidated.
  */
 public interface PriorityTask extends Task {
   int getPriority();
+
+  /**
+   * Get how long a priority from {@link #getPriority()} can be reused for.
+   *
+   * @return seconds between evaluations, 0 to evaluate every frame
+   */
+  default float getEvaluationInterval() {
+    return 0f;
+  }
+
+  /**
+   * Checked every frame before the evaluation interval is up. Should be cheap, e.g. whether the
+   * target has moved far since the last evaluation.
+   *
+   * @return true to evaluate the priority this frame
+   */
+  default boolean isPriorityStale() {
+    return false;
+  }
 }
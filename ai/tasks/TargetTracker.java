@@ -0,0 +1,46 @@
+package com.csse3200.game.ai.tasks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+
+/**
+ * Remembers where a task's target was when its priority was last evaluated, so the task can report
+ * its priority as stale once the target has moved far from there. See
+ * {@link PriorityTask#isPriorityStale()}.
+ */
+public class TargetTracker {
+  private final float movedDistance2;
+  private final Vector2 position = new Vector2();
+  private final Vector2 evaluatedPosition = new Vector2();
+  private boolean evaluated = false;
+
+  /**
+   * @param movedDistance how far the target moves before the priority is stale
+   */
+  public TargetTracker(float movedDistance) {
+    this.movedDistance2 = movedDistance * movedDistance;
+  }
+
+  /**
+   * Call whenever the priority is evaluated.
+   *
+   * @param target target the priority was evaluated against. May be null.
+   */
+  public void markEvaluated(Entity target) {
+    evaluated = target != null;
+    if (evaluated) {
+      target.getPosition(evaluatedPosition);
+    }
+  }
+
+  /**
+   * @param target current target. May be null.
+   * @return true if the target has moved far since the priority was last evaluated
+   */
+  public boolean hasMoved(Entity target) {
+    if (!evaluated || target == null) {
+      return false;
+    }
+    return target.getPosition(position).dst2(evaluatedPosition) > movedDistance2;
+  }
+}
@@ -0,0 +1,245 @@
+package com.csse3200.game.areas;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.entities.Entity;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams entities in and out with the terrain chunks around the player. Each chunk gets a fixed
+ * set of spawn slots the first time it becomes active, from the spawn table entries. Slots are
+ * spawned while their chunk is active and despawned once their entity leaves the active chunks.
+ *
+ * <p>Slots whose entity was disposed by gameplay, such as picked up items and defeated enemies,
+ * stay empty for the rest of the area. Each category has a population cap, and slots over the cap
+ * wait until there is room.
+ */
+public class ChunkSpawner {
+  private static final Logger logger = LoggerFactory.getLogger(ChunkSpawner.class);
+
+  /** Categories with their own population cap */
+  public enum Category {
+    ITEM,
+    ENEMY,
+    NPC
+  }
+
+  private final GameArea area;
+  private final long seed;
+  private final Array<SpawnEntry> entries = new Array<>();
+  private final ObjectMap<GridPoint2, Array<Slot>> chunks = new ObjectMap<>();
+  private final Array<Slot> liveSlots = new Array<>(false, 64);
+  private final int[] population = new int[Category.values().length];
+  private final int[] populationCaps = new int[Category.values().length];
+  private final Array<Consumer<Entity>> onDespawn = new Array<>();
+  private final Vector2 position = new Vector2();
+  private final GridPoint2 chunk = new GridPoint2();
+
+  /**
+   * @param area area to spawn entities into
+   * @param seed seed for slot positions, so chunks look the same each time they're visited
+   */
+  public ChunkSpawner(GameArea area, long seed) {
+    this.area = area;
+    this.seed = seed;
+    for (Category category : Category.values()) {
+      populationCaps[category.ordinal()] = Integer.MAX_VALUE;
+      onDespawn.add(null);
+    }
+  }
+
+  /**
+   * Spawn a number of entities in every chunk.
+   *
+   * @param category population category
+   * @param creator creates an unregistered entity
+   * @param count entities per chunk
+   * @return self
+   */
+  public ChunkSpawner addPerChunk(Category category, Supplier<Entity> creator, int count) {
+    entries.add(new SpawnEntry(category, creator, count, false, null));
+    return this;
+  }
+
+  /**
+   * Spawn a number of entities spread across the active chunks, so the same number are around the
+   * player wherever they are. Each chunk gets an even share, with the remainder going to randomly
+   * chosen chunks.
+   *
+   * @param category population category
+   * @param creator creates an unregistered entity
+   * @param count entities across the active chunks
+   * @return self
+   */
+  public ChunkSpawner addPerArea(Category category, Supplier<Entity> creator, int count) {
+    return addPerArea(category, creator, count, null);
+  }
+
+  /**
+   * Spawn a number of entities spread across the active chunks.
+   *
+   * @param category population category
+   * @param creator creates an unregistered entity
+   * @param count entities across the active chunks
+   * @param onSpawn called after each entity is spawned, e.g. to add components which need the
+   *     entity to be registered
+   * @return self
+   * @see #addPerArea(Category, Supplier, int)
+   */
+  public ChunkSpawner addPerArea(
+      Category category, Supplier<Entity> creator, int count, Consumer<Entity> onSpawn) {
+    entries.add(new SpawnEntry(category, creator, count, true, onSpawn));
+    return this;
+  }
+
+  /**
+   * @param category population category
+   * @param cap maximum number of live entities in the category
+   * @return self
+   */
+  public ChunkSpawner setPopulationCap(Category category, int cap) {
+    populationCaps[category.ordinal()] = cap;
+    return this;
+  }
+
+  /**
+   * @param category population category
+   * @param listener called before an entity in the category is despawned, or after gameplay
+   *     disposed it
+   * @return self
+   */
+  public ChunkSpawner setOnDespawn(Category category, Consumer<Entity> listener) {
+    onDespawn.set(category.ordinal(), listener);
+    return this;
+  }
+
+  /**
+   * Despawn entities outside the active chunks, then fill the empty slots of active chunks up to
+   * the population caps. Call whenever the active chunks change.
+   *
+   * @param activeChunks positions of the active chunks
+   */
+  public void update(Set<GridPoint2> activeChunks) {
+    for (int i = liveSlots.size - 1; i >= 0; i--) {
+      Slot slot = liveSlots.get(i);
+      if (slot.entity.isDisposed()) {
+        // Removed by gameplay, e.g. picked up or defeated
+        slot.consumed = true;
+        release(slot, i);
+      } else if (!activeChunks.contains(toChunk(slot.entity.getPosition(position)))) {
+        release(slot, i);
+      }
+    }
+
+    int spawned = 0;
+    for (GridPoint2 chunkPos : activeChunks) {
+      Array<Slot> slots = chunks.get(chunkPos);
+      if (slots == null) {
+        slots = generateSlots(chunkPos, activeChunks.size());
+        chunks.put(new GridPoint2(chunkPos), slots);
+      }
+      for (Slot slot : slots) {
+        int category = slot.entry.category.ordinal();
+        if (!slot.consumed && slot.entity == null && population[category] < populationCaps[category]) {
+          spawn(slot);
+          spawned++;
+        }
+      }
+    }
+    logger.debug("Spawned {} entities, {} live", spawned, liveSlots.size);
+  }
+
+  /** @return number of live entities in the category */
+  public int getPopulation(Category category) {
+    return population[category.ordinal()];
+  }
+
+  private void spawn(Slot slot) {
+    Entity entity = slot.entry.creator.get();
+    area.spawnEntityAt(entity, slot.tile, true, false);
+    slot.entity = entity;
+    liveSlots.add(slot);
+    population[slot.entry.category.ordinal()]++;
+    if (slot.entry.onSpawn != null) {
+      slot.entry.onSpawn.accept(entity);
+    }
+  }
+
+  private void release(Slot slot, int liveIndex) {
+    Consumer<Entity> listener = onDespawn.get(slot.entry.category.ordinal());
+    if (listener != null) {
+      listener.accept(slot.entity);
+    }
+    area.despawnEntity(slot.entity);
+    slot.entity = null;
+    liveSlots.removeIndex(liveIndex);
+    population[slot.entry.category.ordinal()]--;
+  }
+
+  private Array<Slot> generateSlots(GridPoint2 chunkPos, int chunksInArea) {
+    RandomXS128 random = new RandomXS128(seed ^ (chunkPos.x * 73856093L) ^ (chunkPos.y * 19349663L));
+    Array<Slot> slots = new Array<>(false, 8);
+    for (SpawnEntry entry : entries) {
+      int count = entry.count;
+      if (entry.perArea) {
+        int share = count / chunksInArea;
+        count = share + (random.nextInt(chunksInArea) < count % chunksInArea ? 1 : 0);
+      }
+      for (int i = 0; i < count; i++) {
+        GridPoint2 tile =
+            new GridPoint2(
+                chunkPos.x * TerrainFactory.CHUNK_SIZE + random.nextInt(TerrainFactory.CHUNK_SIZE),
+                chunkPos.y * TerrainFactory.CHUNK_SIZE + random.nextInt(TerrainFactory.CHUNK_SIZE));
+        slots.add(new Slot(entry, tile));
+      }
+    }
+    return slots;
+  }
+
+  private GridPoint2 toChunk(Vector2 worldPosition) {
+    return chunk.set(
+        (int) worldPosition.x / TerrainFactory.CHUNK_SIZE,
+        (int) worldPosition.y / TerrainFactory.CHUNK_SIZE);
+  }
+
+  private static class SpawnEntry {
+    final Category category;
+    final Supplier<Entity> creator;
+    final int count;
+    final boolean perArea;
+    final Consumer<Entity> onSpawn;
+
+    SpawnEntry(
+        Category category,
+        Supplier<Entity> creator,
+        int count,
+        boolean perArea,
+        Consumer<Entity> onSpawn) {
+      this.category = category;
+      this.creator = creator;
+      this.count = count;
+      this.perArea = perArea;
+      this.onSpawn = onSpawn;
+    }
+  }
+
+  private static class Slot {
+    final SpawnEntry entry;
+    final GridPoint2 tile;
+    Entity entity;
+    boolean consumed = false;
+
+    Slot(SpawnEntry entry, GridPoint2 tile) {
+      this.entry = entry;
+      this.tile = tile;
+    }
+  }
+}
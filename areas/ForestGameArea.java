@@ -2,7 +2,9 @@ package com.csse3200.game.areas;
 
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.areas.ChunkSpawner.Category;
 import com.csse3200.game.areas.ForestGameAreaConfigs.*;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.areas.terrain.TerrainFactory.TerrainType;
@@ -16,6 +18,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.factories.NPCFactory;
 import com.csse3200.game.entities.factories.ObstacleFactory;
 import com.csse3200.game.entities.factories.PlayerFactory;
+import com.csse3200.game.physics.PhysicsSettings;
 import com.csse3200.game.services.AudioManager;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.areas.ForestGameAreaConfigs.*;
@@ -30,6 +33,7 @@ import com.csse3200.game.utils.math.RandomUtils;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.components.gamearea.GameAreaDisplay;
+import com.csse3200.game.concurrency.JobSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.List;
@@ -38,7 +42,7 @@ import com.csse3200.game.entities.factories.ItemFactory;
 
 import java.util.Objects;
 import java.util.*;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletableFuture;
 
 /** Forest area for the demo game with trees, a player, and some enemies. */
 public class ForestGameArea extends GameArea {
@@ -48,12 +52,14 @@ public class ForestGameArea extends GameArea {
   private static final GridPoint2 PLAYER_SPAWN = new GridPoint2(2500, 2500);
   private static final GridPoint2 KANGAROO_BOSS_SPAWN = new GridPoint2(25, 10);
   private static final float WALL_WIDTH = 0.1f;
+  private static final String FOREST_ATLAS = "forest";
   private final TerrainFactory terrainFactory;
   private final List<Entity> enemies;
   // private final List<Entity> staticItems;
-  private final Map<Integer, Entity> dynamicItems = new HashMap<>();
-  private int totalItems = 0;
+  private ChunkSpawner spawner;
   private Entity player;
+  private boolean assetsQueued = false;
+  private CompletableFuture<Void> terrainReady;
 
   private final GdxGame game;
 
@@ -94,14 +100,9 @@ public class ForestGameArea extends GameArea {
       // Obstacles
       spawnTrees();
 
-      //Enemies
-      spawnEnemies();
-
-      // items
-      handleItems();
-
-      //Friendlies
-      spawnFriendlyNPCs();
+      // Items, enemies and friendlies around the player
+      spawner = createSpawner();
+      spawner.update(terrain.getActiveChunks());
 
       playMusic();
       player.getEvents().addListener("setPosition", this::handleNewChunks);
@@ -117,7 +118,7 @@ public class ForestGameArea extends GameArea {
   private void handleNewChunks(Vector2 playerPos) {
     if (TerrainLoader.movedChunk(playerPos)) {
       logger.info("Player position is: ({}, {})", playerPos.x, playerPos.y);
-      handleItems();
+      spawner.update(terrain.getActiveChunks());
 //     TerrainComponent.loadChunks(playerPos);
 //     handleItems(TerrainComponent.newChunks, TerrainComponent.oldChunks);
 //     handleFriendlies(TerrainComponent.newChunks, TerrainComponent.oldChunks);
@@ -126,30 +127,6 @@ public class ForestGameArea extends GameArea {
     }
   }
 
-  private void handleItems() {
-    // Spawn items on new chunks: TODO: ADD THIS TO A LIST OF DYNAMIC ENTITIES IN SPAWNER!
-    for (GridPoint2 pos : terrain.getNewChunks()) {
-      spawnItems(TerrainLoader.chunktoWorldPos(pos));
-    }
-
-    // Despawn items on old chunks:
-    // TODO: WE CAN DO THIS EFFICIENTLY BY STORING THE SET OF ITEMS IN AN AVL TREE ORDERED BY
-    //  POSITION, AND THEN CAN JUST CHECK FOR ANYTHING SPAWNED OUTSIDE THE PLAYER RADIUS (AND
-    //  PROVIDED THE RADIUS IS BIG ENOUGH IT ALSO WON'T MATTER FOR DYNAMIC NPC's IF THEY WANDER
-    //  ONTO THE CHUNK)
-    List<Integer> removals = new ArrayList<>();
-    for (int key : dynamicItems.keySet()) {
-      GridPoint2 chunkPos = TerrainLoader.posToChunk(dynamicItems.get(key).getPosition());
-      if (!terrain.getActiveChunks().contains(chunkPos)) {
-        removals.add(key);
-      }
-    }
-
-    for (int i : removals) {
-      dynamicItems.remove(i);
-    }
-  }
-
   /**
    * gets the player
    * @return player entity
@@ -167,11 +144,32 @@ public class ForestGameArea extends GameArea {
   }
 
   private void spawnTerrain() {
-    // Background terrain
-    this.terrain = terrainFactory.createTerrain(TerrainType.FOREST_DEMO, PLAYER_SPAWN, MAP_SIZE, MapType.FOREST);
+    // Background terrain, which may have been prepared before the area was switched to
+    prepare().join();
     spawnEntity(new Entity().addComponent(terrain));
   }
 
+  /**
+   * Create the terrain and generate the chunks around the player's spawn in the background. Assets
+   * must be loaded or queued.
+   *
+   * @return chunk generation still running
+   */
+  @Override
+  public CompletableFuture<Void> prepare() {
+    if (terrainReady == null) {
+      loadAssets();
+      this.terrain = terrainFactory.createTerrain(TerrainType.FOREST_DEMO, PLAYER_SPAWN, MAP_SIZE, MapType.FOREST);
+      TerrainComponent newTerrain = this.terrain;
+      GridPoint2 spawnChunk = TerrainLoader.posToChunk(new Vector2(PLAYER_SPAWN.x, PLAYER_SPAWN.y));
+      terrainReady = JobSystem.launch(() -> {
+        newTerrain.fillChunks(spawnChunk, TerrainComponent.LOAD_RADIUS);
+        return null;
+      });
+    }
+    return terrainReady;
+  }
+
   private void spawnTrees() {
     GridPoint2 minPos = new GridPoint2(PLAYER_SPAWN.x - 10, PLAYER_SPAWN.y - 10);
     GridPoint2 maxPos = new GridPoint2(PLAYER_SPAWN.x + 10, PLAYER_SPAWN.y + 10);
@@ -181,6 +179,8 @@ public class ForestGameArea extends GameArea {
       Entity tree = ObstacleFactory.createTree();
       spawnEntityAt(tree, randomPos, true, false);
     }
+    // Merge the trees into one static body per chunk
+    ServiceLocator.getPhysicsService().getPhysics().getChunks().commit();
   }
 
   /**
@@ -251,123 +251,71 @@ private void spawnEntityNearPlayer(Entity entity, int radius) {
             entity, playerChunk.x, playerChunk.y, spawnPos.x, spawnPos.y);
   }
 
-  private void spawnItems(GridPoint2 pos) {
-    Supplier<Entity> generator;
-
-    // Health Potions
-    generator = () -> ItemFactory.createHealthPotion(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_HEALTH_POTIONS);
-
-    // Defense Potions
-    generator = () -> ItemFactory.createDefensePotion(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_DEFENSE_POTIONS);
-
-  // Attack potions
-    generator = () -> ItemFactory.createAttackPotion(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_ATTACK_POTIONS);
-
-    // Speed potions
-    generator = () -> ItemFactory.createSpeedPotion(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_SPEED_POTIONS);
-
-    // Apples
-    generator = () -> ItemFactory.createApple(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_APPLES);
-
-    // Carrots
-    generator = () -> ItemFactory.createCarrot(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_CARROTS);
-
-    // Meat
-    generator = () -> ItemFactory.createMeat(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_MEAT);
-
-    // Chicken legs
-    generator = () -> ItemFactory.createChickenLeg(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_CHICKEN_LEGS);
-
-    // Candy
-    generator = () -> ItemFactory.createCandy(player);
-    spawnRandomItem(pos, generator, config.spawns.NUM_CANDY);
-  }
-
-  private void spawnEnemies() {
-    Supplier<Entity> generator;
-
-    // Chicken
-    generator = () -> EnemyFactory.createChicken(player);
-    spawnRandomEnemy(generator, config.spawns.NUM_CHICKENS, 0.05);
-
-    // Monkey
-    generator = () -> EnemyFactory.createMonkey(player);
-    spawnMonkeyEnemy(generator, config.spawns.NUM_MONKEYS, 0.04);
-    
-
-
-    // Frog
-    generator = () -> EnemyFactory.createFrog(player);
-    spawnRandomEnemy(generator, config.spawns.NUM_FROGS, 0.06);
-
-    //Bear
-    generator = () -> EnemyFactory.createBear(player);
-    spawnRandomEnemy(generator, config.spawns.NUM_BEARS, 0.1);
-  }
-
-  private void spawnFriendlyNPCs() {
-    Supplier<Entity> generator;
-
-    // Cow
-    generator = () -> NPCFactory.createCow(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_COWS);
-
-    // Fish
-    generator = () -> NPCFactory.createFish(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_FISH);
-
-    // Lion
-    generator = () -> NPCFactory.createLion(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_LIONS);
-
-    // Turtle
-    generator = () -> NPCFactory.createTurtle(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_TURTLES);
-
-    // Eagle
-    generator = () -> NPCFactory.createEagle(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_EAGLES);
-
-    // Snake
-    generator = () -> NPCFactory.createSnake(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_SNAKES);
-
-    // Magpie
-    generator = () -> NPCFactory.createMagpie(player, this.enemies);
-    spawnRandomNPC(generator, config.spawns.NUM_MAGPIES);
-  }
-
-  private void spawnRandomItem(GridPoint2 pos, Supplier<Entity> creator, int numItems) {
-    GridPoint2 minPos = new GridPoint2(pos.x - 20, pos.y - 20);
-    GridPoint2 maxPos = new GridPoint2(pos.x + 20, pos.y + 20);
-
-    for (int i = 0; i < numItems; i++) {
-      GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
-      Entity item = creator.get();
-      spawnEntityAt(item, randomPos, true, false);
-      dynamicItems.put(totalItems, item);
-      totalItems++;
-    }
+  /**
+   * Set up the spawn table for items, enemies and friendlies, which are streamed in and out with
+   * the chunks around the player.
+   */
+  private ChunkSpawner createSpawner() {
+    ChunkSpawner newSpawner = new ChunkSpawner(this, MathUtils.random.nextLong())
+        .setPopulationCap(Category.ITEM, config.spawns.MAX_ITEMS)
+        .setPopulationCap(Category.ENEMY, config.spawns.MAX_ENEMIES)
+        .setPopulationCap(Category.NPC, config.spawns.MAX_NPCS)
+        .setOnDespawn(Category.ENEMY, enemies::remove);
+
+    // Items
+    newSpawner
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createHealthPotion(player),
+            config.spawns.NUM_HEALTH_POTIONS)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createDefensePotion(player),
+            config.spawns.NUM_DEFENSE_POTIONS)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createAttackPotion(player),
+            config.spawns.NUM_ATTACK_POTIONS)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createSpeedPotion(player),
+            config.spawns.NUM_SPEED_POTIONS)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createApple(player),
+            config.spawns.NUM_APPLES)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createCarrot(player),
+            config.spawns.NUM_CARROTS)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createMeat(player),
+            config.spawns.NUM_MEAT)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createChickenLeg(player),
+            config.spawns.NUM_CHICKEN_LEGS)
+        .addPerChunk(Category.ITEM, () -> ItemFactory.createCandy(player),
+            config.spawns.NUM_CANDY);
+
+    // Enemies
+    newSpawner
+        .addPerArea(Category.ENEMY, () -> EnemyFactory.createChicken(player),
+            config.spawns.NUM_CHICKENS, enemy -> addEnemy(enemy, 0.05))
+        .addPerArea(Category.ENEMY, () -> EnemyFactory.createMonkey(player),
+            config.spawns.NUM_MONKEYS, enemy -> {
+              addEnemy(enemy, 0.04);
+              enemy.getEvents().addListener("FireBanana", this::spawnBanana);
+            })
+        .addPerArea(Category.ENEMY, () -> EnemyFactory.createFrog(player),
+            config.spawns.NUM_FROGS, enemy -> addEnemy(enemy, 0.06))
+        .addPerArea(Category.ENEMY, () -> EnemyFactory.createBear(player),
+            config.spawns.NUM_BEARS, enemy -> addEnemy(enemy, 0.1));
+
+    // Friendlies
+    newSpawner
+        .addPerArea(Category.NPC, () -> NPCFactory.createCow(player),
+            config.spawns.NUM_COWS)
+        .addPerArea(Category.NPC, () -> NPCFactory.createFish(player),
+            config.spawns.NUM_FISH)
+        .addPerArea(Category.NPC, () -> NPCFactory.createLion(player),
+            config.spawns.NUM_LIONS)
+        .addPerArea(Category.NPC, () -> NPCFactory.createTurtle(player),
+            config.spawns.NUM_TURTLES)
+        .addPerArea(Category.NPC, () -> NPCFactory.createEagle(player),
+            config.spawns.NUM_EAGLES)
+        .addPerArea(Category.NPC, () -> NPCFactory.createSnake(player),
+            config.spawns.NUM_SNAKES)
+        .addPerArea(Category.NPC, () -> NPCFactory.createMagpie(player),
+            config.spawns.NUM_MAGPIES);
+    return newSpawner;
   }
 
-  private void spawnRandomNPC(Supplier<Entity> creator, int numNPCs) {
-    GridPoint2 minPos = new GridPoint2(PLAYER_SPAWN.x - 10, PLAYER_SPAWN.y - 10);
-    GridPoint2 maxPos = new GridPoint2(PLAYER_SPAWN.x + 10, PLAYER_SPAWN.y + 10);
-
-    for (int i = 0; i < numNPCs; i++) {
-      GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
-      Entity npc = creator.get();
-      spawnEntityAt(npc, randomPos, true, false);
-    }
-  }
   public void playMusic() {
 //    Music music = ServiceLocator.getResourceService().getAsset(BACKGROUND_MUSIC, Music.class);
 //    music.setLooping(true);
@@ -389,33 +337,11 @@ private void spawnEntityNearPlayer(Entity entity, int radius) {
     AudioManager.stopMusic();  // Stop the music
   }
 
-  private void spawnRandomEnemy(Supplier<Entity> creator, int numItems, double proximityRange) {
-    GridPoint2 minPos = new GridPoint2(PLAYER_SPAWN.x - 20, PLAYER_SPAWN.y - 20);
-    GridPoint2 maxPos = new GridPoint2(PLAYER_SPAWN.x + 20, PLAYER_SPAWN.y + 20);
-
-    for (int i = 0; i < numItems; i++) {
-      GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
-      Entity enemy = creator.get();
-      spawnEntityAt(enemy, randomPos, true, false);
-      enemies.add(enemy);
-      enemy.addComponent(new ProximityComponent(player, proximityRange)); // Add ProximityComponent
-    }
+  private void addEnemy(Entity enemy, double proximityRange) {
+    enemies.add(enemy);
+    enemy.addComponent(new ProximityComponent(player, proximityRange)); // Add ProximityComponent
   }
-  
-  private void spawnMonkeyEnemy(Supplier<Entity> creator, int numItems, double proximityRange) {
-    GridPoint2 minPos = new GridPoint2(PLAYER_SPAWN.x - 20, PLAYER_SPAWN.y - 20);
-    GridPoint2 maxPos = new GridPoint2(PLAYER_SPAWN.x + 20, PLAYER_SPAWN.y + 20);
-    
-    for (int i = 0; i < numItems; i++) {
-      GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
-      Entity enemy = creator.get();
-      spawnEntityAt(enemy, randomPos, true, false);
-      enemies.add(enemy);
-      enemy.addComponent(new ProximityComponent(player, proximityRange)); // Add ProximityComponent
-      enemy.getEvents().addListener("FireBanana", this::spawnBanana);
-    }
-  }
-  
+
   private void spawnBanana(Entity enemy) {
     Entity banana = ProjectileFactory.createBanana(player);
     
@@ -449,8 +375,17 @@ private void spawnEntityNearPlayer(Entity entity, int radius) {
     music.pause();
   }
 
-  public void loadAssets() {
-    logger.debug("LOADING ASSETS");
+  /**
+   * Queue the area's assets without waiting for them, e.g. to load them in the background before
+   * switching to this area. Only queues them once.
+   */
+  @Override
+  public void queueAssets() {
+    if (assetsQueued) {
+      return;
+    }
+    assetsQueued = true;
+    logger.debug("QUEUEING ASSETS");
     ResourceService resourceService = ServiceLocator.getResourceService();
     resourceService.loadMusic(new String[] {"sounds/BGM_03_mp3.mp3", "sounds/track_2.mp3"});
     //resourceService.loadMusic(forestMusic);
@@ -460,10 +395,17 @@ private void spawnEntityNearPlayer(Entity entity, int radius) {
     resourceService.loadSounds(config.sounds.gameSounds);
     resourceService.loadMusic(config.sounds.gameMusic);
     resourceService.loadSounds(config.sounds.characterSounds);
+  }
+
+  public void loadAssets() {
+    logger.debug("LOADING ASSETS");
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    queueAssets();
     while (!resourceService.loadForMillis(10)) {
       // This could be upgraded to a loading screen
       logger.debug("Loading... {}%", resourceService.getProgress());
     }
+    resourceService.packTextures(FOREST_ATLAS, config.textures.forestTextures);
   }
 
   @Override
@@ -471,9 +413,11 @@ private void spawnEntityNearPlayer(Entity entity, int radius) {
     logger.debug("UNLOADING ASSETS");
     ResourceService resourceService = ServiceLocator.getResourceService();
     resourceService.unloadAssets(config.textures.forestTextures);
+    resourceService.unloadPackedTextures(FOREST_ATLAS);
     resourceService.unloadAssets(config.textures.forestTextureAtlases);
     resourceService.unloadAssets(config.sounds.gameSounds);
     resourceService.unloadAssets(config.sounds.gameMusic);
+    assetsQueued = false;
   }
 
   @Override
@@ -485,4 +429,9 @@ private void spawnEntityNearPlayer(Entity entity, int radius) {
   public List<Entity> getEnemies() {
     return enemies;
   }
+
+  @Override
+  public PhysicsSettings getPhysicsSettings() {
+    return OVERWORLD_PHYSICS;
+  }
 }
@@ -29,4 +29,9 @@ public class EntitySpawnConfig {
     public int NUM_EAGLES;
     public int NUM_SNAKES;
     public int NUM_MAGPIES;
+
+    // Population caps for entities streamed in around the player
+    public int MAX_ITEMS = 150;
+    public int MAX_ENEMIES = 30;
+    public int MAX_NPCS = 20;
 }
@@ -2,14 +2,20 @@ package com.csse3200.game.areas;
 
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.areas.terrain.TerrainComponent;
+import com.csse3200.game.areas.terrain.TerrainLoader;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.physics.PhysicsSettings;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.math.RandomUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents an area in the game, such as a level, indoor area, etc. An area has a terrain and
@@ -18,8 +24,13 @@ import java.util.List;
  * <p>Support for enabling/disabling game areas could be added by making this a Component instead.
  */
 public abstract class GameArea implements Disposable {
+  /** The overworld only has slow walkers, so step it at half rate and interpolate between steps */
+  protected static final PhysicsSettings OVERWORLD_PHYSICS = new PhysicsSettings(30f, 6, 2);
+  private static final PhysicsSettings DEFAULT_PHYSICS = new PhysicsSettings();
   protected TerrainComponent terrain;
   protected List<Entity> areaEntities;
+  private final Array<Actor> stageActors = new Array<>(false, 8);
+  private final Array<Actor> hiddenActors = new Array<>(false, 8);
 
   protected GameArea() {
     areaEntities = new ArrayList<>();
@@ -30,12 +41,104 @@ public abstract class GameArea implements Disposable {
    */
   public abstract void create();
 
+  /**
+   * Queue the area's assets to be loaded in the background, without waiting for them. Areas which
+   * load their assets in create() should override this, and only queue them once.
+   */
+  public void queueAssets() {
+    // Nothing to load by default.
+  }
+
+  /**
+   * Build what can be built before the area is created, once its assets are loaded, e.g. its
+   * terrain. Called on the render thread. Work which doesn't touch the world may be left running in
+   * the background, and create() waits for it.
+   *
+   * @return background work still running
+   */
+  public CompletableFuture<Void> prepare() {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Freeze the area while another area is active. Its entities stop updating, rendering, simulating
+   * and taking input, its UI is hidden and its music is paused, but everything is kept so the area
+   * can be resumed where it left off.
+   */
+  public void suspend() {
+    pauseMusic();
+    EntityService entityService = ServiceLocator.getEntityService();
+    for (Entity entity : areaEntities) {
+      if (!entity.isDisposed()) {
+        entityService.suspend(entity);
+      }
+    }
+    for (Actor actor : stageActors) {
+      if (actor.getStage() != null && actor.isVisible()) {
+        actor.setVisible(false);
+        hiddenActors.add(actor);
+      }
+    }
+  }
+
+  /** Bring back an area frozen with {@link #suspend()}. */
+  public void resume() {
+    EntityService entityService = ServiceLocator.getEntityService();
+    for (Entity entity : areaEntities) {
+      if (!entity.isDisposed()) {
+        entityService.resume(entity);
+      }
+    }
+    for (Actor actor : hiddenActors) {
+      actor.setVisible(true);
+    }
+    hiddenActors.clear();
+    Entity player = getPlayer();
+    if (terrain != null && player != null) {
+      TerrainLoader.setInitials(player.getPosition(), terrain);
+    }
+    playMusic();
+  }
+
+  /**
+   * Count the entities kept alive by this area, as a measure of its size while it is suspended.
+   *
+   * @return number of spawned entities which haven't been disposed
+   */
+  public int getEntityCount() {
+    int count = 0;
+    for (Entity entity : areaEntities) {
+      if (!entity.isDisposed()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Take the stage actors added while the area was created as its own, so they are hidden while it
+   * is suspended.
+   *
+   * @param actors actors on the stage after creating the area
+   * @param existing actors on the stage before creating the area
+   */
+  void claimStageActors(Array<Actor> actors, Array<Actor> existing) {
+    for (Actor actor : actors) {
+      if (!existing.contains(actor, true)) {
+        stageActors.add(actor);
+      }
+    }
+  }
+
   /**
    * Dispose of all internal entities in the area
    */
   public void dispose() {
     for (Entity entity : areaEntities) {
-      entity.dispose();
+      // Picked up items etc. dispose themselves
+      if (!entity.isDisposed()) {
+        entity.dispose();
+      }
     }
   }
 
@@ -49,6 +152,19 @@ public abstract class GameArea implements Disposable {
     ServiceLocator.getEntityService().register(entity);
   }
 
+  /**
+   * Remove an entity spawned by this area, disposing it if it hasn't been already. If the entities
+   * are updating, it is disposed once they have finished.
+   *
+   * @param entity entity to remove
+   */
+  protected void despawnEntity(Entity entity) {
+    areaEntities.remove(entity);
+    if (!entity.isDisposed()) {
+      ServiceLocator.getEntityService().disposeAfterUpdate(entity);
+    }
+  }
+
   /**
    * Spawn entity on a given tile. Requires the terrain to be set first.
    *
@@ -82,6 +198,16 @@ public abstract class GameArea implements Disposable {
 
   public abstract List<Entity> getEnemies();
 
+  /**
+   * Get the physics tick rate and solver iterations to use while this area is active. Defaults to
+   * the engine defaults.
+   *
+   * @return physics settings for this area
+   */
+  public PhysicsSettings getPhysicsSettings() {
+    return DEFAULT_PHYSICS;
+  }
+
   /**
    * Spawns an entity at a specified world position.
    *
@@ -1,61 +1,107 @@
 package com.csse3200.game.areas;
 
-import com.badlogic.gdx.Game;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.areas.ForestGameArea;
 import com.csse3200.game.areas.WaterGameArea;
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsChunks.ChunkState;
+import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.rendering.Renderer;
+import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.GdxGame;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Switches between the game's maps. Maps switched away from can be suspended rather than disposed,
+ * so switching back to them is instant, and the next map can be preloaded in the background, so
+ * switching to it doesn't stall the game.
+ *
+ * <p>Suspended areas are kept within a budget of entities. Assets are shared between areas, so an
+ * area's own footprint is mostly its entities. The oldest suspended areas are disposed first.
+ */
 public class MapHandler {
+  private static final Logger logger = LoggerFactory.getLogger(MapHandler.class);
+  /** Default number of entities kept across all suspended areas */
+  public static final int DEFAULT_SUSPEND_BUDGET = 4000;
+  /** Time spent loading the preloaded area's assets each frame */
+  private static final int PRELOAD_MILLIS = 4;
+
   private static GameArea currentGameArea;
   private static MapType currentMap = MapType.NONE;
   private static MapType previousMap = MapType.NONE;
 
-  private static ForestGameArea forestGameArea;
-  private static WaterGameArea waterGameArea;
-
-  private static boolean isSavedPrevioud;
-  // private static GameArea savedPrevioud;
+  // Oldest first
+  private static final Map<MapType, SuspendedArea> suspendedAreas = new LinkedHashMap<>();
+  private static int suspendBudget = DEFAULT_SUSPEND_BUDGET;
+  private static PendingArea pendingArea;
 
   private MapHandler() {
-    isSavedPrevioud = false;
+    throw new IllegalStateException("Instantiating static util class");
   }
 
   /**
-   * Switch to a NEW map
+   * Switch to a map, resuming it if it was suspended.
    *
-   * Set saveState to true will remember the previous map state, which can
-   * be restored later.
+   * Set saveState to true to suspend the current map rather than dispose it, so it can be
+   * resumed later.
    *
    * @param mapType map type
    * @param renderer renderer
    * @param game game
    * @param saveState save state
-   * @return 
+   * @return the new game area
    */
   public static GameArea switchMapTo(MapType mapType, Renderer renderer, GdxGame game, boolean saveState) {
-    // TODO: save state
-    if (saveState && currentMap != MapType.NONE) {
-      // currentMap.saveState();
-      isSavedPrevioud = true;
-    }
+    return switchMapTo(mapType, renderer.getCamera(), game, saveState);
+  }
 
-    if (currentMap != MapType.NONE) {
-      getCurrentMap().dispose();
+  /**
+   * Switch to a map, viewed through the given camera. Used when there is no renderer, e.g. when
+   * simulating without a display.
+   *
+   * @param mapType map type
+   * @param camera camera following the player
+   * @param game game
+   * @param saveState save state
+   * @return the new game area
+   */
+  public static GameArea switchMapTo(MapType mapType, CameraComponent camera, GdxGame game, boolean saveState) {
+    if (currentGameArea != null) {
+      if (saveState && mapType != currentMap) {
+        suspendCurrent();
+      } else {
+        disposeCurrent();
+      }
     }
 
-    TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
-
-    if (mapType == MapType.FOREST) {
-      currentGameArea = new ForestGameArea(terrainFactory, game);
-      currentGameArea.create();
-    } else if (mapType == MapType.WATER) {
-      currentGameArea = new WaterGameArea(terrainFactory, game);
-      currentGameArea.create();
+    SuspendedArea suspended = suspendedAreas.remove(mapType);
+    if (suspended != null) {
+      logger.info("Resuming {}", mapType);
+      currentGameArea = suspended.area;
+      resume(suspended, camera);
+    } else {
+      currentGameArea = takePending(mapType);
+      if (currentGameArea == null) {
+        currentGameArea = createArea(mapType, camera, game);
+      }
+      if (currentGameArea != null) {
+        create(currentGameArea);
+        // The camera is shared with suspended players, which disable it
+        camera.setEnabled(true);
+      }
+    }
+    if (currentGameArea != null && ServiceLocator.getPhysicsService() != null) {
+      ServiceLocator.getPhysicsService().getPhysics().applySettings(currentGameArea.getPhysicsSettings());
     }
 
     previousMap = currentMap;
@@ -63,6 +109,101 @@ public class MapHandler {
     return currentGameArea;
   }
 
+  /**
+   * Start loading a map in the background, so switching to it later doesn't stall the game. Its
+   * assets are loaded a little each {@link #update()}, then its terrain is prepared. Does nothing if
+   * the map is current or suspended. Replaces any other preloaded map.
+   *
+   * @param mapType map type
+   * @param renderer renderer
+   * @param game game
+   */
+  public static void preload(MapType mapType, Renderer renderer, GdxGame game) {
+    preload(mapType, renderer.getCamera(), game);
+  }
+
+  /**
+   * Start loading a map in the background, viewed through the given camera.
+   *
+   * @param mapType map type
+   * @param camera camera following the player
+   * @param game game
+   */
+  public static void preload(MapType mapType, CameraComponent camera, GdxGame game) {
+    if (mapType == currentMap || suspendedAreas.containsKey(mapType)) {
+      return;
+    }
+    if (pendingArea != null) {
+      if (pendingArea.mapType == mapType) {
+        return;
+      }
+      discardPending();
+    }
+
+    GameArea area = createArea(mapType, camera, game);
+    if (area == null) {
+      return;
+    }
+    logger.debug("Preloading {}", mapType);
+    area.queueAssets();
+    pendingArea = new PendingArea(mapType, area);
+  }
+
+  /**
+   * Continue preloading, if a map is being preloaded. Call once per frame. Loads assets for a few
+   * milliseconds, then prepares the area once they're all loaded.
+   */
+  public static void update() {
+    if (pendingArea == null || pendingArea.prepared != null) {
+      return;
+    }
+    if (ServiceLocator.getResourceService().loadForMillis(PRELOAD_MILLIS)) {
+      logger.debug("Preparing {}", pendingArea.mapType);
+      pendingArea.prepared = pendingArea.area.prepare();
+    }
+  }
+
+  /**
+   * @param mapType map type
+   * @return true if the map has been preloaded and prepared, so switching to it is quick
+   */
+  public static boolean isReady(MapType mapType) {
+    if (mapType == currentMap || suspendedAreas.containsKey(mapType)) {
+      return true;
+    }
+    return pendingArea != null
+        && pendingArea.mapType == mapType
+        && pendingArea.prepared != null
+        && pendingArea.prepared.isDone();
+  }
+
+  /**
+   * Set how many entities suspended areas may keep in total. Areas over the budget are disposed
+   * when they are switched away from, oldest first.
+   *
+   * @param maxEntities number of entities, or 0 to never keep suspended areas
+   */
+  public static void setSuspendBudget(int maxEntities) {
+    suspendBudget = maxEntities;
+    trimSuspended();
+  }
+
+  /**
+   * Forget every map, e.g. before the screen's services are disposed. Suspended areas are disposed
+   * and the preloaded map is dropped. The current area is left to be disposed with the entity
+   * service.
+   */
+  public static void clear() {
+    discardPending();
+    for (SuspendedArea suspended : suspendedAreas.values()) {
+      dispose(suspended);
+    }
+    suspendedAreas.clear();
+    currentGameArea = null;
+    currentMap = MapType.NONE;
+    previousMap = MapType.NONE;
+  }
+
   /**
    * Get current map
    *
@@ -81,6 +222,12 @@ public class MapHandler {
    * @return map
    */
   public static GameArea getMap(MapType mapType) {
+    if (mapType != currentMap) {
+      SuspendedArea suspended = suspendedAreas.get(mapType);
+      if (suspended != null) {
+        return suspended.area;
+      }
+    }
     switch (mapType) {
       case FOREST:
         return (ForestGameArea) currentGameArea;
@@ -91,6 +238,148 @@ public class MapHandler {
     }
   }
 
+  private static GameArea createArea(MapType mapType, CameraComponent camera, GdxGame game) {
+    TerrainFactory terrainFactory = new TerrainFactory(camera);
+    switch (mapType) {
+      case FOREST:
+        return new ForestGameArea(terrainFactory, game);
+      case WATER:
+        return new WaterGameArea(terrainFactory, game);
+      default:
+        return null;
+    }
+  }
+
+  /** Create an area, claiming the stage actors it adds so they can be hidden while suspended. */
+  private static void create(GameArea area) {
+    Stage stage = ServiceLocator.getRenderService() == null
+        ? null
+        : ServiceLocator.getRenderService().getStage();
+    Array<Actor> existing = stage == null ? null : new Array<>(stage.getActors());
+    area.create();
+    if (stage != null) {
+      area.claimStageActors(stage.getActors(), existing);
+    }
+  }
+
+  private static void suspendCurrent() {
+    logger.info("Suspending {}", currentMap);
+    currentGameArea.suspend();
+    ChunkState chunks = null;
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null) {
+      chunks = physicsService.getPhysics().getChunks().save();
+    }
+    if (ServiceLocator.getPathfindingService() != null) {
+      ServiceLocator.getPathfindingService().clear();
+    }
+    suspendedAreas.put(currentMap, new SuspendedArea(currentGameArea, chunks));
+    currentGameArea = null;
+    trimSuspended();
+  }
+
+  private static void disposeCurrent() {
+    currentGameArea.dispose();
+    if (ServiceLocator.getPhysicsService() != null) {
+      ServiceLocator.getPhysicsService().getPhysics().getChunks().clear();
+    }
+    if (ServiceLocator.getPathfindingService() != null) {
+      ServiceLocator.getPathfindingService().clear();
+    }
+    currentGameArea = null;
+  }
+
+  private static void resume(SuspendedArea suspended, CameraComponent camera) {
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null && suspended.chunks != null) {
+      physicsService.getPhysics().getChunks().restore(suspended.chunks);
+    }
+    Entity player = suspended.area.getPlayer();
+    if (player != null) {
+      // The camera follows the player it was added to last
+      camera.setEntity(player);
+    }
+    suspended.area.resume();
+  }
+
+  /** Dispose suspended areas, oldest first, until they fit in the budget. */
+  private static void trimSuspended() {
+    int total = 0;
+    for (SuspendedArea suspended : suspendedAreas.values()) {
+      total += suspended.entityCount;
+    }
+    Iterator<Map.Entry<MapType, SuspendedArea>> iterator = suspendedAreas.entrySet().iterator();
+    while (total > suspendBudget && iterator.hasNext()) {
+      Map.Entry<MapType, SuspendedArea> oldest = iterator.next();
+      logger.info("Disposing suspended {} with {} entities, over the budget of {}",
+          oldest.getKey(), oldest.getValue().entityCount, suspendBudget);
+      total -= oldest.getValue().entityCount;
+      iterator.remove();
+      dispose(oldest.getValue());
+    }
+  }
+
+  private static void dispose(SuspendedArea suspended) {
+    suspended.area.dispose();
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null && suspended.chunks != null) {
+      physicsService.getPhysics().getChunks().discard(suspended.chunks);
+    }
+  }
+
+  /** Take the preloaded area if it is for this map. Anything it hasn't finished is done in create(). */
+  private static GameArea takePending(MapType mapType) {
+    if (pendingArea == null || pendingArea.mapType != mapType) {
+      return null;
+    }
+    GameArea area = pendingArea.area;
+    pendingArea = null;
+    return area;
+  }
+
+  private static void discardPending() {
+    if (pendingArea == null) {
+      return;
+    }
+    logger.debug("Dropping preloaded {}", pendingArea.mapType);
+    GameArea area = pendingArea.area;
+    if (pendingArea.prepared != null) {
+      pendingArea.prepared.join();
+      if (area.terrain != null) {
+        area.terrain.dispose();
+      }
+    }
+    if (ServiceLocator.getResourceService() != null) {
+      area.unloadAssets();
+    }
+    pendingArea = null;
+  }
+
+  /** An area kept in memory while another is active */
+  private static class SuspendedArea {
+    private final GameArea area;
+    private final ChunkState chunks;
+    private final int entityCount;
+
+    private SuspendedArea(GameArea area, ChunkState chunks) {
+      this.area = area;
+      this.chunks = chunks;
+      this.entityCount = area.getEntityCount();
+    }
+  }
+
+  /** An area being loaded in the background before it is switched to */
+  private static class PendingArea {
+    private final MapType mapType;
+    private final GameArea area;
+    private CompletableFuture<Void> prepared;
+
+    private PendingArea(MapType mapType, GameArea area) {
+      this.mapType = mapType;
+      this.area = area;
+    }
+  }
+
   /**
    * Map types
    */
@@ -16,6 +16,7 @@ import com.csse3200.game.areas.MapHandler.MapType;
 import com.csse3200.game.areas.terrain.TerrainChunk;
 import com.csse3200.game.areas.terrain.TerrainComponent;
 import com.csse3200.game.entities.factories.*;
+import com.csse3200.game.physics.PhysicsSettings;
 import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.areas.terrain.TerrainLoader;
 import com.csse3200.game.utils.math.RandomUtils;
@@ -23,9 +24,11 @@ import com.csse3200.game.services.AudioManager;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.components.gamearea.GameAreaDisplay;
+import com.csse3200.game.concurrency.JobSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /////////////////// This is the temporary game area to test map switching //////////////////////
@@ -40,6 +43,8 @@ public class WaterGameArea extends GameArea {
   private final Map<Integer, Entity> dynamicItems = new HashMap<>();
   private int totalItems = 0;
   private Entity player;
+  private boolean assetsQueued = false;
+  private CompletableFuture<Void> terrainReady;
 
   private final GdxGame game;
 
@@ -138,11 +143,32 @@ public class WaterGameArea extends GameArea {
   }
 
   private void spawnTerrain() {
-    // Background terrain
-    terrain = terrainFactory.createTerrain(TerrainType.FOREST_DEMO, PLAYER_SPAWN, MAP_SIZE, MapType.FOREST);
+    // Background terrain, which may have been prepared before the area was switched to
+    prepare().join();
     spawnEntity(new Entity().addComponent(terrain));
   }
 
+  /**
+   * Create the terrain and generate the chunks around the player's spawn in the background. Assets
+   * must be loaded or queued.
+   *
+   * @return chunk generation still running
+   */
+  @Override
+  public CompletableFuture<Void> prepare() {
+    if (terrainReady == null) {
+      loadAssets();
+      terrain = terrainFactory.createTerrain(TerrainType.FOREST_DEMO, PLAYER_SPAWN, MAP_SIZE, MapType.FOREST);
+      TerrainComponent newTerrain = terrain;
+      GridPoint2 spawnChunk = TerrainLoader.posToChunk(new Vector2(PLAYER_SPAWN.x, PLAYER_SPAWN.y));
+      terrainReady = JobSystem.launch(() -> {
+        newTerrain.fillChunks(spawnChunk, TerrainComponent.LOAD_RADIUS);
+        return null;
+      });
+    }
+    return terrainReady;
+  }
+
   private void spawnTrees() {
     GridPoint2 minPos = new GridPoint2(PLAYER_SPAWN.x - 10, PLAYER_SPAWN.y - 10);
     GridPoint2 maxPos = new GridPoint2(PLAYER_SPAWN.x + 10, PLAYER_SPAWN.y + 10);
@@ -152,6 +178,8 @@ public class WaterGameArea extends GameArea {
       Entity tree = ObstacleFactory.createTree();
       spawnEntityAt(tree, randomPos, true, false);
     }
+    // Merge the trees into one static body per chunk
+    ServiceLocator.getPhysicsService().getPhysics().getChunks().commit();
   }
 
   /**
@@ -240,23 +268,23 @@ public class WaterGameArea extends GameArea {
     Supplier<Entity> generator;
 
     // Cow
-    generator = () -> NPCFactory.createCow(player, this.enemies);
+    generator = () -> NPCFactory.createCow(player);
     spawnRandomNPC(generator, config.spawns.NUM_COWS);
 
     // Lion
-    generator = () -> NPCFactory.createLion(player, this.enemies);
+    generator = () -> NPCFactory.createLion(player);
     spawnRandomNPC(generator, config.spawns.NUM_LIONS);
 
     // Turtle
-    generator = () -> NPCFactory.createTurtle(player, this.enemies);
+    generator = () -> NPCFactory.createTurtle(player);
     spawnRandomNPC(generator, config.spawns.NUM_TURTLES);
 
     // Eagle
-    generator = () -> NPCFactory.createEagle(player, this.enemies);
+    generator = () -> NPCFactory.createEagle(player);
     spawnRandomNPC(generator, config.spawns.NUM_EAGLES);
 
     // Snake
-    generator = () -> NPCFactory.createSnake(player, this.enemies);
+    generator = () -> NPCFactory.createSnake(player);
     spawnRandomNPC(generator, config.spawns.NUM_SNAKES);
   }
 
@@ -297,13 +325,28 @@ public class WaterGameArea extends GameArea {
     }
   }
 
-  public void loadAssets() {
-    logger.debug("LOADING ASSETS");
+  /**
+   * Queue the area's assets without waiting for them, e.g. to load them in the background before
+   * switching to this area. Only queues them once.
+   */
+  @Override
+  public void queueAssets() {
+    if (assetsQueued) {
+      return;
+    }
+    assetsQueued = true;
+    logger.debug("QUEUEING ASSETS");
     ResourceService resourceService = ServiceLocator.getResourceService();
     resourceService.loadTextures(config.textures.forestTextures);
     resourceService.loadTextureAtlases(config.textures.forestTextureAtlases);
     resourceService.loadSounds(config.sounds.gameSounds);
     resourceService.loadMusic(config.sounds.gameMusic);
+  }
+
+  public void loadAssets() {
+    logger.debug("LOADING ASSETS");
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    queueAssets();
 
     while (!resourceService.loadForMillis(10)) {
       // This could be upgraded to a loading screen
@@ -318,6 +361,7 @@ public class WaterGameArea extends GameArea {
     resourceService.unloadAssets(config.textures.forestTextureAtlases);
     resourceService.unloadAssets(config.sounds.gameSounds);
     resourceService.unloadAssets(config.sounds.gameMusic);
+    assetsQueued = false;
   }
 
   @Override
@@ -351,4 +395,9 @@ public class WaterGameArea extends GameArea {
   public List<Entity> getEnemies() {
     return enemies;
   }
+
+  @Override
+  public PhysicsSettings getPhysicsSettings() {
+    return OVERWORLD_PHYSICS;
+  }
 }
@@ -8,6 +8,7 @@ import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.RandomXS128;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
@@ -57,14 +58,16 @@ public class TerrainChunk {
    * @param chunkPos        The position of this chunk in the world
    * @param loadedChunks    The chunks of terrain that are currently loaded
    * @param terrainResource The terrain resource to use for generating the terrain
+   * @param random          Random generator owned by the terrain, since MathUtils.random is
+   *                        shared with the render thread
    */
   public void generateTiles(GridPoint2 chunkPos, Map<GridPoint2, TerrainChunk> loadedChunks,
-                            TerrainResource terrainResource) {
+                            TerrainResource terrainResource, RandomXS128 random) {
     int cPosX = chunkPos.x * CHUNK_SIZE;
     int cPosY = chunkPos.y * CHUNK_SIZE;
 
     while (true)
-      if (collapseAll(cPosX, cPosY, terrainResource))
+      if (collapseAll(cPosX, cPosY, terrainResource, random))
         break;
   }
 
@@ -75,10 +78,11 @@ public class TerrainChunk {
    * @param cPosX           x position of the chunk
    * @param cPosY           y position of the chunk
    * @param terrainResource Terrain resource to use for generating the terrain
+   * @param random          Random generator to pick tiles with
    *
    * @return true if all tiles are collapsed, false otherwise
    */
-  private boolean collapseAll(int cPosX, int cPosY, TerrainResource terrainResource) {
+  private boolean collapseAll(int cPosX, int cPosY, TerrainResource terrainResource, RandomXS128 random) {
     boolean allCollapsed = true;
     for (int t = 0; t < 256; ++t) {
 
@@ -101,7 +105,7 @@ public class TerrainChunk {
       if (minentropyTiles.size == 0)
         break;
 
-      Integer randomTile = minentropyTiles.random();
+      Integer randomTile = minentropyTiles.get(random.nextInt(minentropyTiles.size));
       // int randomTile = t;
       GridPoint2 toGridpos = new GridPoint2(randomTile % 16, randomTile / 16);
 
@@ -109,7 +113,7 @@ public class TerrainChunk {
       int numTrueBits = grid.get(randomTile).cardinality();
       int randomTrueBitIndex = 0;
       if (numTrueBits > 0) {
-        int randomIndex = ((int) (Math.random() * numTrueBits));
+        int randomIndex = random.nextInt(numTrueBits);
         randomTrueBitIndex = grid.get(randomTile).nextSetBit(0);
         for (int i = 0; i < randomIndex; i++)
           randomTrueBitIndex = grid.get(randomTile).nextSetBit(randomTrueBitIndex + 1);
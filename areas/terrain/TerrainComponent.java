@@ -6,12 +6,15 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.areas.MapHandler.MapType;
 import com.csse3200.game.areas.ForestGameAreaConfigs.ForestTileConfig;
 import com.csse3200.game.areas.ForestGameAreaConfigs.ForestMapTiles;
 import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
@@ -28,6 +31,8 @@ import java.util.*;
 public class TerrainComponent extends RenderComponent {
   private static final Logger logger = LoggerFactory.getLogger(TerrainComponent.class);
   public static final int CHUNK_SIZE = 16;
+  /** Number of chunks loaded on each side of the player's chunk */
+  public static final int LOAD_RADIUS = 3;
 
   private static final int TERRAIN_LAYER = 0;
   private TiledMap tiledMap;
@@ -46,6 +51,8 @@ public class TerrainComponent extends RenderComponent {
 
   private Map<GridPoint2, TerrainChunk> loadedChunks = new HashMap<>();
   private TerrainResource terrainResource;
+  // Chunk generation may run off the render thread, so it can't share MathUtils.random
+  private final RandomXS128 random = new RandomXS128();
 
   private TiledMapRenderer renderer;
 
@@ -109,7 +116,7 @@ public class TerrainComponent extends RenderComponent {
                     chunkPos.y >= ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getHeight()))
       return;
 
-    chunk.generateTiles(chunkPos, loadedChunks, terrainResource);
+    chunk.generateTiles(chunkPos, loadedChunks, terrainResource, random);
     loadedChunks.put(chunkPos, chunk);
   }
 
@@ -119,7 +126,25 @@ public class TerrainComponent extends RenderComponent {
    * @param chunkPos The position of the chunk to load around
    */
   public void loadChunks(GridPoint2 chunkPos) {
-    loadChunks(chunkPos, 3);
+    loadChunks(chunkPos, LOAD_RADIUS);
+  }
+
+  /**
+   * Fill all chunks in a given radius around the given chunk position without activating them, so
+   * loading them later is cheap. Tiles are picked with this terrain's own random generator rather
+   * than the shared MathUtils.random, and only this terrain's map and chunks are written, so it can
+   * run off the render thread as long as nothing else uses the terrain yet.
+   *
+   * @param chunkPos The position of the chunk to fill around
+   * @param r        The number of chunks away to fill
+   */
+  public void fillChunks(GridPoint2 chunkPos, int r) {
+    // Same order as loadChunks, since each chunk is generated to match its loaded neighbours
+    for (int dx = -r; dx <= r; dx++) {
+      for (int dy = -r; dy <= r; dy++) {
+        fillChunk(new GridPoint2(chunkPos.x + dx, chunkPos.y + dy));
+      }
+    }
   }
 
   /**
@@ -158,6 +183,12 @@ public class TerrainComponent extends RenderComponent {
     oldChunks.clear();
     oldChunks.addAll(previouslyActive);
     oldChunks.removeAll(activeChunks);
+
+    // Only simulate bodies near the player
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null) {
+      physicsService.getPhysics().getChunks().setActiveChunks(activeChunks);
+    }
   }
 
   public TerrainChunk getChunk(GridPoint2 chunkPos) {
@@ -207,8 +238,22 @@ public class TerrainComponent extends RenderComponent {
 
   @Override
   public void draw(SpriteBatch batch) {
+    long start = System.nanoTime();
     tiledMapRenderer.setView(camera);
     tiledMapRenderer.render();
+    ServiceLocator.getRenderService()
+        .getStats()
+        .recordTerrain(getCellsInView(), System.nanoTime() - start);
+  }
+
+  /** @return number of map cells within the camera view, which the map renderer visits */
+  private int getCellsInView() {
+    TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+    float viewWidth = camera.viewportWidth * camera.zoom;
+    float viewHeight = camera.viewportHeight * camera.zoom;
+    int columns = Math.min(layer.getWidth(), (int) Math.ceil(viewWidth / tileSize) + 1);
+    int rows = Math.min(layer.getHeight(), (int) Math.ceil(viewHeight / tileSize) + 1);
+    return columns * rows;
   }
 
   @Override
@@ -227,6 +272,12 @@ public class TerrainComponent extends RenderComponent {
     return TERRAIN_LAYER;
   }
 
+  @Override
+  public boolean getBounds(Rectangle bounds) {
+    // The tiled map renderer already only draws tiles within the camera view
+    return false;
+  }
+
   public TiledMap getTiledMap()
   {
 
@@ -261,7 +312,7 @@ public class TerrainComponent extends RenderComponent {
             // edge: TOP, RIGHT, BOTTOM, LEFT
             // A: sand, B: grass, C: water
             // =======================
-            tiles.add(new Tile(tile.id, new TextureRegion(resourceService.getAsset(tile.fp, Texture.class)), tile.edges));
+            tiles.add(new Tile(tile.id, resourceService.getTextureRegion(tile.fp), tile.edges));
             TILE_SIZE = tiles.size();
           }
           break;
@@ -0,0 +1,11 @@
+package com.csse3200.game.concurrency;
+
+/**
+ * Thrown when a job run through the {@link JobSystem} parallel primitives fails. The cause is the
+ * exception thrown by the job which failed first in submission order.
+ */
+public class JobException extends RuntimeException {
+  public JobException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,167 @@
+package com.csse3200.game.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A small dependency graph of jobs for one frame of work. Jobs are added along with the jobs they
+ * depend on, and start on the {@link JobSystem} pool as soon as all their dependencies finish.
+ * Calling {@link #join()} waits for the whole graph.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * JobGraph graph = new JobGraph();
+ * JobGraph.Job a = graph.add("a", this::updateA);
+ * JobGraph.Job b = graph.add("b", this::updateB);
+ * graph.add("c", this::combine, a, b); // Runs after both a and b
+ * graph.join();
+ * </pre>
+ *
+ * <p>Dependencies must be added before the jobs that depend on them, so the graph can never contain
+ * a cycle. If a job throws, every job depending on it (directly or not) is skipped, and join()
+ * throws a {@link JobException} for the first failing job in the order jobs were added.
+ *
+ * <p>Whether the graph runs single-threaded is decided when it is created, by
+ * {@link JobSystem#isSingleThreaded()}.
+ */
+public class JobGraph {
+  private static final Logger logger = LoggerFactory.getLogger(JobGraph.class);
+  private final List<Job> jobs = new ArrayList<>();
+  // Captured once, so toggling the mode between add() and join() can't mix the two
+  private final boolean singleThreaded = JobSystem.isSingleThreaded();
+  private boolean joined = false;
+
+  /**
+   * Add a job to the graph. When not in single-threaded mode, the job may start immediately.
+   *
+   * @param name Name used when reporting errors
+   * @param work Work to run. Must be safe to run concurrently with jobs it doesn't depend on.
+   * @param dependencies Jobs from this graph which must finish before this one starts
+   * @return The added job, which can be used as a dependency of later jobs
+   */
+  public Job add(String name, Runnable work, Job... dependencies) {
+    if (joined) {
+      throw new IllegalStateException("Cannot add job " + name + " to a graph after join()");
+    }
+    for (Job dependency : dependencies) {
+      if (dependency.graph != this) {
+        throw new IllegalArgumentException(
+            "Job " + name + " depends on " + dependency.name + " from another graph");
+      }
+    }
+
+    Job job = new Job(this, name, work, dependencies);
+    jobs.add(job);
+    if (!singleThreaded) {
+      CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[dependencies.length];
+      for (int i = 0; i < dependencies.length; i++) {
+        dependencyFutures[i] = dependencies[i].future;
+      }
+      job.future =
+          JobSystem.launchAfter(
+              () -> {
+                // Complete exceptionally so dependent jobs are skipped
+                if (!job.run()) {
+                  throw new CompletionException(job.error);
+                }
+              },
+              dependencyFutures);
+    }
+    return job;
+  }
+
+  /**
+   * Wait for every job in the graph to finish or be skipped. In single-threaded mode, this is
+   * where the jobs run, in the order they were added. Should be called once per graph.
+   *
+   * @throws JobException if any job failed
+   */
+  public void join() {
+    joined = true;
+    if (singleThreaded) {
+      for (Job job : jobs) {
+        if (job.canRun()) {
+          job.run();
+        }
+      }
+    } else {
+      for (Job job : jobs) {
+        // Failed and skipped jobs complete exceptionally, errors are collected below instead
+        job.future.handle((result, e) -> null).join();
+      }
+    }
+
+    JobException failure = null;
+    for (Job job : jobs) {
+      if (job.error == null) {
+        continue;
+      }
+      if (failure == null) {
+        failure = new JobException("Job " + job.name + " failed", job.error);
+      } else {
+        failure.addSuppressed(job.error);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /** @return Number of jobs added to the graph */
+  public int size() {
+    return jobs.size();
+  }
+
+  /** A single job in a {@link JobGraph}. */
+  public static class Job {
+    private final JobGraph graph;
+    private final String name;
+    private final Runnable work;
+    private final Job[] dependencies;
+    private CompletableFuture<Void> future;
+    private volatile boolean finished = false;
+    private volatile Throwable error;
+
+    private Job(JobGraph graph, String name, Runnable work, Job[] dependencies) {
+      this.graph = graph;
+      this.name = name;
+      this.work = work;
+      this.dependencies = dependencies;
+    }
+
+    /** @return true once the job has run without throwing */
+    public boolean isFinished() {
+      return finished;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    private boolean canRun() {
+      for (Job dependency : dependencies) {
+        if (!dependency.finished) {
+          logger.debug("Skipping job {}, dependency {} did not finish", name, dependency.name);
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean run() {
+      try {
+        work.run();
+        finished = true;
+      } catch (Throwable e) {
+        error = e;
+        logger.error("Job {} failed", name, e);
+      }
+      return finished;
+    }
+  }
+}
@@ -3,7 +3,12 @@ package com.csse3200.game.concurrency;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A job system provides a general-purpose way to run multi-threaded code. This is a recommended
@@ -13,13 +18,19 @@ import java.util.function.Supplier;
  * Wiki/Concurrency for details.
  */
 public class JobSystem {
+  private static final Logger logger = LoggerFactory.getLogger(JobSystem.class);
 
   /**
    * Our main thread pool uses work stealing, which is based on Java's ForkJoinPool. This maintains
    * one permanent thread per CPU core, where each thread has a queue of tasks to run. Threads may
    * steal tasks from other busy threads. This means that we don't need a thread per task.
    */
-  private static final ExecutorService executor = Executors.newWorkStealingPool();
+  private static final ForkJoinPool executor =
+      new ForkJoinPool(
+          Runtime.getRuntime().availableProcessors(),
+          ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+          null,
+          true);
 
   /**
    * We also maintain a second thread pool for any blocking operations, since we don't want one of
@@ -57,6 +68,152 @@ public class JobSystem {
     return CompletableFuture.supplyAsync(supplier, blockingExecutor);
   }
 
+  /**
+   * When set, parallel primitives ({@link #parallelFor} and {@link JobGraph}) run in order on the
+   * calling thread instead of the pool. Useful for debugging races or stepping through jobs.
+   */
+  private static volatile boolean singleThreaded = false;
+
+  /**
+   * Run the body once for every index in [from, to), splitting the range into chunks of roughly
+   * grain indices which are executed across the work-stealing pool. Blocks until every index has
+   * been processed. The body must be safe to run concurrently for different indices.
+   *
+   * <p>If any chunk throws, the remaining chunks still run to completion, and the exception from
+   * the lowest failing chunk is rethrown wrapped in a {@link JobException}. Failures in other
+   * chunks are attached as suppressed exceptions, so the reported error doesn't depend on thread
+   * timing.
+   *
+   * @param from First index (inclusive)
+   * @param to Last index (exclusive)
+   * @param grain Maximum number of indices processed by a single job, at least 1
+   * @param body Work to run for each index
+   */
+  public static void parallelFor(int from, int to, int grain, IntConsumer body) {
+    if (grain < 1) {
+      throw new IllegalArgumentException("Grain size must be at least 1, got " + grain);
+    }
+    if (to <= from) {
+      return;
+    }
+
+    int chunks = (int) (((long) to - from + grain - 1) / grain);
+    Throwable[] errors = new Throwable[chunks];
+    if (singleThreaded || chunks == 1) {
+      for (int chunk = 0; chunk < chunks; chunk++) {
+        runChunk(from, to, grain, chunk, body, errors);
+      }
+    } else {
+      executor.invoke(new RangeAction(from, to, grain, 0, chunks, body, errors));
+    }
+
+    JobException failure = null;
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      if (errors[chunk] == null) {
+        continue;
+      }
+      if (failure == null) {
+        failure = new JobException("parallelFor failed in chunk " + chunk, errors[chunk]);
+      } else {
+        failure.addSuppressed(errors[chunk]);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Enable or disable single-threaded mode for the parallel primitives.
+   *
+   * @param enabled true to run parallel work in order on the calling thread
+   */
+  public static void setSingleThreaded(boolean enabled) {
+    logger.info("Setting job system single-threaded mode to {}", enabled);
+    singleThreaded = enabled;
+  }
+
+  /** @return true if parallel work is currently run on the calling thread */
+  public static boolean isSingleThreaded() {
+    return singleThreaded;
+  }
+
+  /** @return Number of worker threads in the main pool */
+  public static int getParallelism() {
+    return executor.getParallelism();
+  }
+
+  /**
+   * Run a task on the main work-stealing pool. Used by {@link JobGraph} to schedule its jobs.
+   *
+   * @param task task to run
+   * @param dependencies futures which must complete before the task starts
+   * @return future completing once the task has run
+   */
+  static CompletableFuture<Void> launchAfter(Runnable task, CompletableFuture<?>[] dependencies) {
+    if (dependencies.length == 0) {
+      return CompletableFuture.runAsync(task, executor);
+    }
+    return CompletableFuture.allOf(dependencies).thenRunAsync(task, executor);
+  }
+
+  private static void runChunk(
+      int from, int to, int grain, int chunk, IntConsumer body, Throwable[] errors) {
+    // Long arithmetic, chunks near Integer.MAX_VALUE would overflow an int
+    int start = (int) (from + (long) chunk * grain);
+    int end = (int) Math.min(to, (long) start + grain);
+    try {
+      for (int i = start; i < end; i++) {
+        body.accept(i);
+      }
+    } catch (Throwable e) {
+      errors[chunk] = e;
+    }
+  }
+
+  /**
+   * Recursively splits a range of chunks in half until a single chunk remains. Splitting on chunk
+   * boundaries keeps the chunk an index belongs to independent of how work was stolen.
+   */
+  private static class RangeAction extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int grain;
+    private final int firstChunk;
+    private final int lastChunk;
+    private final IntConsumer body;
+    private final Throwable[] errors;
+
+    RangeAction(
+        int from,
+        int to,
+        int grain,
+        int firstChunk,
+        int lastChunk,
+        IntConsumer body,
+        Throwable[] errors) {
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+      this.firstChunk = firstChunk;
+      this.lastChunk = lastChunk;
+      this.body = body;
+      this.errors = errors;
+    }
+
+    @Override
+    protected void compute() {
+      if (lastChunk - firstChunk == 1) {
+        runChunk(from, to, grain, firstChunk, body, errors);
+        return;
+      }
+      int mid = (firstChunk + lastChunk) >>> 1;
+      invokeAll(
+          new RangeAction(from, to, grain, firstChunk, mid, body, errors),
+          new RangeAction(from, to, grain, mid, lastChunk, body, errors));
+    }
+  }
+
   private JobSystem() {
     throw new IllegalStateException("Instantiating static util class");
   }
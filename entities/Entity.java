@@ -6,7 +6,6 @@ import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.events.EventHandler;
-import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,8 +32,17 @@ public class Entity {
   private final IntMap<Component> components;
   private final EventHandler eventHandler;
   private boolean enabled = true;
+  // Whether the entity and its components were enabled when suspended, restored when resumed
+  private boolean enabledBeforeSuspend = true;
+  private boolean[] componentsEnabledBeforeSuspend;
   private boolean created = false;
+  private boolean disposed = false;
+  private int category = EntityCategory.NONE;
+  private SpatialHash spatialHash;
+  private long spatialCell;
   private Vector2 position = Vector2.Zero.cpy();
+  private final Vector2 renderPosition = new Vector2();
+  private boolean hasRenderPosition = false;
   private Vector2 scale = new Vector2(1, 1);
   private Array<Component> createdComponents;
   private EnemyType enemyType;
@@ -83,6 +91,38 @@ public class Entity {
     }
   }
 
+  /**
+   * Suspend or resume the entity. A suspended entity is disabled and its components leave the
+   * services they're registered with, e.g. rendering and input, but it keeps its state. Resuming
+   * restores whether it and each of its components were enabled before. Called by the entity service, see
+   * {@link EntityService#suspend(Entity)}.
+   *
+   * @param suspended true to suspend, false to resume
+   */
+  public void setSuspended(boolean suspended) {
+    if (suspended) {
+      enabledBeforeSuspend = enabled;
+      componentsEnabledBeforeSuspend = new boolean[createdComponents.size];
+      for (int i = 0; i < createdComponents.size; i++) {
+        componentsEnabledBeforeSuspend[i] = createdComponents.get(i).isEnabled();
+      }
+      setEnabled(false);
+    } else {
+      setEnabled(enabledBeforeSuspend);
+      if (componentsEnabledBeforeSuspend != null) {
+        // Components created while suspended keep the entity's state
+        int count = Math.min(createdComponents.size, componentsEnabledBeforeSuspend.length);
+        for (int i = 0; i < count; i++) {
+          createdComponents.get(i).setEnabled(componentsEnabledBeforeSuspend[i]);
+        }
+        componentsEnabledBeforeSuspend = null;
+      }
+    }
+    for (Component component : createdComponents) {
+      component.setSuspended(suspended);
+    }
+  }
+
   public boolean getEnabled(){
     return enabled;
   }
@@ -95,6 +135,16 @@ public class Entity {
     return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Get the entity's game position without allocating a new vector.
+   *
+   * @param out vector to store the position in
+   * @return out
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(position);
+  }
+
   /**
    * Set the entity's game position.
    *
@@ -102,6 +152,8 @@ public class Entity {
    */
   public void setPosition(Vector2 position) {
     this.position = position.cpy();
+    hasRenderPosition = false;
+    updateSpatialHash();
     getEvents().trigger(EVT_NAME_POS, position.cpy());
   }
 
@@ -114,6 +166,8 @@ public class Entity {
   public void setPosition(float x, float y) {
     this.position.x = x;
     this.position.y = y;
+    hasRenderPosition = false;
+    updateSpatialHash();
     getEvents().trigger(EVT_NAME_POS, position.cpy());
   }
 
@@ -125,11 +179,83 @@ public class Entity {
    */
   public void setPosition(Vector2 position, boolean notify) {
     this.position = position;
+    hasRenderPosition = false;
+    updateSpatialHash();
     if (notify) {
       getEvents().trigger(EVT_NAME_POS, position);
     }
   }
 
+  /**
+   * Set where the entity is drawn until its game position next changes, e.g. blended between
+   * physics steps. Gameplay code should keep using {@link #getPosition()}.
+   *
+   * @param position position to draw the entity at
+   */
+  public void setRenderPosition(Vector2 position) {
+    renderPosition.set(position);
+    hasRenderPosition = true;
+  }
+
+  /**
+   * Get the position the entity is drawn at. This is the game position unless a render position has
+   * been set since it last changed.
+   *
+   * @param out vector to store the position in
+   * @return out
+   */
+  public Vector2 getRenderPosition(Vector2 out) {
+    return out.set(hasRenderPosition ? renderPosition : position);
+  }
+
+  private void updateSpatialHash() {
+    if (spatialHash != null) {
+      spatialHash.update(this);
+    }
+  }
+
+  /**
+   * Get the categories this entity is indexed under in the spatial hash.
+   *
+   * @return category bits, see {@link EntityCategory}
+   */
+  public int getCategory() {
+    return category;
+  }
+
+  /**
+   * Set the categories this entity is indexed under in the spatial hash. Entities with no category
+   * aren't indexed.
+   *
+   * @param category category bits, see {@link EntityCategory}
+   * @return Itself
+   */
+  public Entity setCategory(int category) {
+    this.category = category;
+    if (created && !disposed) {
+      SpatialHash hash = ServiceLocator.getEntityService().getSpatialHash();
+      if (category == EntityCategory.NONE) {
+        hash.remove(this);
+      } else {
+        hash.add(this);
+      }
+    }
+    return this;
+  }
+
+  SpatialHash getSpatialHash() {
+    return spatialHash;
+  }
+
+  long getSpatialCell() {
+    return spatialCell;
+  }
+
+  void setSpatialCell(SpatialHash spatialHash, long spatialCell) {
+    this.spatialHash = spatialHash;
+    this.spatialCell = spatialCell;
+  }
+
   /**
    * Get the entity's scale. Used for rendering and physics bounding box calculations.
    *
@@ -139,6 +265,16 @@ public class Entity {
     return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Get the entity's scale without allocating a new vector.
+   *
+   * @param out vector to store the scale in
+   * @return out
+   */
+  public Vector2 getScale(Vector2 out) {
+    return out.set(scale);
+  }
+
   /**
    * Set the entity's scale.
    *
@@ -258,12 +394,18 @@ public class Entity {
   
   /** Dispose of the entity. This will dispose of all components on this entity. */
   public void dispose() {
+    disposed = true;
     for (Component component : createdComponents) {
-      if(!component.getClass().equals(AnimationRenderComponent.class)) component.dispose();
+      component.dispose();
     }
     ServiceLocator.getEntityService().unregister(this);
   }
 
+  /** @return true once the entity has been disposed */
+  public boolean isDisposed() {
+    return disposed;
+  }
+
   /**
    * Create the entity and start running. This is called when the entity is registered in the world,
    * and should not be called manually.
@@ -0,0 +1,22 @@
+package com.csse3200.game.entities;
+
+/**
+ * Category bits for entities in the {@link SpatialHash}. Entities with no category aren't indexed.
+ */
+public class EntityCategory {
+  public static final int NONE = 0;
+  public static final int PLAYER = (1 << 0);
+  public static final int ENEMY = (1 << 1);
+  // Friendly NPCs
+  public static final int NPC = (1 << 2);
+  public static final int ITEM = (1 << 3);
+  public static final int ALL = ~0;
+
+  public static boolean contains(int mask, int category) {
+    return (mask & category) != 0;
+  }
+
+  private EntityCategory() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
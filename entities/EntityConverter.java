@@ -10,17 +10,16 @@ import com.csse3200.game.components.tasks.PauseTask;
 import com.csse3200.game.components.tasks.AvoidTask;
 import com.csse3200.game.entities.configs.BaseEntityConfig;
 import com.csse3200.game.entities.configs.BaseFriendlyEntityConfig;
+import com.csse3200.game.entities.configs.EntityConfigs;
 import com.csse3200.game.entities.configs.NPCConfigs;
 import com.csse3200.game.entities.factories.NPCFactory;
-import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 
 import java.util.List;
 
 public class EntityConverter {
-	private static final NPCConfigs configs =
-			FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
+	private static final NPCConfigs configs = EntityConfigs.getNPCs();
 	
 	public static void convertToFriendly(Entity enemy, Entity player, List<Entity> enemies) {
 		AnimationRenderComponent animator = enemy.getComponent(AnimationRenderComponent.class);
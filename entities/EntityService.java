@@ -1,6 +1,7 @@
 package com.csse3200.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.ai.tasks.AIScheduler;
 import com.csse3200.game.components.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +18,10 @@ public class EntityService {
   private static final int INITIAL_CAPACITY = 16;
 
   private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+  private final Array<Entity> pendingDisposal = new Array<>(false, INITIAL_CAPACITY);
+  private final SpatialHash spatialHash = new SpatialHash();
+  private final AIScheduler aiScheduler = new AIScheduler();
+  private boolean updating = false;
 
   /**
    * Register a new entity with the entity service. The entity will be created and start updating.
@@ -26,6 +31,9 @@ public class EntityService {
     logger.debug("Registering {} in entity service", entity);
     entities.add(entity);
     entity.create();
+    if (entity.getCategory() != EntityCategory.NONE) {
+      spatialHash.add(entity);
+    }
   }
 
   /**
@@ -35,16 +43,90 @@ public class EntityService {
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
     entities.removeValue(entity, true);
+    spatialHash.remove(entity);
+  }
+
+  /**
+   * Dispose an entity once the entities have finished updating, e.g. when it is despawned from an
+   * event fired during another entity's update. Disposes it straight away outside an update.
+   *
+   * @param entity registered entity
+   */
+  public void disposeAfterUpdate(Entity entity) {
+    if (!updating) {
+      entity.dispose();
+    } else if (!pendingDisposal.contains(entity, true)) {
+      pendingDisposal.add(entity);
+    }
+  }
+
+  /**
+   * Take a registered entity out of the game without disposing it, e.g. while its game area is
+   * suspended. It stops updating, rendering, simulating and taking input, and isn't found by
+   * lookups, until it is resumed.
+   *
+   * @param entity registered entity
+   */
+  public void suspend(Entity entity) {
+    if (!entities.removeValue(entity, true)) {
+      return;
+    }
+    spatialHash.remove(entity);
+    entity.setSuspended(true);
   }
 
   /**
-   * Update all registered entities. Should only be called from the main game loop.
+   * Bring back an entity taken out with {@link #suspend(Entity)}.
+   *
+   * @param entity suspended entity
+   */
+  public void resume(Entity entity) {
+    entities.add(entity);
+    entity.setSuspended(false);
+    if (entity.getCategory() != EntityCategory.NONE) {
+      spatialHash.add(entity);
+    }
+  }
+
+  /**
+   * Get the index of registered entity positions, for finding entities near a point.
+   *
+   * @return spatial hash of entities with a category
+   */
+  public SpatialHash getSpatialHash() {
+    return spatialHash;
+  }
+
+  /**
+   * Get the scheduler which runs the AI of registered entities.
+   *
+   * @return AI scheduler
+   */
+  public AIScheduler getAIScheduler() {
+    return aiScheduler;
+  }
+
+  /**
+   * Update all registered entities, then run their AI within the scheduler's budget. Should only be
+   * called from the main game loop.
    */
   public void update() {
-    for (Entity entity : entities) {
-      entity.earlyUpdate();
-      entity.update();
+    updating = true;
+    try {
+      for (Entity entity : entities) {
+        entity.earlyUpdate();
+        entity.update();
+      }
+    } finally {
+      updating = false;
+    }
+    for (Entity entity : pendingDisposal) {
+      if (!entity.isDisposed()) {
+        entity.dispose();
+      }
     }
+    pendingDisposal.clear();
+    aiScheduler.update();
   }
 
   /**
@@ -54,6 +136,9 @@ public class EntityService {
     for (Entity entity : entities) {
       entity.dispose();
     }
+    pendingDisposal.clear();
+    spatialHash.clear();
+    aiScheduler.clear();
   }
 
   /**
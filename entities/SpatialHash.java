@@ -0,0 +1,294 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Uniform grid index of entity positions, so that "what's near me" only looks at the cells around
+ * the query instead of every entity. Entities are indexed once they have a category (see {@link
+ * Entity#setCategory(int)}) and are registered, and are kept up to date by {@link
+ * Entity#setPosition(Vector2)}.
+ *
+ * <p>Queries use the entity's position (bottom left corner) and add their results to a caller
+ * owned array, so they don't allocate.
+ */
+public class SpatialHash {
+  public static final float DEFAULT_CELL_SIZE = 4f;
+
+  private final float cellSize;
+  private final LongMap<Array<Entity>> cells = new LongMap<>();
+  private final Pool<Array<Entity>> cellPool =
+      new Pool<Array<Entity>>() {
+        @Override
+        protected Array<Entity> newObject() {
+          return new Array<>(false, 8);
+        }
+      };
+  private final FloatArray distances = new FloatArray();
+  private final Vector2 position = new Vector2();
+  private int size = 0;
+
+  public SpatialHash() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * @param cellSize width and height of a cell in metres. Around the usual query radius works best.
+   */
+  public SpatialHash(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Index an entity at its current position. Entities are added when they are registered, so this
+   * shouldn't usually be called manually.
+   *
+   * @param entity entity with a category
+   */
+  public void add(Entity entity) {
+    if (entity.getSpatialHash() != null) {
+      return;
+    }
+    entity.getPosition(position);
+    long key = key(cell(position.x), cell(position.y));
+    cellAt(key).add(entity);
+    entity.setSpatialCell(this, key);
+    size++;
+  }
+
+  /**
+   * Stop indexing an entity.
+   *
+   * @param entity indexed entity
+   */
+  public void remove(Entity entity) {
+    if (entity.getSpatialHash() != this) {
+      return;
+    }
+    removeFromCell(entity, entity.getSpatialCell());
+    entity.setSpatialCell(null, 0);
+    size--;
+  }
+
+  /**
+   * Move an entity to the cell of its current position. Cheap when the cell hasn't changed.
+   *
+   * @param entity indexed entity
+   */
+  void update(Entity entity) {
+    entity.getPosition(position);
+    long key = key(cell(position.x), cell(position.y));
+    long oldKey = entity.getSpatialCell();
+    if (key == oldKey) {
+      return;
+    }
+    removeFromCell(entity, oldKey);
+    cellAt(key).add(entity);
+    entity.setSpatialCell(this, key);
+  }
+
+  /**
+   * Find entities within a radius.
+   *
+   * @param center center of the circle
+   * @param radius radius of the circle
+   * @param mask categories to include
+   * @param out array to add the entities to
+   * @return number of entities added
+   */
+  public int queryRadius(Vector2 center, float radius, int mask, Array<Entity> out) {
+    int found = 0;
+    float radius2 = radius * radius;
+    int minX = cell(center.x - radius);
+    int maxX = cell(center.x + radius);
+    int minY = cell(center.y - radius);
+    int maxY = cell(center.y + radius);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Array<Entity> entities = cells.get(key(x, y));
+        if (entities == null) {
+          continue;
+        }
+        for (int i = 0; i < entities.size; i++) {
+          Entity entity = entities.get(i);
+          if (EntityCategory.contains(mask, entity.getCategory())
+              && entity.getPosition(position).dst2(center) <= radius2) {
+            out.add(entity);
+            found++;
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Find entities inside a rectangle.
+   *
+   * @param minX left edge
+   * @param minY bottom edge
+   * @param maxX right edge
+   * @param maxY top edge
+   * @param mask categories to include
+   * @param out array to add the entities to
+   * @return number of entities added
+   */
+  public int queryRect(
+      float minX, float minY, float maxX, float maxY, int mask, Array<Entity> out) {
+    int found = 0;
+    for (int x = cell(minX); x <= cell(maxX); x++) {
+      for (int y = cell(minY); y <= cell(maxY); y++) {
+        Array<Entity> entities = cells.get(key(x, y));
+        if (entities == null) {
+          continue;
+        }
+        for (int i = 0; i < entities.size; i++) {
+          Entity entity = entities.get(i);
+          if (!EntityCategory.contains(mask, entity.getCategory())) {
+            continue;
+          }
+          entity.getPosition(position);
+          if (position.x >= minX && position.x <= maxX && position.y >= minY && position.y <= maxY) {
+            out.add(entity);
+            found++;
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Find the nearest entities to a point, closest first. Cells are searched in growing rings, so
+   * the cost depends on how far away the results are rather than on the number of entities.
+   *
+   * @param center point to search from
+   * @param k maximum number of entities to find
+   * @param maxRadius ignore entities further away than this
+   * @param mask categories to include
+   * @param exclude entity to leave out, e.g. the one searching. May be null.
+   * @param out array to add the entities to
+   * @return number of entities added
+   */
+  public int queryNearest(
+      Vector2 center, int k, float maxRadius, int mask, Entity exclude, Array<Entity> out) {
+    if (k <= 0) {
+      return 0;
+    }
+    int start = out.size;
+    distances.clear();
+    int centerX = cell(center.x);
+    int centerY = cell(center.y);
+    int maxRing = MathUtils.ceil(maxRadius / cellSize);
+    float maxRadius2 = maxRadius * maxRadius;
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int x = centerX - ring; x <= centerX + ring; x++) {
+        for (int y = centerY - ring; y <= centerY + ring; y++) {
+          // Only the outline of the ring, the inside was searched already
+          if (Math.abs(x - centerX) != ring && Math.abs(y - centerY) != ring) {
+            continue;
+          }
+          Array<Entity> entities = cells.get(key(x, y));
+          if (entities != null) {
+            collectNearest(entities, center, k, maxRadius2, mask, exclude, out, start);
+          }
+        }
+      }
+      // Anything in a further ring is at least this far away
+      float reached = ring * cellSize;
+      if (distances.size == k && distances.peek() <= reached * reached) {
+        break;
+      }
+    }
+    return out.size - start;
+  }
+
+  private void collectNearest(
+      Array<Entity> entities,
+      Vector2 center,
+      int k,
+      float maxRadius2,
+      int mask,
+      Entity exclude,
+      Array<Entity> out,
+      int start) {
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
+      if (entity == exclude || !EntityCategory.contains(mask, entity.getCategory())) {
+        continue;
+      }
+      float dst2 = entity.getPosition(position).dst2(center);
+      if (dst2 > maxRadius2 || (distances.size == k && dst2 >= distances.peek())) {
+        continue;
+      }
+      // Insertion sort into the k closest so far
+      int index = distances.size;
+      while (index > 0 && distances.get(index - 1) > dst2) {
+        index--;
+      }
+      if (distances.size == k) {
+        distances.pop();
+        out.removeIndex(out.size - 1);
+      }
+      distances.insert(index, dst2);
+      out.insert(start + index, entity);
+    }
+  }
+
+  /** @return number of indexed entities */
+  public int size() {
+    return size;
+  }
+
+  /** @return number of non-empty cells */
+  public int getCellCount() {
+    return cells.size;
+  }
+
+  /** Stop indexing every entity. */
+  public void clear() {
+    for (Array<Entity> entities : cells.values()) {
+      for (Entity entity : entities) {
+        entity.setSpatialCell(null, 0);
+      }
+      entities.clear();
+      cellPool.free(entities);
+    }
+    cells.clear();
+    size = 0;
+  }
+
+  private Array<Entity> cellAt(long key) {
+    Array<Entity> entities = cells.get(key);
+    if (entities == null) {
+      entities = cellPool.obtain();
+      cells.put(key, entities);
+    }
+    return entities;
+  }
+
+  private void removeFromCell(Entity entity, long key) {
+    Array<Entity> entities = cells.get(key);
+    if (entities == null) {
+      return;
+    }
+    entities.removeValue(entity, true);
+    if (entities.isEmpty()) {
+      cells.remove(key);
+      cellPool.free(entities);
+    }
+  }
+
+  private int cell(float coordinate) {
+    return MathUtils.floor(coordinate / cellSize);
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+}
@@ -0,0 +1,68 @@
+package com.csse3200.game.entities.configs;
+
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import com.csse3200.game.files.FileLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entity config files, each read once and shared by every factory using it. Configs are mutable, so
+ * changes to them (e.g. the hint progress of friendly NPCs) are seen everywhere.
+ */
+public class EntityConfigs {
+  private static final Logger logger = LoggerFactory.getLogger(EntityConfigs.class);
+  public static final String ENEMIES = "configs/enemyNPCs.json";
+  public static final String NPCS = "configs/NPCs.json";
+  private static final ObjectMap<String, NPCConfigs> configs = new ObjectMap<>();
+
+  /**
+   * Get the configs in a file, reading it the first time it is asked for.
+   *
+   * @param filename config file
+   * @return configs from the file, or the defaults if it couldn't be read
+   */
+  public static NPCConfigs get(String filename) {
+    NPCConfigs loaded = configs.get(filename);
+    if (loaded == null) {
+      loaded = FileLoader.readClass(NPCConfigs.class, filename);
+      if (loaded == null) {
+        logger.error("Using default entity configs in place of {}", filename);
+        loaded = new NPCConfigs();
+      }
+      configs.put(filename, loaded);
+    }
+    return loaded;
+  }
+
+  /** @return enemy and projectile configs */
+  public static NPCConfigs getEnemies() {
+    return get(ENEMIES);
+  }
+
+  /** @return friendly NPC configs */
+  public static NPCConfigs getNPCs() {
+    return get(NPCS);
+  }
+
+  /**
+   * Find a config by name, e.g. "chicken".
+   *
+   * @param filename config file
+   * @param name name of the config in the file
+   * @return config, or null if the file has no config with this name
+   */
+  public static BaseEntityConfig find(String filename, String name) {
+    try {
+      Object config = ClassReflection.getField(NPCConfigs.class, name).get(get(filename));
+      return config instanceof BaseEntityConfig ? (BaseEntityConfig) config : null;
+    } catch (ReflectionException e) {
+      return null;
+    }
+  }
+
+  private EntityConfigs() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
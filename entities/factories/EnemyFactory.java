@@ -1,32 +1,23 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.TouchAttackComponent;
 import com.csse3200.game.components.combat.move.*;
-import com.csse3200.game.components.npc.ChickenAnimationController;
-import com.csse3200.game.components.npc.FrogAnimationController;
-import com.csse3200.game.components.npc.KangaBossAnimationController;
-import com.csse3200.game.components.npc.MonkeyAnimationController;
-import com.csse3200.game.components.npc.BearAnimationController;
 import com.csse3200.game.components.tasks.*;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.BaseEnemyEntityConfig;
-import com.csse3200.game.entities.configs.BaseEntityConfig;
+import com.csse3200.game.entities.configs.EntityConfigs;
 import com.csse3200.game.entities.configs.NPCConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.entities.prefabs.PrefabLibrary;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
-import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
-import com.csse3200.game.services.ServiceLocator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,14 +28,14 @@ import java.util.List;
  *
  * <p>Each NPC entity type should have a creation method that returns a corresponding entity.
  * Predefined entity properties can be loaded from configs stored as json files which are defined in
- * "NPCConfigs".
+ * "NPCConfigs". Enemies in the world are instantiated from prefabs in the {@link PrefabLibrary},
+ * and this factory adds their behaviour.
  *
  * <p>If needed, this factory can be separated into more specific factories for entities with
  * similar characteristics.
  */
 public class EnemyFactory {
-  private static final NPCConfigs configs =
-      FileLoader.readClass(NPCConfigs.class, "configs/enemyNPCs.json");
+  private static final NPCConfigs configs = EntityConfigs.getEnemies();
   private static final List<CombatMove> moveSet = new ArrayList<>(
           Arrays.asList(
                   new AttackMove("Enemy Attack", 10),
@@ -54,13 +45,19 @@ public class EnemyFactory {
   );
 
   /**
-   * types of enemies
+   * types of enemies, with the prefab each is created from
    */
   private enum EnemyType {
-    FROG,
-    CHICKEN,
-    MONKEY,
-    BEAR;
+    FROG("frog"),
+    CHICKEN("chicken"),
+    MONKEY("monkey"),
+    BEAR("bear");
+
+    private final String prefab;
+
+    EnemyType(String prefab) {
+      this.prefab = prefab;
+    }
   }
 
   /**
@@ -71,27 +68,7 @@ public class EnemyFactory {
    */
   public static Entity createChicken(Entity target) {
     Entity chicken = createBaseEnemy(target, EnemyType.CHICKEN);
-    BaseEnemyEntityConfig config = configs.chicken;
-    chicken.setEnemyType(Entity.EnemyType.CHICKEN);
-
-    TextureAtlas chickenAtlas = ServiceLocator.getResourceService().getAsset(config.getSpritePath(), TextureAtlas.class);
-
-    AnimationRenderComponent animator = new AnimationRenderComponent(chickenAtlas);
-
-    animator.addAnimation("spawn", 1.0f, Animation.PlayMode.NORMAL);
-    animator.addAnimation("walk", 0.25f, Animation.PlayMode.LOOP);
-    animator.addAnimation("alert",1.0f, Animation.PlayMode.LOOP);
-
-
-    chicken
-            .addComponent(animator)
-            .addComponent(new CombatStatsComponent(config.getHealth(), config.getHunger(), config.getBaseAttack(), config.getDefense(), config.getSpeed(), config.getExperience(), 100, false, false))
-            .addComponent(new CombatMoveComponent(moveSet))
-            .addComponent(new ChickenAnimationController());
-
-    chicken.getComponent(AnimationRenderComponent.class).scaleEntity();
-    chicken.getComponent(PhysicsMovementComponent.class).changeMaxSpeed(new Vector2(config.getSpeed(), config.getSpeed()));
-
+    chicken.addComponent(new CombatMoveComponent(moveSet));
     return chicken;
   }
 
@@ -104,28 +81,8 @@ public class EnemyFactory {
   public static Entity createBear(Entity target) {
     Entity bear = createBaseEnemy(target, EnemyType.BEAR);
     BaseEnemyEntityConfig config = configs.bear;
-    bear.setEnemyType(Entity.EnemyType.BEAR);
-
-    TextureAtlas bearAtlas = ServiceLocator.getResourceService().getAsset(config.getSpritePath(), TextureAtlas.class);
-
-    AnimationRenderComponent animator = new AnimationRenderComponent(bearAtlas);
-
-    animator.addAnimation("chase", 0.5f, Animation.PlayMode.LOOP);
-    animator.addAnimation("float", 0.5f, Animation.PlayMode.LOOP);
-    //animator.addAnimation("spawn", 1.0f, Animation.PlayMode.NORMAL);
-    animator.addAnimation("alert",1.0f, Animation.PlayMode.LOOP);
-
-    bear
-            .addComponent(new CombatStatsComponent(config.getHealth() + (int)(Math.random() * 2) - 1, 0,
-                    config.getBaseAttack() + (int)(Math.random() * 2), 0, 0, 0, 0, false, false))
-            .addComponent(animator)
-            .addComponent(new BearAnimationController());
-
-
-    bear.setScale(2f,1.38f);
-    //bear.getComponent(AnimationRenderComponent.class).scaleEntity();
-    bear.getComponent(PhysicsMovementComponent.class).changeMaxSpeed(new Vector2(config.getSpeed(), config.getSpeed()));
-
+    bear.addComponent(new CombatStatsComponent(config.getHealth() + (int)(Math.random() * 2) - 1, 0,
+            config.getBaseAttack() + (int)(Math.random() * 2), 0, 0, 0, 0, false, false));
     return bear;
   }
 
@@ -137,26 +94,7 @@ public class EnemyFactory {
    */
   public static Entity createFrog(Entity target) {
     Entity frog = createBaseEnemy(target, EnemyType.FROG);
-    BaseEnemyEntityConfig config = configs.frog;
-    frog.setEnemyType(Entity.EnemyType.FROG);
-
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset(config.getSpritePath(), TextureAtlas.class));
-    animator.addAnimation("angry_float", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("float", 0.1f, Animation.PlayMode.LOOP);
-    //animator.addAnimation("spawn", 1.0f, Animation.PlayMode.NORMAL);
-    animator.addAnimation("alert",1.0f, Animation.PlayMode.LOOP);
-
-    frog
-            .addComponent(new CombatStatsComponent(config.getHealth(), config.getHunger(), config.getBaseAttack(), config.getDefense(), config.getSpeed(), config.getExperience(), 100, false, false))
-            .addComponent(new CombatMoveComponent(moveSet))
-            .addComponent(animator)
-            .addComponent(new FrogAnimationController());
-
-    frog.getComponent(AnimationRenderComponent.class).scaleEntity();
-    frog.getComponent(PhysicsMovementComponent.class).changeMaxSpeed(new Vector2(config.getSpeed(), config.getSpeed()));
-
+    frog.addComponent(new CombatMoveComponent(moveSet));
     return frog;
   }
 
@@ -168,37 +106,13 @@ public class EnemyFactory {
    */
   public static Entity createMonkey(Entity target) {
     Entity monkey = createBaseEnemy(target, EnemyType.MONKEY);
-    BaseEnemyEntityConfig config = configs.monkey;
-    monkey.setEnemyType(Entity.EnemyType.MONKEY);
-
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset(config.getSpritePath(), TextureAtlas.class));
-    animator.addAnimation("run_down", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_up", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_left", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_right", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_left_down", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_right_down", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_left_up", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("run_right_up", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("wait", 0.1f, Animation.PlayMode.LOOP);
-
-    monkey
-            .addComponent(new CombatStatsComponent(config.getHealth(), config.getHunger(), config.getBaseAttack(), config.getDefense(), config.getSpeed(), config.getExperience(), 100, false, false))
-            .addComponent(new CombatMoveComponent(moveSet))
-            .addComponent(animator)
-            .addComponent(new MonkeyAnimationController());
-
-    monkey.getComponent(AnimationRenderComponent.class).scaleEntity();
-    monkey.getComponent(PhysicsMovementComponent.class).changeMaxSpeed(new Vector2(config.getSpeed(), config.getSpeed()));
-
+    monkey.addComponent(new CombatMoveComponent(moveSet));
     return monkey;
   }
 
 
   /**
-   * Creates a generic Enemy with specific tasks depending on the enemy type.
+   * Creates a generic Enemy from its prefab, with specific tasks depending on the enemy type.
    *
    * @param target the enemy target
    * @param type the enemy type
@@ -223,17 +137,7 @@ public class EnemyFactory {
       aiComponent.addTask(new ChaseTask(target, 10, 3f, 4f, false));
     }
 
-    Entity npc =
-        new Entity()
-            .addComponent(new PhysicsComponent())
-            .addComponent(new PhysicsMovementComponent())
-            .addComponent(new ColliderComponent())
-            .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
-            .addComponent(new TouchAttackComponent(PhysicsLayer.PLAYER))
-            .addComponent(aiComponent);
-
-    PhysicsUtils.setScaledCollider(npc, 0.9f, 0.4f);
-    return npc;
+    return PrefabLibrary.instantiate(type.prefab).addComponent(aiComponent);
   }
 
 
@@ -244,26 +148,13 @@ public class EnemyFactory {
    * @return entity
    */
   public static Entity createKangaBossEntity(Entity target) {
-    Entity kangarooBoss = createBossNPC(target);
-    BaseEnemyEntityConfig config = configs.kangarooBoss;
-    kangarooBoss.setEnemyType(Entity.EnemyType.KANGAROO);
-
-    AnimationRenderComponent animator =
-            new AnimationRenderComponent(
-                    ServiceLocator.getResourceService().getAsset("images/final_boss_kangaroo.atlas", TextureAtlas.class));
-    animator.addAnimation("angry_float", 0.1f, Animation.PlayMode.LOOP);
-    animator.addAnimation("float", 0.1f, Animation.PlayMode.LOOP);
-
-    kangarooBoss
-            .addComponent(new CombatStatsComponent(config.getHealth(), config.getHunger(), config.getBaseAttack(), config.getDefense(), config.getSpeed(), config.getExperience(), 100, false, true))
-            .addComponent(new CombatMoveComponent(moveSet))
-            .addComponent(animator)
-            .addComponent(new KangaBossAnimationController());
-
-    kangarooBoss.getComponent(AnimationRenderComponent.class).scaleEntity();
-    kangarooBoss.scaleHeight(3.0f);
-
-    return kangarooBoss;
+    AITaskComponent aiComponent =
+            new AITaskComponent()
+                    .addTask(new WanderTask(new Vector2(2f, 2f), 2f, true))
+                    .addTask(new ChaseTask(target, 10, 6f, 8f, true));
+    return PrefabLibrary.instantiate("kangarooBoss")
+            .addComponent(aiComponent)
+            .addComponent(new CombatMoveComponent(moveSet));
   }
 
   /**
@@ -287,29 +178,6 @@ public class EnemyFactory {
     return kangarooBoss;
   }
 
-  /**
-   * Creates a boss NPC to be used as a boss entity by more specific NPC creation methods.
-   *
-   * @return entity
-   */
-  public static Entity createBossNPC(Entity target) {
-    AITaskComponent aiComponent =
-            new AITaskComponent()
-                    .addTask(new WanderTask(new Vector2(2f, 2f), 2f, true))
-                    .addTask(new ChaseTask(target, 10, 6f, 8f, true));
-    Entity npc =
-            new Entity()
-                    .addComponent(new PhysicsComponent())
-                    .addComponent(new PhysicsMovementComponent())
-                    .addComponent(new ColliderComponent())
-                    .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
-                    .addComponent(new TouchAttackComponent(PhysicsLayer.PLAYER))
-                    .addComponent(aiComponent);
-
-    PhysicsUtils.setScaledCollider(npc, 0.9f, 0.4f);
-    return npc;
-  }
-
   /**
    * Creates a boss NPC to be used as a boss entity by more specific NPC creation methods.
    *
@@ -1,16 +1,16 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.tasks.*;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCategory;
 import com.csse3200.game.inventory.items.AbstractItem;
 import com.csse3200.game.inventory.items.food.Foods;
 import com.csse3200.game.inventory.items.potions.AttackPotion;
 import com.csse3200.game.inventory.items.potions.DefensePotion;
 import com.csse3200.game.inventory.items.potions.HealingPotion;
 import com.csse3200.game.inventory.items.potions.SpeedPotion;
-import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.components.KinematicBodyComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
 import com.csse3200.game.services.GameTime;
 
@@ -32,10 +32,12 @@ public class ItemFactory {
         AITaskComponent aiComponent = new AITaskComponent()
                 .addTask(new ItemProximityTask(target,20, 1f, item));
 
+        KinematicBodyComponent bodyComponent = new KinematicBodyComponent();
+        bodyComponent.getBody().setStatic(true).setSensor(true);
         Entity itemEntity = new  Entity().addComponent(new TextureRenderComponent(item.getTexturePath()))
-                .addComponent(new PhysicsComponent())
-                .addComponent(aiComponent);
-        itemEntity.getComponent(PhysicsComponent.class).setBodyType(BodyDef.BodyType.StaticBody);
+                .addComponent(bodyComponent)
+                .addComponent(aiComponent)
+                .setCategory(EntityCategory.ITEM);
         return itemEntity;
     }
 
@@ -17,9 +17,9 @@ import com.csse3200.game.components.tasks.PauseTask;
 import com.csse3200.game.components.tasks.AvoidTask;
 import com.csse3200.game.components.ConfigComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCategory;
 import com.csse3200.game.entities.DialogueBoxService;
 import com.csse3200.game.entities.configs.*;
-import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -31,7 +31,6 @@ import com.csse3200.game.services.AudioManager;
 import com.csse3200.game.services.ServiceContainer;
 import com.csse3200.game.rendering.TextureRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
-import java.util.List;
 import java.util.ArrayList;
 
 /**
@@ -45,19 +44,17 @@ import java.util.ArrayList;
  * similar characteristics.
  */
 public class NPCFactory {
-  private static final NPCConfigs configs =
-      FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
+  private static final NPCConfigs configs = EntityConfigs.getNPCs();
 
   /**
    * Base method to create a friendly NPC.
    *
    * @param target   entity to move towards when in range.
-   * @param enemies  list of enemy entities.
    * @param config  the specific configuration object.
    * @return entity
    */
-  private static Entity createFriendlyNPC(Entity target, List<Entity> enemies, BaseFriendlyEntityConfig config) {
-    Entity npc = createFriendlyBaseNPC(target, enemies);
+  private static Entity createFriendlyNPC(Entity target, BaseFriendlyEntityConfig config) {
+    Entity npc = createFriendlyBaseNPC(target);
 
     AnimationRenderComponent animator = init_animator(config);
     animator.addAnimation("float", config.getAnimationSpeed(), Animation.PlayMode.LOOP);
@@ -84,72 +81,72 @@ public class NPCFactory {
   /**
    * Creates a Cow NPC.
    */
-  public static Entity createCow(Entity target, List<Entity> enemies) {
+  public static Entity createCow(Entity target) {
     BaseFriendlyEntityConfig config = configs.cow;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   /**
    * Creates a Fish NPC.
    */
-  public static Entity createFish(Entity target, List<Entity> enemies) {
+  public static Entity createFish(Entity target) {
     BaseFriendlyEntityConfig config = configs.fish;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   /**
    * Creates a Lion NPC.
    */
-  public static Entity createLion(Entity target, List<Entity> enemies) {
+  public static Entity createLion(Entity target) {
     BaseFriendlyEntityConfig config = configs.lion;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   /**
    * Creates a Turtle NPC.
    */
-  public static Entity createTurtle(Entity target, List<Entity> enemies) {
+  public static Entity createTurtle(Entity target) {
     BaseFriendlyEntityConfig config = configs.turtle;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   /**
    * Creates an Eagle NPC.
    */
-  public static Entity createEagle(Entity target, List<Entity> enemies) {
+  public static Entity createEagle(Entity target) {
     BaseFriendlyEntityConfig config = configs.eagle;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   /**
    * Creates a Snake NPC.
    */
-  public static Entity createSnake(Entity target, List<Entity> enemies) {
+  public static Entity createSnake(Entity target) {
     BaseFriendlyEntityConfig config = configs.snake;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   /**
    * Creates a Magpie NPC.
    */
-  public static Entity createMagpie(Entity target, List<Entity> enemies) {
+  public static Entity createMagpie(Entity target) {
     BaseFriendlyEntityConfig config = configs.magpie;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
   
-  public static Entity createChicken(Entity target, List<Entity> enemies) {
+  public static Entity createChicken(Entity target) {
     BaseFriendlyEntityConfig config = configs.friendlyChicken;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
   
-  public static Entity createFrog(Entity target, List<Entity> enemies) {
+  public static Entity createFrog(Entity target) {
     BaseFriendlyEntityConfig config = configs.friendlyFrog;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
   
-  public static Entity createMonkey(Entity target, List<Entity> enemies) {
+  public static Entity createMonkey(Entity target) {
     BaseFriendlyEntityConfig config = configs.friendlyMonkey;
-    return createFriendlyNPC(target, enemies, config);
+    return createFriendlyNPC(target, config);
   }
 
   private static AnimationRenderComponent init_animator(BaseFriendlyEntityConfig entity_config) {
@@ -209,23 +206,22 @@ public class NPCFactory {
    *
    * @return entity
    */
-  private static Entity createFriendlyBaseNPC(Entity target, List<Entity> enemies) {
+  private static Entity createFriendlyBaseNPC(Entity target) {
     AITaskComponent aiComponent =
             new AITaskComponent()
                     .addTask(new WanderTask(new Vector2(2f, 2f), 2f, false))
                     .addTask(new PauseTask(target, 10, 2f, 1.2f, false));
 
-    // Avoid all the enemies on the game
-    for (Entity enemy : enemies) {
-      aiComponent.addTask(new AvoidTask(enemy, 10, 3f, 3f, false));
-    }
+    // Avoid whichever enemy is nearest, as enemies come and go with the chunks around the player
+    aiComponent.addTask(new AvoidTask(EntityCategory.ENEMY, 10, 3f, 3f));
 
     Entity npc =
             new Entity()
                     .addComponent(new PhysicsComponent())
-                    .addComponent(new PhysicsMovementComponent())
+                    .addComponent(new PhysicsMovementComponent().setSteering(true).setPathfinding(true))
                     .addComponent(new ColliderComponent())
-                    .addComponent(aiComponent);
+                    .addComponent(aiComponent)
+                    .setCategory(EntityCategory.NPC);
 
     PhysicsUtils.setScaledCollider(npc, 0.9f, 0.4f);
     return npc;
@@ -16,6 +16,7 @@ import com.csse3200.game.components.quests.AchievementPopup;
 import com.csse3200.game.components.stats.Stat;
 import com.csse3200.game.components.stats.StatManager;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCategory;
 import com.csse3200.game.entities.configs.BaseEnemyEntityConfig;
 import com.csse3200.game.entities.configs.BaseEntityConfig;
 import com.csse3200.game.entities.configs.PlayerConfig;
@@ -27,6 +28,7 @@ import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.physics.components.KinematicBodyComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
@@ -58,7 +60,13 @@ public class PlayerFactory {
                         .addComponent(new CameraZoomComponent())
                         .addComponent(new PhysicsComponent(true))
                         .addComponent(new ColliderComponent())
-                        .addComponent(new HitboxComponent().setLayer(PhysicsLayer.PLAYER));
+                        .addComponent(new HitboxComponent().setLayer(PhysicsLayer.PLAYER))
+                        .setCategory(EntityCategory.PLAYER);
+
+        // Lets kinematic projectiles hit the player
+        KinematicBodyComponent kinematicHitbox = new KinematicBodyComponent().setFollowing(true);
+        kinematicHitbox.getBody().setLayer(PhysicsLayer.PLAYER).setSensor(true);
+        player.addComponent(kinematicHitbox);
 
         List<CombatMove> moveSet = new ArrayList<>();
         moveSet.add(new AttackMove("Player Attack", 10));
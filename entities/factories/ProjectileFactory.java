@@ -1,93 +1,34 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.AITaskComponent;
-import com.csse3200.game.components.CombatStatsComponent;
-import com.csse3200.game.components.ProjectileAttackComponent;
-import com.csse3200.game.components.TouchAttackComponent;
-import com.csse3200.game.components.npc.BananaAnimationController;
 import com.csse3200.game.components.tasks.ProjectileMovementTask;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.entities.configs.BaseEnemyEntityConfig;
-import com.csse3200.game.entities.configs.BaseEntityConfig;
-import com.csse3200.game.entities.configs.NPCConfigs;
-import com.csse3200.game.files.FileLoader;
-import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.PhysicsUtils;
-import com.csse3200.game.physics.components.ColliderComponent;
-import com.csse3200.game.physics.components.HitboxComponent;
-import com.csse3200.game.physics.components.PhysicsComponent;
-import com.csse3200.game.physics.components.PhysicsMovementComponent;
-import com.csse3200.game.rendering.AnimationRenderComponent;
-import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.entities.prefabs.PrefabLibrary;
 
 /**
  * Factory to create non-playable projectile entities with predefined components.
  *
  * <p>Each projectile entity type has a creation method that returns a corresponding entity.
- * Predefined entity properties can be loaded from configurations stored as JSON files defined in
- * "NPCConfigs". This factory can be expanded or separated into more specific factories for entities
+ * Projectiles are instantiated from prefabs in the {@link PrefabLibrary}, which take their
+ * properties from the configurations in "NPCConfigs". This factory can be expanded or separated into more specific factories for entities
  * with similar characteristics.
  */
 public class ProjectileFactory {
 
-  private static final NPCConfigs configs =
-          FileLoader.readClass(NPCConfigs.class, "configs/enemyNPCs.json");
-
   /**
    * Creates a banana projectile entity.
    *
-   * <p>This projectile will chase the specified target entity, such as a player, using predefined
-   * AI tasks and animations.
+   * <p>This projectile flies straight towards where the specified target entity, such as a player,
+   * is when it is fired. It moves in the lightweight kinematic world rather than Box2D.
    *
-   * @param target The entity that the projectile will target and chase.
+   * @param target The entity that the projectile will be fired at.
    * @return A new banana projectile entity.
    */
   public static Entity createBanana(Entity target) {
-    Entity banana = createBaseProjectile(target);
-    BaseEnemyEntityConfig config = configs.banana;
-
     AITaskComponent aiTaskComponent = new AITaskComponent();
     aiTaskComponent.addTask(new ProjectileMovementTask(target, 10));
 
-    banana.addComponent(aiTaskComponent);
-
-    TextureAtlas bananaAtlas = ServiceLocator.getResourceService().getAsset("images/banana.atlas", TextureAtlas.class);
-
-    AnimationRenderComponent animator = new AnimationRenderComponent(bananaAtlas);
-    animator.addAnimation("fire", 0.25f, Animation.PlayMode.LOOP);
-    
-    banana
-            .addComponent(animator)
-            .addComponent(new BananaAnimationController());
-    banana.setScale(0.5f, 0.5f);
-    
-    banana.getComponent(PhysicsMovementComponent.class).changeMaxSpeed(new Vector2(config.getSpeed(), config.getSpeed()));
-
-    return banana;
-  }
-
-
-  /**
-   * Creates a base projectile entity with common components and sets the target layer for
-   * the projectile's attacks.
-   *
-   * @param target The entity that the projectile will target.
-   * @return A new projectile entity with basic components.
-   */
-  private static Entity createBaseProjectile(Entity target) {
-    Entity projectile =
-        new Entity()
-            .addComponent(new PhysicsComponent())
-            .addComponent(new PhysicsMovementComponent())
-            .addComponent(new ColliderComponent())
-            .addComponent(new HitboxComponent().setLayer(PhysicsLayer.PROJECTILE))
-            .addComponent(new ProjectileAttackComponent((short)(PhysicsLayer.PLAYER + PhysicsLayer.OBSTACLE)));
-
-    PhysicsUtils.setScaledCollider(projectile, 0.9f, 0.4f);
-    return projectile;
+    return PrefabLibrary.instantiate("banana").addComponent(aiTaskComponent);
   }
 
   private ProjectileFactory() {
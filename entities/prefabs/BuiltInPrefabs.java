@@ -0,0 +1,114 @@
+package com.csse3200.game.entities.prefabs;
+
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.entities.prefabs.PrefabConfig.AnimationConfig;
+
+/**
+ * Prefabs the game ships with. The prefabs config file can replace any of these by defining a prefab
+ * with the same name.
+ */
+class BuiltInPrefabs {
+  private static final String LOOP = "LOOP";
+  private static final String NORMAL = "NORMAL";
+
+  static ObjectMap<String, PrefabConfig> create() {
+    ObjectMap<String, PrefabConfig> prefabs = new ObjectMap<>();
+
+    PrefabConfig chicken = enemy("chicken", "CHICKEN", "ChickenAnimationController");
+    chicken.animations = new AnimationConfig[] {
+        new AnimationConfig("spawn", 1.0f, NORMAL),
+        new AnimationConfig("walk", 0.25f, LOOP),
+        new AnimationConfig("alert", 1.0f, LOOP)
+    };
+    prefabs.put("chicken", chicken);
+
+    // Bears get their stats with some variation when they're created
+    PrefabConfig bear = enemy("bear", "BEAR", "BearAnimationController");
+    bear.animations = new AnimationConfig[] {
+        new AnimationConfig("chase", 0.5f, LOOP),
+        new AnimationConfig("float", 0.5f, LOOP),
+        new AnimationConfig("alert", 1.0f, LOOP)
+    };
+    bear.scaleEntity = false;
+    bear.scale = new float[] {2f, 1.38f};
+    bear.stats = false;
+    prefabs.put("bear", bear);
+
+    PrefabConfig frog = enemy("frog", "FROG", "FrogAnimationController");
+    frog.animations = new AnimationConfig[] {
+        new AnimationConfig("angry_float", 0.1f, LOOP),
+        new AnimationConfig("float", 0.1f, LOOP),
+        new AnimationConfig("alert", 1.0f, LOOP)
+    };
+    prefabs.put("frog", frog);
+
+    PrefabConfig monkey = enemy("monkey", "MONKEY", "MonkeyAnimationController");
+    String[] monkeyAnimations = {
+        "run_down", "run_up", "run_left", "run_right", "run_left_down", "run_right_down",
+        "run_left_up", "run_right_up", "wait"
+    };
+    monkey.animations = new AnimationConfig[monkeyAnimations.length];
+    for (int i = 0; i < monkeyAnimations.length; i++) {
+      monkey.animations[i] = new AnimationConfig(monkeyAnimations[i], 0.1f, LOOP);
+    }
+    prefabs.put("monkey", monkey);
+
+    PrefabConfig kangarooBoss = enemy("kangarooBoss", "KANGAROO", "KangaBossAnimationController");
+    kangarooBoss.atlas = "images/final_boss_kangaroo.atlas";
+    kangarooBoss.animations = new AnimationConfig[] {
+        new AnimationConfig("angry_float", 0.1f, LOOP),
+        new AnimationConfig("float", 0.1f, LOOP)
+    };
+    kangarooBoss.height = 3.0f;
+    kangarooBoss.speed = 1f;
+    kangarooBoss.boss = true;
+    prefabs.put("kangarooBoss", kangarooBoss);
+
+    PrefabConfig banana = new PrefabConfig();
+    banana.config = "banana";
+    banana.atlas = "images/banana.atlas";
+    banana.animations = new AnimationConfig[] {new AnimationConfig("fire", 0.25f, LOOP)};
+    banana.scale = new float[] {0.5f, 0.5f};
+    banana.kinematic = true;
+    banana.hitboxLayer = "PROJECTILE";
+    banana.attack = "projectile";
+    banana.attackLayers = new String[] {"PLAYER", "OBSTACLE"};
+    banana.stats = false;
+    banana.controller = "BananaAnimationController";
+    prefabs.put("banana", banana);
+
+    PrefabConfig tree = new PrefabConfig();
+    tree.texture = "images/tree.png";
+    tree.scaleEntity = true;
+    tree.height = 2.5f;
+    tree.body = "StaticBody";
+    tree.mergeable = true;
+    tree.movement = false;
+    tree.collider = new float[] {0.5f, 0.2f};
+    tree.colliderLayer = "OBSTACLE";
+    tree.stats = false;
+    prefabs.put("tree", tree);
+
+    return prefabs;
+  }
+
+  /** Enemies chase or flee from the player, and keep a collider sized for a unit entity. */
+  private static PrefabConfig enemy(String config, String enemyType, String controller) {
+    PrefabConfig enemy = new PrefabConfig();
+    enemy.category = "ENEMY";
+    enemy.enemyType = enemyType;
+    enemy.config = config;
+    enemy.scaleEntity = true;
+    enemy.unitCollider = true;
+    enemy.walker = true;
+    enemy.hitboxLayer = "NPC";
+    enemy.attack = "touch";
+    enemy.attackLayers = new String[] {"PLAYER"};
+    enemy.controller = controller;
+    return enemy;
+  }
+
+  private BuiltInPrefabs() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -0,0 +1,281 @@
+package com.csse3200.game.entities.prefabs;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ProjectileAttackComponent;
+import com.csse3200.game.components.TouchAttackComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.configs.BaseEnemyEntityConfig;
+import com.csse3200.game.entities.configs.EntityConfigs;
+import com.csse3200.game.entities.prefabs.PrefabConfig.AnimationConfig;
+import com.csse3200.game.physics.components.ColliderComponent;
+import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.physics.components.KinematicBodyComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.rendering.AnimationLibrary;
+import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.rendering.TextureRenderComponent;
+import com.csse3200.game.services.ResourceService;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A prefab compiled against the loaded assets. Everything which doesn't change between instances is
+ * resolved once: animation clips, scale, collider shapes, layers and stats. Instantiating only
+ * creates the components and hands them this shared data, which must not be modified.
+ *
+ * <p>Templates are only valid while their assets are loaded, see {@link PrefabLibrary#evict}.
+ */
+public class EntityTemplate {
+  private static final Logger logger = LoggerFactory.getLogger(EntityTemplate.class);
+  private final String name;
+  private final int category;
+  private final Entity.EnemyType enemyType;
+  private final String atlasPath;
+  private final String texturePath;
+  private final TextureAtlas atlas;
+  private final Array<String> animationNames = new Array<>();
+  private final Array<Animation<TextureRegion>> animations = new Array<>();
+  private final TextureRegion texture;
+  private final Vector2 scale = new Vector2(1f, 1f);
+  private final BodyType bodyType;
+  private final boolean kinematic;
+  private final boolean mergeable;
+  private final boolean movement;
+  private final boolean walker;
+  private final Vector2 speed;
+  private final PolygonShape colliderShape;
+  private final short colliderLayer;
+  private final PolygonShape hitboxShape;
+  private final short hitboxLayer;
+  private final String attack;
+  private final short attackLayers;
+  private final BaseEnemyEntityConfig stats;
+  private final boolean boss;
+  private final Supplier<? extends Component> controller;
+
+  /**
+   * Compile a validated prefab definition. Its assets must be loaded.
+   *
+   * @param name prefab name
+   * @param definition validated definition
+   * @param resourceService resource service holding the prefab's assets
+   */
+  EntityTemplate(String name, PrefabConfig definition, ResourceService resourceService) {
+    this.name = name;
+    category = PrefabLibrary.parseCategory(definition.category);
+    enemyType =
+        definition.enemyType == null ? null : Entity.EnemyType.valueOf(definition.enemyType);
+    BaseEnemyEntityConfig config =
+        definition.config == null
+            ? null
+            : (BaseEnemyEntityConfig) EntityConfigs.find(EntityConfigs.ENEMIES, definition.config);
+
+    // Rendering
+    String spritePath = definition.atlas;
+    if (spritePath == null && definition.texture == null && config != null) {
+      spritePath = config.getSpritePath();
+    }
+    atlasPath = spritePath;
+    texturePath = atlasPath == null ? definition.texture : null;
+    TextureRegion sizeRegion = null;
+    if (atlasPath != null) {
+      atlas = resourceService.getAsset(atlasPath, TextureAtlas.class);
+      texture = null;
+      for (AnimationConfig animation : definition.animations) {
+        Animation<TextureRegion> clip =
+            AnimationLibrary.get(
+                atlas, animation.name, animation.frameDuration, PlayMode.valueOf(animation.playMode));
+        if (clip == null) {
+          logger.warn("Animation {} of prefab {} not found in {}", animation.name, name, atlasPath);
+          continue;
+        }
+        animationNames.add(animation.name);
+        animations.add(clip);
+      }
+      sizeRegion = atlas.findRegion("default");
+    } else if (texturePath != null) {
+      atlas = null;
+      texture = resourceService.getTextureRegion(texturePath);
+      sizeRegion = texture;
+    } else {
+      atlas = null;
+      texture = null;
+    }
+
+    // Scale, in the same order entity factories apply it
+    if (definition.scaleEntity && sizeRegion != null) {
+      scale.set(1f, (float) sizeRegion.getRegionHeight() / sizeRegion.getRegionWidth());
+    }
+    if (definition.scale != null) {
+      scale.set(definition.scale[0], definition.scale[1]);
+    }
+    if (definition.height > 0f) {
+      scale.set(scale.x / scale.y * definition.height, definition.height);
+    }
+
+    // Physics
+    kinematic = definition.kinematic;
+    bodyType = kinematic || definition.body == null ? null : BodyType.valueOf(definition.body);
+    boolean hasBody = bodyType != null || kinematic;
+    mergeable = definition.mergeable;
+    movement = bodyType != null && definition.movement;
+    walker = movement && definition.walker;
+    if (definition.speed > 0f) {
+      speed = new Vector2(definition.speed, definition.speed);
+    } else if (config != null) {
+      speed = new Vector2(config.getSpeed(), config.getSpeed());
+    } else {
+      speed = null;
+    }
+    if (bodyType != null && definition.collider != null) {
+      float baseX = definition.unitCollider ? 1f : scale.x;
+      float baseY = definition.unitCollider ? 1f : scale.y;
+      float width = baseX * definition.collider[0];
+      float height = baseY * definition.collider[1];
+      colliderShape = new PolygonShape();
+      colliderShape.setAsBox(width / 2f, height / 2f, new Vector2(baseX / 2f, height / 2f), 0f);
+    } else {
+      colliderShape = null;
+    }
+    colliderLayer =
+        definition.colliderLayer == null ? 0 : PrefabLibrary.parseLayer(definition.colliderLayer);
+    if (kinematic) {
+      hitboxLayer =
+          definition.hitboxLayer == null ? 0 : PrefabLibrary.parseLayer(definition.hitboxLayer);
+      hitboxShape = null;
+    } else if (bodyType != null && definition.hitboxLayer != null) {
+      hitboxLayer = PrefabLibrary.parseLayer(definition.hitboxLayer);
+      hitboxShape = new PolygonShape();
+      hitboxShape.setAsBox(scale.x / 2f, scale.y / 2f, new Vector2(scale.x / 2f, scale.y / 2f), 0f);
+    } else {
+      hitboxLayer = 0;
+      hitboxShape = null;
+    }
+    attack = hasBody ? definition.attack : null;
+    short layers = 0;
+    for (String layer : definition.attackLayers) {
+      layers |= PrefabLibrary.parseLayer(layer);
+    }
+    attackLayers = layers;
+
+    stats = definition.stats ? config : null;
+    boss = definition.boss;
+    controller =
+        definition.controller == null ? null : PrefabLibrary.getComponent(definition.controller);
+    logger.debug("Compiled prefab {}", name);
+  }
+
+  /**
+   * Create a new entity from this template. It still needs to be registered to be created.
+   *
+   * @return new entity
+   */
+  public Entity instantiate() {
+    Entity entity = new Entity().setCategory(category);
+    if (enemyType != null) {
+      entity.setEnemyType(enemyType);
+    }
+    entity.setScale(scale.x, scale.y);
+
+    if (kinematic) {
+      KinematicBodyComponent body = new KinematicBodyComponent();
+      body.getBody().setSensor(true);
+      if (hitboxLayer != 0) {
+        body.getBody().setLayer(hitboxLayer);
+      }
+      if (speed != null) {
+        body.setSpeed(speed.x);
+      }
+      entity.addComponent(body);
+    } else if (bodyType != null) {
+      entity.addComponent(new PhysicsComponent().setBodyType(bodyType).setMergeable(mergeable));
+      if (movement) {
+        PhysicsMovementComponent movementComponent =
+            new PhysicsMovementComponent().setSteering(walker).setPathfinding(walker);
+        if (speed != null) {
+          movementComponent.changeMaxSpeed(speed);
+        }
+        entity.addComponent(movementComponent);
+      }
+      if (colliderShape != null) {
+        ColliderComponent collider = new ColliderComponent().setShape(colliderShape);
+        if (colliderLayer != 0) {
+          collider.setLayer(colliderLayer);
+        }
+        entity.addComponent(collider);
+      }
+      if (hitboxShape != null) {
+        entity.addComponent(new HitboxComponent().setLayer(hitboxLayer).setShape(hitboxShape));
+      }
+    }
+    if ("touch".equals(attack)) {
+      entity.addComponent(new TouchAttackComponent(attackLayers));
+    } else if ("projectile".equals(attack)) {
+      entity.addComponent(new ProjectileAttackComponent(attackLayers));
+    }
+
+    if (atlas != null) {
+      AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+      for (int i = 0; i < animations.size; i++) {
+        animator.addAnimation(animationNames.get(i), animations.get(i));
+      }
+      entity.addComponent(animator);
+    } else if (texture != null) {
+      entity.addComponent(new TextureRenderComponent(texture));
+    }
+
+    if (stats != null) {
+      entity.addComponent(
+          new CombatStatsComponent(
+              stats.getHealth(),
+              stats.getHunger(),
+              stats.getBaseAttack(),
+              stats.getDefense(),
+              stats.getSpeed(),
+              stats.getExperience(),
+              100,
+              false,
+              boss));
+    }
+    if (controller != null) {
+      entity.addComponent(controller.get());
+    }
+    return entity;
+  }
+
+  /** @return prefab name */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Whether this template was compiled from an asset.
+   *
+   * @param assetName asset path
+   * @return true if the template holds data from the asset
+   */
+  boolean uses(String assetName) {
+    return assetName.equals(atlasPath) || assetName.equals(texturePath);
+  }
+
+  /** Free the shared collider shapes. Entities already created keep their own fixtures. */
+  void dispose() {
+    if (colliderShape != null) {
+      colliderShape.dispose();
+    }
+    if (hitboxShape != null) {
+      hitboxShape.dispose();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.csse3200.game.entities.prefabs;
+
+/**
+ * Definition of an entity prefab, read from the prefabs config file. Each definition is validated
+ * when it is loaded and compiled into an {@link EntityTemplate} the first time it is used.
+ *
+ * <p>Names of layers, categories and enums are the names of the constants, e.g. "OBSTACLE".
+ */
+public class PrefabConfig {
+  /** Spatial hash category: NONE, PLAYER, ENEMY, NPC or ITEM */
+  public String category = "NONE";
+  /** Enemy type of the entity, if any */
+  public String enemyType;
+  /** Name of the config in the enemy config file to take stats, speed and sprite from, if any */
+  public String config;
+  /** Texture atlas to animate. Defaults to the config's sprite */
+  public String atlas;
+  /** Static texture to render when there is no atlas */
+  public String texture;
+  public AnimationConfig[] animations = {};
+
+  /** Scale to a width of 1 and a height matching the texture's ratio */
+  public boolean scaleEntity;
+  /** Scale in world units, applied after scaleEntity */
+  public float[] scale;
+  /** Height to scale to while keeping the aspect ratio, or 0 to keep the height */
+  public float height;
+
+  /** Physics body type, or null for no physics */
+  public String body = "DynamicBody";
+  /**
+   * Use a lightweight kinematic sensor the size of the entity instead of a Box2D body, e.g. for
+   * projectiles. Its layer is the hitbox layer. Body, movement and collider settings are ignored.
+   */
+  public boolean kinematic;
+  /** Let a static body be merged into its terrain chunk */
+  public boolean mergeable;
+  /** Add a physics movement controller */
+  public boolean movement = true;
+  /** Steer around other entities and find paths around obstacles, for entities roaming the map */
+  public boolean walker;
+  /** Max speed, or 0 to use the config's speed */
+  public float speed;
+  /** Collider size relative to the entity's scale, aligned to the bottom centre. Null for none */
+  public float[] collider = {0.9f, 0.4f};
+  /** Size the collider relative to a unit scale rather than the entity's scale */
+  public boolean unitCollider;
+  /** Collider layer, or null for the default layer */
+  public String colliderLayer;
+  /** Hitbox layer, or null for no hitbox */
+  public String hitboxLayer;
+  /** How the entity attacks when it touches something: "touch", "projectile" or null */
+  public String attack;
+  public String[] attackLayers = {};
+
+  /** Add combat stats from the config */
+  public boolean stats = true;
+  public boolean boss;
+  /** Registered name of an extra component, e.g. an animation controller */
+  public String controller;
+
+  /** An animation to take from the atlas */
+  public static class AnimationConfig {
+    public String name;
+    public float frameDuration = 0.1f;
+    public String playMode = "LOOP";
+
+    public AnimationConfig() {}
+
+    public AnimationConfig(String name, float frameDuration, String playMode) {
+      this.name = name;
+      this.frameDuration = frameDuration;
+      this.playMode = playMode;
+    }
+  }
+}
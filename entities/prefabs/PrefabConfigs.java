@@ -0,0 +1,10 @@
+package com.csse3200.game.entities.prefabs;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Defines all prefabs to be loaded by the {@link PrefabLibrary}, keyed by prefab name.
+ */
+public class PrefabConfigs {
+  public ObjectMap<String, PrefabConfig> prefabs = new ObjectMap<>();
+}
@@ -0,0 +1,293 @@
+package com.csse3200.game.entities.prefabs;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.npc.BananaAnimationController;
+import com.csse3200.game.components.npc.BearAnimationController;
+import com.csse3200.game.components.npc.ChickenAnimationController;
+import com.csse3200.game.components.npc.FriendlyNPCAnimationController;
+import com.csse3200.game.components.npc.FrogAnimationController;
+import com.csse3200.game.components.npc.KangaBossAnimationController;
+import com.csse3200.game.components.npc.MonkeyAnimationController;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCategory;
+import com.csse3200.game.entities.configs.BaseEnemyEntityConfig;
+import com.csse3200.game.entities.configs.EntityConfigs;
+import com.csse3200.game.entities.prefabs.PrefabConfig.AnimationConfig;
+import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide library of entity prefabs. Definitions are read once, from the built-in prefabs and
+ * then the prefabs config file, whose definitions replace built-in ones with the same name. Each is
+ * validated as it is loaded, and invalid definitions are left out.
+ *
+ * <p>A prefab is compiled into an {@link EntityTemplate} the first time it is instantiated, once its
+ * assets are loaded. Templates built from an asset are dropped when the asset is unloaded.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ *   Entity chicken = PrefabLibrary.instantiate("chicken");
+ *   chicken.addComponent(new AITaskComponent().addTask(...));
+ * </pre>
+ */
+public class PrefabLibrary {
+  private static final Logger logger = LoggerFactory.getLogger(PrefabLibrary.class);
+  public static final String PREFABS_FILE = "configs/prefabs.json";
+  private static final ObjectMap<String, Supplier<? extends Component>> components =
+      new ObjectMap<>();
+  private static final ObjectMap<String, EntityTemplate> templates = new ObjectMap<>();
+  private static ObjectMap<String, PrefabConfig> definitions;
+
+  static {
+    registerComponent("ChickenAnimationController", ChickenAnimationController::new);
+    registerComponent("FrogAnimationController", FrogAnimationController::new);
+    registerComponent("MonkeyAnimationController", MonkeyAnimationController::new);
+    registerComponent("BearAnimationController", BearAnimationController::new);
+    registerComponent("KangaBossAnimationController", KangaBossAnimationController::new);
+    registerComponent("BananaAnimationController", BananaAnimationController::new);
+    registerComponent("FriendlyNPCAnimationController", FriendlyNPCAnimationController::new);
+
+    ResourceService.addAssetListener(
+        new ResourceService.AssetListener() {
+          @Override
+          public void unloading(ResourceService service, String assetName, Object asset) {
+            evict(assetName);
+          }
+
+          @Override
+          public void cleared(ResourceService service) {
+            clear();
+          }
+        });
+  }
+
+  /**
+   * Create an entity from a prefab, compiling the prefab first if needed.
+   *
+   * @param name prefab name
+   * @return new entity
+   * @throws IllegalArgumentException if there is no valid prefab with this name
+   */
+  public static Entity instantiate(String name) {
+    return getTemplate(name).instantiate();
+  }
+
+  /**
+   * Get the compiled template of a prefab, compiling it if needed. The prefab's assets must be
+   * loaded.
+   *
+   * @param name prefab name
+   * @return template
+   * @throws IllegalArgumentException if there is no valid prefab with this name
+   */
+  public static EntityTemplate getTemplate(String name) {
+    EntityTemplate template = templates.get(name);
+    if (template == null) {
+      PrefabConfig definition = getDefinitions().get(name);
+      if (definition == null) {
+        throw new IllegalArgumentException("Unknown prefab " + name);
+      }
+      template = new EntityTemplate(name, definition, ServiceLocator.getResourceService());
+      templates.put(name, template);
+    }
+    return template;
+  }
+
+  /**
+   * @param name prefab name
+   * @return true if there is a valid prefab with this name
+   */
+  public static boolean hasPrefab(String name) {
+    return getDefinitions().containsKey(name);
+  }
+
+  /**
+   * Read and validate all prefab definitions, dropping any compiled templates. Called on first use
+   * if it hasn't been called already.
+   */
+  public static void load() {
+    ObjectMap<String, PrefabConfig> loaded = BuiltInPrefabs.create();
+    if (Gdx.files != null && Gdx.files.internal(PREFABS_FILE).exists()) {
+      PrefabConfigs file = FileLoader.readClass(PrefabConfigs.class, PREFABS_FILE);
+      if (file != null) {
+        loaded.putAll(file.prefabs);
+      }
+    }
+
+    clear();
+    definitions = new ObjectMap<>(loaded.size);
+    for (ObjectMap.Entry<String, PrefabConfig> entry : loaded) {
+      if (isValid(entry.key, entry.value)) {
+        definitions.put(entry.key, entry.value);
+      }
+    }
+    logger.debug("Loaded {} prefabs", definitions.size);
+  }
+
+  /**
+   * Register a component which prefabs can add by name, e.g. as their controller.
+   *
+   * @param name name used in prefab definitions
+   * @param supplier creates a new component for each entity
+   */
+  public static void registerComponent(String name, Supplier<? extends Component> supplier) {
+    components.put(name, supplier);
+  }
+
+  /**
+   * Drop templates compiled from an asset. Resource services call this before unloading it.
+   *
+   * @param assetName asset path
+   */
+  public static void evict(String assetName) {
+    ObjectMap.Values<EntityTemplate> values = templates.values();
+    while (values.hasNext()) {
+      EntityTemplate template = values.next();
+      if (template.uses(assetName)) {
+        logger.debug("Evicted prefab {} using {}", template.getName(), assetName);
+        template.dispose();
+        values.remove();
+      }
+    }
+  }
+
+  /** Drop every compiled template. Definitions are kept. */
+  public static void clear() {
+    for (EntityTemplate template : templates.values()) {
+      template.dispose();
+    }
+    templates.clear();
+  }
+
+  /** @return number of compiled templates */
+  public static int getTemplateCount() {
+    return templates.size;
+  }
+
+  static Supplier<? extends Component> getComponent(String name) {
+    return components.get(name);
+  }
+
+  static int parseCategory(String category) {
+    switch (category) {
+      case "NONE":
+        return EntityCategory.NONE;
+      case "PLAYER":
+        return EntityCategory.PLAYER;
+      case "ENEMY":
+        return EntityCategory.ENEMY;
+      case "NPC":
+        return EntityCategory.NPC;
+      case "ITEM":
+        return EntityCategory.ITEM;
+      default:
+        throw new IllegalArgumentException("Unknown category " + category);
+    }
+  }
+
+  static short parseLayer(String layer) {
+    switch (layer) {
+      case "NONE":
+        return PhysicsLayer.NONE;
+      case "DEFAULT":
+        return PhysicsLayer.DEFAULT;
+      case "PLAYER":
+        return PhysicsLayer.PLAYER;
+      case "OBSTACLE":
+        return PhysicsLayer.OBSTACLE;
+      case "NPC":
+        return PhysicsLayer.NPC;
+      case "PROJECTILE":
+        return PhysicsLayer.PROJECTILE;
+      case "ALL":
+        return PhysicsLayer.ALL;
+      default:
+        throw new IllegalArgumentException("Unknown physics layer " + layer);
+    }
+  }
+
+  private static ObjectMap<String, PrefabConfig> getDefinitions() {
+    if (definitions == null) {
+      load();
+    }
+    return definitions;
+  }
+
+  /** Check everything which can be checked before the prefab's assets are loaded. */
+  private static boolean isValid(String name, PrefabConfig definition) {
+    try {
+      if (definition == null) {
+        throw new IllegalArgumentException("empty definition");
+      }
+      parseCategory(definition.category);
+      if (definition.enemyType != null) {
+        Entity.EnemyType.valueOf(definition.enemyType);
+      }
+      if (definition.config != null
+          && !(EntityConfigs.find(EntityConfigs.ENEMIES, definition.config)
+              instanceof BaseEnemyEntityConfig)) {
+        throw new IllegalArgumentException("unknown enemy config " + definition.config);
+      }
+      if (definition.animations.length > 0
+          && definition.atlas == null
+          && (definition.config == null || definition.texture != null)) {
+        throw new IllegalArgumentException("animations need an atlas");
+      }
+      for (AnimationConfig animation : definition.animations) {
+        if (animation.name == null || animation.frameDuration <= 0f) {
+          throw new IllegalArgumentException("animations need a name and a frame duration");
+        }
+        PlayMode.valueOf(animation.playMode);
+      }
+      checkPair(definition.scale, "scale");
+      checkPair(definition.collider, "collider");
+      if (definition.body != null) {
+        BodyType.valueOf(definition.body);
+      }
+      if (definition.colliderLayer != null) {
+        parseLayer(definition.colliderLayer);
+      }
+      if (definition.hitboxLayer != null) {
+        parseLayer(definition.hitboxLayer);
+      }
+      if (definition.kinematic && "touch".equals(definition.attack)) {
+        throw new IllegalArgumentException("touch attacks need a Box2D body");
+      }
+      if (definition.attack != null
+          && !definition.attack.equals("touch")
+          && !definition.attack.equals("projectile")) {
+        throw new IllegalArgumentException("unknown attack " + definition.attack);
+      }
+      for (String layer : definition.attackLayers) {
+        parseLayer(layer);
+      }
+      if (definition.controller != null && !components.containsKey(definition.controller)) {
+        throw new IllegalArgumentException("unregistered controller " + definition.controller);
+      }
+    } catch (IllegalArgumentException e) {
+      logger.error("Invalid prefab {}: {}", name, e.getMessage());
+      return false;
+    }
+    return true;
+  }
+
+  private static void checkPair(float[] values, String field) {
+    if (values != null && values.length != 2) {
+      throw new IllegalArgumentException(field + " needs an x and a y");
+    }
+  }
+
+  private PrefabLibrary() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
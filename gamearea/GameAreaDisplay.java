@@ -52,20 +52,20 @@ public class GameAreaDisplay extends UIComponent {
         // Determine the player icon texture and minimap frame texture based on the player image path
         switch (playerImagePath) {
             case "images/dog.png" -> {
-                playerIconTexture = new Texture(Gdx.files.internal("images/player_icon_forest.png"));
-                minimapFrameTexture = new Texture(Gdx.files.internal("images/minimap_frame_forest.png"));
+                playerIconTexture = acquireTexture("images/player_icon_forest.png");
+                minimapFrameTexture = acquireTexture("images/minimap_frame_forest.png");
             }
             case "images/croc.png" -> {
-                playerIconTexture = new Texture(Gdx.files.internal("images/player_icon_sea.png"));
-                minimapFrameTexture = new Texture(Gdx.files.internal("images/player_icon_sea.png"));
+                playerIconTexture = acquireTexture("images/player_icon_sea.png");
+                minimapFrameTexture = acquireTexture("images/player_icon_sea.png");
             }
             case "images/bird.png" -> {
-                playerIconTexture = new Texture(Gdx.files.internal("images/player_icon_sky.png"));
-                minimapFrameTexture = new Texture(Gdx.files.internal("images/player_icon_sky.png"));
+                playerIconTexture = acquireTexture("images/player_icon_sky.png");
+                minimapFrameTexture = acquireTexture("images/player_icon_sky.png");
             }
             default -> {
-                playerIconTexture = new Texture(Gdx.files.internal("images/player_icon_forest.png")); // Default icon
-                minimapFrameTexture = new Texture(Gdx.files.internal("images/minimap_frame_forest.png")); // Default for minimap
+                playerIconTexture = acquireTexture("images/player_icon_forest.png"); // Default icon
+                minimapFrameTexture = acquireTexture("images/minimap_frame_forest.png"); // Default for minimap
             }
         }
 
@@ -128,17 +128,11 @@ public class GameAreaDisplay extends UIComponent {
     }
 
     /**
-     * Disposes of assets used by this component, including the player icon texture and the title label.
+     * Disposes of this component, releasing the player icon and minimap textures and removing the title label.
      */
     @Override
     public void dispose() {
         super.dispose();
-        if (playerIconTexture != null) {
-            playerIconTexture.dispose();
-        }
-        if (minimapFrameTexture != null) {
-            minimapFrameTexture.dispose();
-        }
         title.remove();
     }
 }
@@ -3,6 +3,7 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.rendering.RenderStats;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -45,7 +46,12 @@ public class PerformanceDisplay extends UIComponent {
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
             .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
-    return message;
+    RenderStats.Frame frame = ServiceLocator.getRenderService().getStats().getLastFrame();
+    message =
+        message.concat(
+            String.format(
+                "Drawn: %d, culled: %d%n", frame.getTotalSubmitted(), frame.getTotalCulled()));
+    return message.concat(frame.toString());
   }
 
   @Override
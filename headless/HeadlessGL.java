@@ -0,0 +1,92 @@
+package com.csse3200.game.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * OpenGL stand-in for running without a display. Every call does nothing, except that object
+ * handles are unique and shaders and framebuffers report success, so that sprite batches, stages
+ * and textures can still be created by game code which expects them.
+ */
+public class HeadlessGL {
+  private static final Logger logger = LoggerFactory.getLogger(HeadlessGL.class);
+  private static int nextHandle = 1;
+
+  /**
+   * Install the stand-in as the current GL context, unless there already is one.
+   *
+   * @return true if installed, false if a GL context already existed
+   */
+  public static boolean install() {
+    if (Gdx.gl != null) {
+      return false;
+    }
+    GL20 gl = create();
+    Gdx.gl = gl;
+    Gdx.gl20 = gl;
+    logger.info("Installed headless GL");
+    return true;
+  }
+
+  /** @return a new GL stand-in */
+  public static GL20 create() {
+    return (GL20)
+        Proxy.newProxyInstance(
+            GL20.class.getClassLoader(),
+            new Class<?>[] {GL20.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "glGenTexture":
+                case "glGenBuffer":
+                case "glGenFramebuffer":
+                case "glGenRenderbuffer":
+                case "glCreateShader":
+                case "glCreateProgram":
+                  return nextHandle++;
+                case "glGetShaderiv":
+                  if ((int) args[1] == GL20.GL_COMPILE_STATUS) {
+                    ((IntBuffer) args[2]).put(0, 1);
+                  }
+                  return null;
+                case "glGetProgramiv":
+                  if ((int) args[1] == GL20.GL_LINK_STATUS) {
+                    ((IntBuffer) args[2]).put(0, 1);
+                  }
+                  return null;
+                case "glCheckFramebufferStatus":
+                  return GL20.GL_FRAMEBUFFER_COMPLETE;
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "equals":
+                  return proxy == args[0];
+                case "toString":
+                  return "HeadlessGL";
+                default:
+                  return defaultValue(method.getReturnType());
+              }
+            });
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (type == int.class) {
+      return 0;
+    } else if (type == boolean.class) {
+      return false;
+    } else if (type == float.class) {
+      return 0f;
+    } else if (type == long.class) {
+      return 0L;
+    } else if (type == String.class) {
+      return "";
+    }
+    return null;
+  }
+
+  private HeadlessGL() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
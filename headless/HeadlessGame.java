@@ -0,0 +1,64 @@
+package com.csse3200.game.headless;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.GdxGame;
+import com.csse3200.game.entities.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Game used when simulating without a display. Requests to change screen are counted instead of
+ * followed, so the simulation stays in the game area. Enemies which would have started combat are
+ * queued so the simulation can resolve the encounter.
+ */
+public class HeadlessGame extends GdxGame {
+  private static final Logger logger = LoggerFactory.getLogger(HeadlessGame.class);
+  private final int[] screenRequests = new int[ScreenType.values().length];
+  private final Array<Entity> encounters = new Array<>(false, 4);
+
+  @Override
+  public void create() {
+    // Screens are never shown
+  }
+
+  @Override
+  public void setScreen(ScreenType screenType) {
+    logger.debug("Ignoring screen change to {}", screenType);
+    screenRequests[screenType.ordinal()]++;
+  }
+
+  @Override
+  public void addScreen(ScreenType screenType, Screen screen, Entity player, Entity enemy) {
+    logger.debug("Ignoring screen {} with enemy {}", screenType, enemy);
+    screenRequests[screenType.ordinal()]++;
+    if (enemy != null && !encounters.contains(enemy, true)) {
+      encounters.add(enemy);
+    }
+  }
+
+  @Override
+  public void exit() {
+    logger.debug("Ignoring exit request");
+  }
+
+  /**
+   * @param screenType screen type
+   * @return number of times game code asked to show this screen
+   */
+  public int getScreenRequests(ScreenType screenType) {
+    return screenRequests[screenType.ordinal()];
+  }
+
+  /**
+   * Take the enemies which started combat since the last call.
+   *
+   * @param out array to add the enemies to
+   * @return the given array
+   */
+  public Array<Entity> takeEncounters(Array<Entity> out) {
+    out.addAll(encounters);
+    encounters.clear();
+    return out;
+  }
+}
@@ -0,0 +1,57 @@
+package com.csse3200.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.csse3200.game.GdxGame.ScreenType;
+import com.csse3200.game.areas.MapHandler.MapType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the game world for a number of frames without a display, e.g. for soak tests in CI or
+ * benchmarking gameplay code. Requires the libGDX headless backend on the classpath.
+ *
+ * <p>Usage: {@code HeadlessLauncher [frames] [delta] [map]}, defaulting to 3600 frames of 1/60s in
+ * the forest.
+ */
+public class HeadlessLauncher {
+  private static final Logger logger = LoggerFactory.getLogger(HeadlessLauncher.class);
+  private static final int DEFAULT_FRAMES = 3600;
+  private static final float DEFAULT_DELTA = 1 / 60f;
+
+  public static void main(String[] args) {
+    int frames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FRAMES;
+    float delta = args.length > 1 ? Float.parseFloat(args[1]) : DEFAULT_DELTA;
+    MapType map = args.length > 2 ? MapType.valueOf(args[2]) : MapType.FOREST;
+
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // The simulation runs its own loop, the application should never call render
+    config.updatesPerSecond = -1;
+    new HeadlessApplication(
+        new ApplicationAdapter() {
+          @Override
+          public void create() {
+            HeadlessSimulation simulation = new HeadlessSimulation(delta);
+            try {
+              simulation.createArea(map);
+              simulation.run(frames);
+              logger.info(
+                  "Combat started {} times",
+                  simulation.getGame().getScreenRequests(ScreenType.ENEMY_CUTSCENE)
+                      + simulation.getGame().getScreenRequests(ScreenType.BOSS_CUTSCENE)
+                      + simulation.getGame().getScreenRequests(ScreenType.COMBAT));
+            } finally {
+              simulation.dispose();
+              Gdx.app.exit();
+            }
+          }
+        },
+        config);
+  }
+
+  private HeadlessLauncher() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
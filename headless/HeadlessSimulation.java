@@ -0,0 +1,188 @@
+package com.csse3200.game.headless;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.MapHandler;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.DialogueBoxService;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.factories.RenderFactory;
+import com.csse3200.game.input.InputService;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.FixedStepGameTime;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the game world without a display, at a fixed time step and as fast as the CPU allows. The
+ * world is built with the usual entity, physics, AI and terrain code, but nothing is ever drawn:
+ * textures are loaded without decoding, the render service is never asked to render, and GL calls
+ * go to {@link HeadlessGL} when there is no real context. Audio should be the libGDX headless
+ * backend's, which plays nothing.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ *   HeadlessSimulation simulation = new HeadlessSimulation(1 / 60f);
+ *   simulation.createArea(MapHandler.MapType.FOREST);
+ *   simulation.run(3600);
+ *   simulation.dispose();
+ * </pre>
+ */
+public class HeadlessSimulation implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(HeadlessSimulation.class);
+  private final FixedStepGameTime timeSource;
+  private final PhysicsEngine physicsEngine;
+  private final HeadlessGame game = new HeadlessGame();
+  private final CameraComponent camera;
+  private final Array<Entity> encounters = new Array<>(false, 4);
+  private GameArea gameArea;
+  private long stepNanos = 0;
+
+  /**
+   * Register headless services with the service locator. Any previously registered services are
+   * replaced.
+   *
+   * @param stepDelta simulated time per frame, in seconds
+   */
+  public HeadlessSimulation(float stepDelta) {
+    logger.debug("Initialising headless services");
+    HeadlessGL.install();
+
+    timeSource = new FixedStepGameTime(stepDelta);
+    ServiceLocator.registerTimeSource(timeSource);
+
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    physicsEngine = physicsService.getPhysics();
+    ServiceLocator.registerPathfindingService(new PathfindingService(physicsEngine));
+
+    ServiceLocator.registerInputService(new InputService());
+    ServiceLocator.registerResourceService(createResourceService());
+    ServiceLocator.registerEntityService(new EntityService());
+
+    // UI components still expect a stage to add their actors to, it is just never drawn
+    RenderService renderService = new RenderService();
+    Stage stage = new Stage(new ScreenViewport(), new SpriteBatch());
+    renderService.setStage(stage);
+    ServiceLocator.registerRenderService(renderService);
+    ServiceLocator.registerDialogueBoxService(new DialogueBoxService(stage));
+
+    Entity cameraEntity = RenderFactory.createCamera();
+    ServiceLocator.getEntityService().register(cameraEntity);
+    camera = cameraEntity.getComponent(CameraComponent.class);
+  }
+
+  /**
+   * Create a resource service which loads textures without decoding them and never packs atlases.
+   *
+   * @return headless resource service
+   */
+  public static ResourceService createResourceService() {
+    AssetManager assetManager = new AssetManager();
+    InternalFileHandleResolver resolver = new InternalFileHandleResolver();
+    assetManager.setLoader(Texture.class, new HeadlessTextureLoader(resolver));
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.setPackingEnabled(false);
+    return resourceService;
+  }
+
+  /**
+   * Create a game area and spawn its player, enemies and terrain.
+   *
+   * @param mapType map to create
+   * @return the created area
+   */
+  public GameArea createArea(MapHandler.MapType mapType) {
+    gameArea = MapHandler.switchMapTo(mapType, camera, game, false);
+    return gameArea;
+  }
+
+  /** Advance the world by one fixed step. */
+  public void step() {
+    long start = TimeUtils.nanoTime();
+    timeSource.step();
+    physicsEngine.update();
+    ServiceLocator.getEntityService().update();
+    physicsEngine.launchSteps();
+    resolveEncounters();
+    stepNanos += TimeUtils.timeSinceNanos(start);
+  }
+
+  /**
+   * Advance the world by a number of fixed steps.
+   *
+   * @param frames number of steps
+   */
+  public void run(int frames) {
+    logger.info("Simulating {} frames", frames);
+    for (int i = 0; i < frames; i++) {
+      step();
+    }
+    logger.info(
+        "Simulated {} frames ({}s of game time) in {}ms",
+        getFrames(),
+        timeSource.getTime() / 1000f,
+        stepNanos / 1_000_000);
+  }
+
+  /**
+   * Enemies which would have started combat are treated as beaten, as they are when returning from
+   * the combat screen, so they don't start combat again on the next frame.
+   */
+  private void resolveEncounters() {
+    game.takeEncounters(encounters);
+    for (Entity enemy : encounters) {
+      if (gameArea != null) {
+        gameArea.getEnemies().remove(enemy);
+      }
+      enemy.dispose();
+    }
+    encounters.clear();
+  }
+
+  /** @return number of steps taken */
+  public long getFrames() {
+    return timeSource.getSteps();
+  }
+
+  /** @return real time spent stepping the world, in nanoseconds */
+  public long getStepNanos() {
+    return stepNanos;
+  }
+
+  /** @return the game, which records requested screen changes */
+  public HeadlessGame getGame() {
+    return game;
+  }
+
+  /** @return the current game area, or null if none has been created */
+  public GameArea getGameArea() {
+    return gameArea;
+  }
+
+  @Override
+  public void dispose() {
+    logger.debug("Disposing headless simulation");
+    MapHandler.clear();
+    ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getRenderService().getStage().dispose();
+    ServiceLocator.getRenderService().dispose();
+    ServiceLocator.getResourceService().dispose();
+    ServiceLocator.clear();
+  }
+}
@@ -0,0 +1,126 @@
+package com.csse3200.game.headless;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Texture loader which never decodes image data. Loaded textures have the size of the image, read
+ * from the PNG header when possible, but no contents. Game code can still measure textures and
+ * build regions from them, which is all that matters without a display.
+ */
+public class HeadlessTextureLoader extends AsynchronousAssetLoader<Texture, TextureParameter> {
+  private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+
+  public HeadlessTextureLoader(FileHandleResolver resolver) {
+    super(resolver);
+  }
+
+  @Override
+  public void loadAsync(
+      AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+    // Nothing to decode
+  }
+
+  @Override
+  public Texture loadSync(
+      AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+    return new Texture(new SizeOnlyTextureData(file));
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public Array<AssetDescriptor> getDependencies(
+      String fileName, FileHandle file, TextureParameter parameter) {
+    return null;
+  }
+
+  /** Texture data with a size and no pixels. */
+  private static class SizeOnlyTextureData implements TextureData {
+    private int width = 1;
+    private int height = 1;
+
+    SizeOnlyTextureData(FileHandle file) {
+      DataInputStream in = null;
+      try {
+        in = new DataInputStream(file.read());
+        // PNG signature, then the IHDR chunk length and type, then width and height
+        if (in.readLong() == PNG_SIGNATURE) {
+          in.skipBytes(8);
+          width = in.readInt();
+          height = in.readInt();
+        }
+      } catch (IOException | GdxRuntimeException e) {
+        // Not a PNG or not readable, a 1x1 texture is good enough
+      } finally {
+        StreamUtils.closeQuietly(in);
+      }
+    }
+
+    @Override
+    public TextureDataType getType() {
+      return TextureDataType.Custom;
+    }
+
+    @Override
+    public boolean isPrepared() {
+      return true;
+    }
+
+    @Override
+    public void prepare() {
+      // Always prepared
+    }
+
+    @Override
+    public Pixmap consumePixmap() {
+      throw new GdxRuntimeException("Headless textures have no pixmap");
+    }
+
+    @Override
+    public boolean disposePixmap() {
+      return false;
+    }
+
+    @Override
+    public void consumeCustomData(int target) {
+      // Nothing to upload
+    }
+
+    @Override
+    public int getWidth() {
+      return width;
+    }
+
+    @Override
+    public int getHeight() {
+      return height;
+    }
+
+    @Override
+    public Pixmap.Format getFormat() {
+      return Pixmap.Format.RGBA8888;
+    }
+
+    @Override
+    public boolean useMipMaps() {
+      return false;
+    }
+
+    @Override
+    public boolean isManaged() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.csse3200.game.headless;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.PhysicsSettings;
+import com.csse3200.game.physics.kinematic.KinematicBody;
+import com.csse3200.game.physics.kinematic.KinematicWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the cost of stepping Box2D against the {@link KinematicWorld} for the same scene: moving
+ * circles wandering between static boxes in a zero-gravity world. Only needs the Box2D natives, not
+ * a running application.
+ *
+ * <p>Usage: {@code PhysicsBenchmark [movingBodies] [staticBodies] [steps]}
+ */
+public class PhysicsBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(PhysicsBenchmark.class);
+  private static final int DEFAULT_MOVING = 2000;
+  private static final int DEFAULT_STATIC = 500;
+  private static final int DEFAULT_STEPS = 600;
+  private static final float WORLD_SIZE = 200f;
+  private static final float RADIUS = 0.4f;
+  private static final float SPEED = 2f;
+  private static final long SEED = 3200L;
+  /** Steps between each body changing direction */
+  private static final int TURN_STEPS = 60;
+
+  public static void main(String[] args) {
+    int moving = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MOVING;
+    int statics = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_STATIC;
+    int steps = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_STEPS;
+    float timestep = 1f / PhysicsSettings.DEFAULT_TICK_RATE;
+
+    // Both engines get the same positions and velocities
+    RandomXS128 random = new RandomXS128(SEED);
+    int turns = steps / TURN_STEPS + 2;
+    Vector2[][] velocities = new Vector2[moving][turns];
+    for (int i = 0; i < moving; i++) {
+      for (int turn = 0; turn < turns; turn++) {
+        velocities[i][turn] =
+            new Vector2(SPEED * (0.5f + random.nextFloat() * 0.5f), 0f)
+                .setAngleRad(random.nextFloat() * MathUtils.PI2);
+      }
+    }
+
+    Box2D.init();
+    long box2dNanos = runBox2D(moving, statics, steps, timestep, velocities);
+    long kinematicNanos = runKinematic(moving, statics, steps, timestep, velocities);
+
+    logger.info(
+        "{} moving, {} static bodies, {} steps: Box2D {}ms/step, kinematic {}ms/step ({}x)",
+        moving,
+        statics,
+        steps,
+        String.format("%.3f", box2dNanos / 1e6 / steps),
+        String.format("%.3f", kinematicNanos / 1e6 / steps),
+        String.format("%.1f", (double) box2dNanos / Math.max(1L, kinematicNanos)));
+  }
+
+  private static long runBox2D(
+      int moving, int statics, int steps, float timestep, Vector2[][] velocities) {
+    RandomXS128 random = new RandomXS128(SEED);
+    World world = new World(Vector2.Zero, true);
+    BodyDef bodyDef = new BodyDef();
+    PolygonShape box = new PolygonShape();
+    box.setAsBox(0.5f, 0.5f);
+    bodyDef.type = BodyType.StaticBody;
+    for (int i = 0; i < statics; i++) {
+      bodyDef.position.set(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+      world.createBody(bodyDef).createFixture(box, 0f);
+    }
+    box.dispose();
+
+    CircleShape circle = new CircleShape();
+    circle.setRadius(RADIUS);
+    bodyDef.type = BodyType.DynamicBody;
+    bodyDef.fixedRotation = true;
+    Body[] bodies = new Body[moving];
+    for (int i = 0; i < moving; i++) {
+      bodyDef.position.set(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+      bodies[i] = world.createBody(bodyDef);
+      bodies[i].createFixture(circle, 1f);
+    }
+    circle.dispose();
+
+    long start = System.nanoTime();
+    for (int step = 0; step < steps; step++) {
+      for (int i = 0; i < moving; i++) {
+        bodies[i].setLinearVelocity(wander(velocities, i, step));
+      }
+      world.step(
+          timestep,
+          PhysicsSettings.DEFAULT_VELOCITY_ITERATIONS,
+          PhysicsSettings.DEFAULT_POSITION_ITERATIONS);
+    }
+    long elapsed = System.nanoTime() - start;
+    world.dispose();
+    return elapsed;
+  }
+
+  private static long runKinematic(
+      int moving, int statics, int steps, float timestep, Vector2[][] velocities) {
+    RandomXS128 random = new RandomXS128(SEED);
+    KinematicWorld world = new KinematicWorld();
+    Vector2 offset = new Vector2(-0.5f, -0.5f);
+    for (int i = 0; i < statics; i++) {
+      KinematicBody body =
+          new KinematicBody().setAsBox(1f, 1f, offset).setStatic(true).setLayer(PhysicsLayer.OBSTACLE);
+      body.setPosition(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+      world.add(body);
+    }
+
+    KinematicBody[] bodies = new KinematicBody[moving];
+    for (int i = 0; i < moving; i++) {
+      bodies[i] = new KinematicBody().setAsCircle(RADIUS, Vector2.Zero).setLayer(PhysicsLayer.NPC);
+      bodies[i].setPosition(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+      world.add(bodies[i]);
+    }
+
+    long start = System.nanoTime();
+    for (int step = 0; step < steps; step++) {
+      for (int i = 0; i < moving; i++) {
+        Vector2 velocity = wander(velocities, i, step);
+        bodies[i].setVelocity(velocity.x, velocity.y);
+      }
+      world.step(timestep);
+    }
+    long elapsed = System.nanoTime() - start;
+    world.clear();
+    return elapsed;
+  }
+
+  /** Each body changes direction every second, staggered between bodies. */
+  private static Vector2 wander(Vector2[][] velocities, int body, int step) {
+    return velocities[body][(step + body % TURN_STEPS) / TURN_STEPS];
+  }
+
+  private PhysicsBenchmark() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
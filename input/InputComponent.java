@@ -52,6 +52,15 @@ public abstract class InputComponent extends Component
     ServiceLocator.getInputService().unregister(this);
   }
 
+  @Override
+  public void setSuspended(boolean suspended) {
+    if (suspended) {
+      ServiceLocator.getInputService().unregister(this);
+    } else {
+      ServiceLocator.getInputService().register(this);
+    }
+  }
+
   /**
    * Below methods are for supporting keyboard and touch.
    */
@@ -1,9 +1,9 @@
 package com.csse3200.game.components.lootboxview;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.inventory.items.AbstractItem;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -20,6 +20,8 @@ import java.util.List;
 public class LootBoxOverlayComponent extends UIComponent {
     private static final Logger logger = LoggerFactory.getLogger(LootBoxOverlayComponent.class);
     private Window overlayWindow;
+    /** Textures of the items currently shown, released when the overlay is cleared */
+    private final Array<String> itemTextures = new Array<>();
 
     /**
      * Initializes the loot box overlay component. Creates the overlay window and sets up the
@@ -57,13 +59,13 @@ public class LootBoxOverlayComponent extends UIComponent {
         logger.info("Showing loot with items: {}", items);
 
         // Clear the previous contents of the overlay
-        overlayWindow.clearChildren();
+        clearItems();
 
         // Add new items to the overlay
         Table contentTable = new Table(skin);
         for (AbstractItem item : items) {
-            Texture itemTexture = new Texture(item.getTexturePath());
-            Image itemImage = new Image(itemTexture);
+            Image itemImage = new Image(acquireTexture(item.getTexturePath()));
+            itemTextures.add(item.getTexturePath());
             Label itemLabel = new Label(item.getName(), skin);
 
             // Add each item to the overlay table
@@ -112,10 +114,21 @@ public class LootBoxOverlayComponent extends UIComponent {
      */
     private void hideOverlay() {
         overlayWindow.setVisible(false);
-        overlayWindow.clearChildren(); // Optionally clear contents if needed
+        clearItems();
         logger.info("LootBoxOverlay hidden by close button.");
     }
 
+    /**
+     * Removes the shown items from the overlay and releases their textures.
+     */
+    private void clearItems() {
+        overlayWindow.clearChildren();
+        for (String path : itemTextures) {
+            releaseTexture(path);
+        }
+        itemTextures.clear();
+    }
+
     /**
      * Disposes of the loot box overlay component by hiding the overlay and removing it from the stage.
      */
@@ -44,6 +44,9 @@ public class MainMenuDisplay extends UIComponent {
     private LoginRegisterDisplay loginRegisterDisplay;
     private TextButton toggleWindowBtn;
     private Texture lightBackgroundTexture;
+    private Texture dayBackgroundTexture;
+    /** Draws the background in screen coordinates, separately from the world batch */
+    private SpriteBatch backgroundBatch;
     private Texture settingBackground;
     private Texture userTableBackground;
     private Button muteButton;  // Mute toggle button with texture
@@ -94,15 +97,17 @@ public class MainMenuDisplay extends UIComponent {
      * Load the textures for the mute and unmute button states.
      */
     private void loadTextures() {
-        settingBackground = new Texture("images/SettingBackground.png");
-        lightBackgroundTexture = new Texture("images/SplashScreen/SplashTitle.png");
-        userTableBackground = new Texture("images/UserTable.png");
-        muteTexture = new Texture("images/sound_off.png");  // Add your mute icon here
-        unmuteTexture = new Texture("images/sound_on.png");  // Add your unmute icon here
-        dog2Texture = new Texture("images/dog2.png");
-        crocTexture = new Texture("images/croc.png");
-        birdTexture = new Texture("images/bird.png");
-        nightBackgroundTexture = new Texture("images/SplashScreen/SplashTitleNight1.png"); // Night background
+        settingBackground = acquireTexture("images/SettingBackground.png");
+        dayBackgroundTexture = acquireTexture("images/SplashScreen/SplashTitle.png");
+        lightBackgroundTexture = dayBackgroundTexture;
+        userTableBackground = acquireTexture("images/UserTable.png");
+        muteTexture = acquireTexture("images/sound_off.png");  // Add your mute icon here
+        unmuteTexture = acquireTexture("images/sound_on.png");  // Add your unmute icon here
+        dog2Texture = acquireTexture("images/dog2.png");
+        crocTexture = acquireTexture("images/croc.png");
+        birdTexture = acquireTexture("images/bird.png");
+        nightBackgroundTexture = acquireTexture("images/SplashScreen/SplashTitleNight1.png"); // Night background
+        backgroundBatch = new SpriteBatch();
         clickSound = Gdx.audio.newSound(Gdx.files.internal("sounds/click.mp3")); // Click sound for buttons
     }
 
@@ -200,14 +205,14 @@ public class MainMenuDisplay extends UIComponent {
      */
     private void initializeMenuButtons() {
         // Initialises buttons
-        startBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/Start1.png"))));
-        loadBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/Load1.png"))));
-        minigamesBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/Minigame1.png"))));
-        settingsBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/Settings1.png"))));
-        logbookBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/logbook1.png"))));
+        startBtn = new Button (acquireDrawable("images/ButtonsMain/Start1.png"));
+        loadBtn = new Button (acquireDrawable("images/ButtonsMain/Load1.png"));
+        minigamesBtn = new Button (acquireDrawable("images/ButtonsMain/Minigame1.png"));
+        settingsBtn = new Button (acquireDrawable("images/ButtonsMain/Settings1.png"));
+        logbookBtn = new Button (acquireDrawable("images/ButtonsMain/logbook1.png"));
         statsBtn = new TextButton("Stats", skin);
-        helpBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/Help1.png"))));
-        exitBtn = new Button (new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/Exit1.png"))));
+        helpBtn = new Button (acquireDrawable("images/ButtonsMain/Help1.png"));
+        exitBtn = new Button (acquireDrawable("images/ButtonsMain/Exit1.png"));
     }
 
     /**
@@ -387,7 +392,7 @@ public class MainMenuDisplay extends UIComponent {
      * Applies Day Mode by changing the background texture to the default day version.
      */
     private void applyDayMode() {
-        lightBackgroundTexture = new Texture("images/SplashScreen/SplashTitle.png");  // Set the day mode background.
+        lightBackgroundTexture = dayBackgroundTexture;  // Set the day mode background.
     }
 
     private void updateMuteButtonIcon() {
@@ -407,7 +412,7 @@ public class MainMenuDisplay extends UIComponent {
         userTable.setVisible(true);
 
         userTable.setPosition(screenWidth - 150, screenHeight - 600);
-        Button profileBtn = new Button(new TextureRegionDrawable(new TextureRegion(new Texture("images/ButtonsMain/User.png"))));
+        Button profileBtn = new Button(acquireDrawable("images/ButtonsMain/User.png"));
         userTable.add(profileBtn).size(100, 100).top().padTop(30).expandY();
 
         profileBtn.addListener(new ChangeListener() {
@@ -507,7 +512,7 @@ public class MainMenuDisplay extends UIComponent {
         Label title = new Label("Help", skin, "title-white");
         // Create a table for the close button
         Table closeButtonTable = new Table();
-        Button closeButton = new Button(new TextureRegionDrawable(new TextureRegion(new Texture("images/CloseButton.png"))));
+        Button closeButton = new Button(acquireDrawable("images/CloseButton.png"));
         closeButtonTable.add(closeButton).size(80, 80).right().expandX().padTop(-10).padRight(-10);
 
         Table topTable = new Table();
@@ -625,11 +630,8 @@ public class MainMenuDisplay extends UIComponent {
      */
     private void addTopRightButtons() {
 
-        Texture minimizeTexture = new Texture(Gdx.files.internal("images/ButtonsMain/Minimise.png")); // Replace with your minimize icon
-        Texture maximizeTexture = new Texture(Gdx.files.internal("images/ButtonsMain/Maxamise.png")); // Replace with your maximize icon
-
-        Drawable minimizeDrawable = new TextureRegionDrawable(new TextureRegion(minimizeTexture));
-        Drawable maximizeDrawable = new TextureRegionDrawable(new TextureRegion(maximizeTexture));
+        Drawable minimizeDrawable = acquireDrawable("images/ButtonsMain/Minimise.png");
+        Drawable maximizeDrawable = acquireDrawable("images/ButtonsMain/Maxamise.png");
 
         Table topRightTable = new Table();
         topRightTable.top().right();
@@ -716,7 +718,7 @@ public class MainMenuDisplay extends UIComponent {
         topTable.add(title).expandX().center().padTop(5);
         topTable.row();
 
-        Button closeButton = new Button(new TextureRegionDrawable(new TextureRegion(new Texture("images/CloseButton.png"))));
+        Button closeButton = new Button(acquireDrawable("images/CloseButton.png"));
         topTable.add(closeButton).size(80, 80).right().expandX().padRight(-25).padTop(-110);
 
         settingsMenuDisplay = new SettingsMenuDisplay();
@@ -860,10 +862,9 @@ public class MainMenuDisplay extends UIComponent {
 
     @Override
     public void draw(SpriteBatch batch) {
-        batch = new SpriteBatch();
-        batch.begin();
-        batch.draw(lightBackgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        backgroundBatch.begin();
+        backgroundBatch.draw(lightBackgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        backgroundBatch.end();
     }
 
     @Override
@@ -874,9 +875,7 @@ public class MainMenuDisplay extends UIComponent {
     @Override
     public void dispose() {
         table.clear();
-        dog2Texture.dispose();
-        crocTexture.dispose();
-        birdTexture.dispose();
+        backgroundBatch.dispose();
         super.dispose();
         clickSound.dispose();
     }
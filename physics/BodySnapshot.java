@@ -0,0 +1,51 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * Positions of a tracked body after the last two physics steps, used to interpolate between them
+ * when rendering. Written by the physics engine after each step and read once the steps are
+ * finished, so it is safe to read while the physics thread is idle.
+ */
+public class BodySnapshot {
+  private final Body body;
+  private final Vector2 previous = new Vector2();
+  private final Vector2 current = new Vector2();
+
+  BodySnapshot(Body body) {
+    this.body = body;
+  }
+
+  /** Record the body's position after a step, keeping the position from the step before. */
+  void capture() {
+    previous.set(current);
+    current.set(body.getPosition());
+  }
+
+  /**
+   * Reset both positions, e.g. when the body is teleported, so it isn't interpolated across the
+   * jump.
+   *
+   * @param position new position
+   */
+  public void reset(Vector2 position) {
+    previous.set(position);
+    current.set(position);
+  }
+
+  /**
+   * Get the position part of the way between the last two steps.
+   *
+   * @param alpha fraction of a step, from 0 (previous step) to 1 (last step)
+   * @param out vector to store the result in
+   * @return the given vector
+   */
+  public Vector2 interpolate(float alpha, Vector2 out) {
+    return out.set(previous).lerp(current, alpha);
+  }
+
+  public Body getBody() {
+    return body;
+  }
+}
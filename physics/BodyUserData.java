@@ -12,4 +12,10 @@ public class BodyUserData {
    * The entity to which this body is attached
    */
   public Entity entity;
+
+  /**
+   * Physics layers whose contacts with this body trigger collision events on the entity. Contacts
+   * with other layers are ignored without any event overhead.
+   */
+  public short collisionInterest = PhysicsLayer.NONE;
 }
@@ -0,0 +1,162 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongMap;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Caches line of sight between pairs of entities so AI can ask for it every frame without casting a
+ * ray every time. A result is reused for a number of frames, and rays are limited to a budget per
+ * frame. Once the budget is used up, older results are returned until they pass the staleness
+ * limit, after which a ray is cast regardless.
+ *
+ * <p>Refreshes are spread across frames by giving each new pair a different initial age.
+ */
+public class LineOfSightService {
+  private static final int DEFAULT_MAX_AGE = 10;
+  private static final int DEFAULT_MAX_STALENESS = 40;
+  private static final int DEFAULT_RAYCAST_BUDGET = 32;
+  /** Frames a pair can go unqueried before it is forgotten */
+  private static final int EVICT_AFTER = 120;
+
+  private final PhysicsEngine physics;
+  private final LongMap<Entry> entries = new LongMap<>();
+  private final RaycastHit hit = new RaycastHit();
+  private final Vector2 from = new Vector2();
+  private final Vector2 to = new Vector2();
+  private int maxAge = DEFAULT_MAX_AGE;
+  private int maxStaleness = DEFAULT_MAX_STALENESS;
+  private int raycastBudget = DEFAULT_RAYCAST_BUDGET;
+  private long frame;
+  private int raycastsThisFrame;
+  private int forcedThisFrame;
+
+  /** @param physics physics engine to cast rays in */
+  public LineOfSightService(PhysicsEngine physics) {
+    this.physics = physics;
+  }
+
+  /** Start a new frame, resetting the raycast budget. Called by the physics engine each update. */
+  void nextFrame() {
+    frame++;
+    raycastsThisFrame = 0;
+    forcedThisFrame = 0;
+    if (frame % EVICT_AFTER == 0) {
+      LongMap.Entries<Entry> iterator = entries.entries();
+      while (iterator.hasNext()) {
+        if (frame - iterator.next().value.lastQueried > EVICT_AFTER) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Check whether the target can be seen from the observer, i.e. there are no colliders in the
+   * layer mask between their centres. The answer may be up to the max staleness old.
+   *
+   * @param observer entity looking
+   * @param target entity being looked for
+   * @param layerMask layers which block line of sight
+   * @return true if nothing blocks line of sight
+   */
+  public boolean isVisible(Entity observer, Entity target, short layerMask) {
+    long key = ((long) observer.getId() << 32) | (target.getId() & 0xffffffffL);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      entry = new Entry();
+      entries.put(key, entry);
+      refresh(entry, observer, target, layerMask);
+      // Age new pairs differently so they don't all refresh on the same frame
+      entry.evaluated -= (int) ((key ^ (key >>> 32)) & 0x7fffffff) % maxAge;
+      return entry.visible;
+    }
+
+    entry.lastQueried = frame;
+    long age = frame - entry.evaluated;
+    if (entry.layerMask == layerMask && age < maxAge) {
+      return entry.visible;
+    }
+    if (raycastsThisFrame < raycastBudget) {
+      refresh(entry, observer, target, layerMask);
+    } else if (entry.layerMask != layerMask || age >= maxStaleness) {
+      forcedThisFrame++;
+      refresh(entry, observer, target, layerMask);
+    }
+    return entry.visible;
+  }
+
+  private void refresh(Entry entry, Entity observer, Entity target, short layerMask) {
+    raycastsThisFrame++;
+    from.set(observer.getCenterPosition());
+    to.set(target.getCenterPosition());
+    entry.visible = !physics.raycast(from, to, layerMask, hit);
+    entry.layerMask = layerMask;
+    entry.evaluated = frame;
+    entry.lastQueried = frame;
+
+    DebugRenderer debug = ServiceLocator.getRenderService() == null
+        ? null : ServiceLocator.getRenderService().getDebug();
+    if (debug != null && debug.getActive()) {
+      debug.drawLine(from, entry.visible ? to : hit.point);
+    }
+  }
+
+  /** Forget every cached result, e.g. after the map changes. */
+  public void clear() {
+    entries.clear();
+  }
+
+  /** @param maxAge frames a result is reused for before it is refreshed within the budget */
+  public void setMaxAge(int maxAge) {
+    this.maxAge = Math.max(1, maxAge);
+    this.maxStaleness = Math.max(this.maxStaleness, this.maxAge);
+  }
+
+  public int getMaxAge() {
+    return maxAge;
+  }
+
+  /** @param maxStaleness frames after which a result is refreshed even if over budget */
+  public void setMaxStaleness(int maxStaleness) {
+    this.maxStaleness = Math.max(maxAge, maxStaleness);
+  }
+
+  public int getMaxStaleness() {
+    return maxStaleness;
+  }
+
+  /** @param raycastBudget rays cast per frame before stale results are returned instead */
+  public void setRaycastBudget(int raycastBudget) {
+    this.raycastBudget = Math.max(0, raycastBudget);
+  }
+
+  public int getRaycastBudget() {
+    return raycastBudget;
+  }
+
+  /** @return rays cast so far this frame, including forced ones */
+  public int getRaycastsThisFrame() {
+    return raycastsThisFrame;
+  }
+
+  /** @return rays cast over budget this frame to keep results within the staleness limit */
+  public int getForcedThisFrame() {
+    return forcedThisFrame;
+  }
+
+  /** @return number of cached observer/target pairs */
+  public int getCachedPairs() {
+    return entries.size;
+  }
+
+  private static class Entry {
+    boolean visible;
+    short layerMask;
+    long evaluated;
+    long lastQueried;
+  }
+}
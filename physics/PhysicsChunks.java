@@ -0,0 +1,315 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import java.util.HashSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scopes physics bodies to terrain chunks, so the Box2D broadphase only holds what is near the
+ * player.
+ *
+ * <ul>
+ *   <li>Moving bodies are deactivated while they are outside the active chunks. This is re-checked
+ *       whenever the active chunks change, and a few bodies at a time each {@link #update()}, so
+ *       bodies moving or teleported across chunk borders are caught too.
+ *   <li>Mergeable static bodies, such as trees, are merged into one compound body per chunk when
+ *       {@link #commit()} is called, which is activated along with its chunk.
+ * </ul>
+ *
+ * <p>Until the active chunks are first set, every chunk is active.
+ */
+public class PhysicsChunks {
+  private static final Logger logger = LoggerFactory.getLogger(PhysicsChunks.class);
+  private static final float DEFAULT_CHUNK_SIZE = 16f;
+  /** Moving bodies re-checked each update, so every body is checked every few frames */
+  private static final int RECHECKS_PER_UPDATE = 16;
+
+  private final PhysicsEngine physics;
+  private float chunkSize = DEFAULT_CHUNK_SIZE;
+  /** Copy of the active chunks, only used once chunksSet */
+  private final Set<GridPoint2> activeChunks = new HashSet<>();
+  private boolean chunksSet = false;
+  private final Array<PhysicsComponent> movingBodies = new Array<>(false, 64);
+  private int nextRecheck = 0;
+  private final Array<PhysicsComponent> pendingStatics = new Array<>(false, 64);
+  private final ObjectMap<GridPoint2, Body> chunkBodies = new ObjectMap<>();
+  private final ObjectMap<Fixture, Fixture> mergedFixtures = new ObjectMap<>();
+  private final GridPoint2 chunk = new GridPoint2();
+  private final Vector2 position = new Vector2();
+  private final Vector2 vertex = new Vector2();
+
+  PhysicsChunks(PhysicsEngine physics) {
+    this.physics = physics;
+  }
+
+  /** @param chunkSize width and height of a chunk, in world units */
+  public void setChunkSize(float chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Register a moving body, so it is deactivated outside the active chunks.
+   *
+   * @param component physics component of the body
+   */
+  public void addMoving(PhysicsComponent component) {
+    movingBodies.add(component);
+    component.setInActiveChunk(isActive(component.getEntity().getPosition(position)));
+  }
+
+  /**
+   * Register a static body to be merged into its chunk body on the next {@link #commit()}. Its
+   * colliders must be created by then.
+   *
+   * @param component physics component of the body
+   */
+  public void addStatic(PhysicsComponent component) {
+    pendingStatics.add(component);
+  }
+
+  /**
+   * Stop managing a body, e.g. when it is disposed.
+   *
+   * @param component physics component of the body
+   */
+  public void remove(PhysicsComponent component) {
+    movingBodies.removeValue(component, true);
+    pendingStatics.removeValue(component, true);
+  }
+
+  /**
+   * Merge the static bodies registered since the last commit into the compound body of the chunk
+   * they're in. Call once a chunk's static obstacles have been spawned.
+   */
+  public void commit() {
+    if (pendingStatics.isEmpty()) {
+      return;
+    }
+    physics.finishSteps();
+    int merged = 0;
+    for (PhysicsComponent component : pendingStatics) {
+      Body body = component.getBody();
+      toChunk(component.getEntity().getPosition(position));
+      Body chunkBody = getChunkBody(chunk);
+
+      mergedFixtures.clear();
+      for (Fixture fixture : body.getFixtureList()) {
+        Fixture copy = copyFixture(fixture, body.getPosition(), chunkBody);
+        if (copy == null) {
+          break;
+        }
+        mergedFixtures.put(fixture, copy);
+      }
+      if (mergedFixtures.size != body.getFixtureList().size) {
+        // A shape we can't move, leave this body as it is
+        for (Fixture copy : mergedFixtures.values()) {
+          chunkBody.destroyFixture(copy);
+        }
+        continue;
+      }
+      component.mergeInto(chunkBody, mergedFixtures);
+      merged++;
+    }
+    mergedFixtures.clear();
+    pendingStatics.clear();
+    logger.debug("Merged {} static bodies into {} chunk bodies", merged, chunkBodies.size);
+  }
+
+  /**
+   * Set the chunks bodies should be active in, activating and deactivating bodies as needed.
+   *
+   * @param activeChunks positions of the active chunks. Copied, so later changes to it have no
+   *     effect until the next call.
+   */
+  public void setActiveChunks(Set<GridPoint2> activeChunks) {
+    this.activeChunks.clear();
+    this.activeChunks.addAll(activeChunks);
+    chunksSet = true;
+    for (ObjectMap.Entry<GridPoint2, Body> entry : chunkBodies) {
+      Body body = entry.value;
+      boolean active = this.activeChunks.contains(entry.key);
+      physics.submit(() -> body.setActive(active));
+    }
+    for (PhysicsComponent component : movingBodies) {
+      component.setInActiveChunk(isActive(component.getEntity().getPosition(position)));
+    }
+  }
+
+  /**
+   * Re-check whether a few moving bodies are in an active chunk, cycling through all of them over
+   * several calls. Called by the physics engine each update.
+   */
+  public void update() {
+    if (!chunksSet || movingBodies.isEmpty()) {
+      return;
+    }
+    int checks = Math.min(RECHECKS_PER_UPDATE, movingBodies.size);
+    for (int i = 0; i < checks; i++) {
+      if (nextRecheck >= movingBodies.size) {
+        nextRecheck = 0;
+      }
+      PhysicsComponent component = movingBodies.get(nextRecheck++);
+      component.setInActiveChunk(isActive(component.getEntity().getPosition(position)));
+    }
+  }
+
+  /**
+   * @param worldPosition position in the world
+   * @return true if the position is in an active chunk
+   */
+  public boolean isActive(Vector2 worldPosition) {
+    return !chunksSet || activeChunks.contains(toChunk(worldPosition));
+  }
+
+  /** @return number of compound chunk bodies */
+  public int getChunkBodyCount() {
+    return chunkBodies.size;
+  }
+
+  /** Destroy every chunk body and forget all bodies, e.g. when the map is switched. */
+  public void clear() {
+    for (Body body : chunkBodies.values()) {
+      physics.destroyBody(body);
+    }
+    chunkBodies.clear();
+    movingBodies.clear();
+    pendingStatics.clear();
+    activeChunks.clear();
+    chunksSet = false;
+  }
+
+  /**
+   * Hand over every chunk body and tracked body, deactivating the chunk bodies, and start again
+   * empty. Used to keep a suspended game area's physics while another area is active. The area's
+   * own bodies should be disabled with their entities.
+   *
+   * @return saved state, to be restored or discarded
+   */
+  public ChunkState save() {
+    ChunkState state = new ChunkState();
+    for (Body body : chunkBodies.values()) {
+      physics.submit(() -> body.setActive(false));
+    }
+    state.chunkBodies.putAll(chunkBodies);
+    state.movingBodies.addAll(movingBodies);
+    state.pendingStatics.addAll(pendingStatics);
+    state.activeChunks = chunksSet ? new HashSet<>(activeChunks) : null;
+    chunkBodies.clear();
+    movingBodies.clear();
+    pendingStatics.clear();
+    activeChunks.clear();
+    chunksSet = false;
+    return state;
+  }
+
+  /**
+   * Take back bodies handed over by {@link #save()}, replacing the current ones. Call after the
+   * current ones have been saved or cleared.
+   *
+   * @param state saved state
+   */
+  public void restore(ChunkState state) {
+    clear();
+    chunkBodies.putAll(state.chunkBodies);
+    movingBodies.addAll(state.movingBodies);
+    pendingStatics.addAll(state.pendingStatics);
+    if (state.activeChunks != null) {
+      setActiveChunks(state.activeChunks);
+    }
+  }
+
+  /**
+   * Destroy the chunk bodies of a saved state which won't be restored. Call after the entities
+   * owning its bodies have been disposed.
+   *
+   * @param state saved state
+   */
+  public void discard(ChunkState state) {
+    for (Body body : state.chunkBodies.values()) {
+      physics.destroyBody(body);
+    }
+    state.chunkBodies.clear();
+    state.movingBodies.clear();
+    state.pendingStatics.clear();
+  }
+
+  /** Bodies handed over by {@link #save()} */
+  public static class ChunkState {
+    private final ObjectMap<GridPoint2, Body> chunkBodies = new ObjectMap<>();
+    private final Array<PhysicsComponent> movingBodies = new Array<>(false, 64);
+    private final Array<PhysicsComponent> pendingStatics = new Array<>(false, 8);
+    private Set<GridPoint2> activeChunks;
+
+    private ChunkState() {}
+  }
+
+  private GridPoint2 toChunk(Vector2 worldPosition) {
+    return chunk.set((int) (worldPosition.x / chunkSize), (int) (worldPosition.y / chunkSize));
+  }
+
+  private Body getChunkBody(GridPoint2 chunkPos) {
+    Body body = chunkBodies.get(chunkPos);
+    if (body == null) {
+      BodyDef bodyDef = new BodyDef();
+      bodyDef.type = BodyType.StaticBody;
+      bodyDef.active = !chunksSet || activeChunks.contains(chunkPos);
+      body = physics.createBody(bodyDef);
+      body.setUserData(new BodyUserData());
+      chunkBodies.put(new GridPoint2(chunkPos), body);
+    }
+    return body;
+  }
+
+  /** Copy a fixture to the chunk body, moving its shape by the offset of its own body. */
+  private Fixture copyFixture(Fixture fixture, Vector2 offset, Body chunkBody) {
+    Shape shape = fixture.getShape();
+    Shape moved;
+    if (shape instanceof PolygonShape) {
+      PolygonShape polygon = (PolygonShape) shape;
+      float[] vertices = new float[polygon.getVertexCount() * 2];
+      for (int i = 0; i < polygon.getVertexCount(); i++) {
+        polygon.getVertex(i, vertex);
+        vertices[i * 2] = vertex.x + offset.x;
+        vertices[i * 2 + 1] = vertex.y + offset.y;
+      }
+      PolygonShape movedPolygon = new PolygonShape();
+      movedPolygon.set(vertices);
+      moved = movedPolygon;
+    } else if (shape instanceof CircleShape) {
+      CircleShape movedCircle = new CircleShape();
+      movedCircle.setRadius(shape.getRadius());
+      movedCircle.setPosition(vertex.set(((CircleShape) shape).getPosition()).add(offset));
+      moved = movedCircle;
+    } else {
+      return null;
+    }
+
+    FixtureDef fixtureDef = new FixtureDef();
+    fixtureDef.shape = moved;
+    fixtureDef.friction = fixture.getFriction();
+    fixtureDef.restitution = fixture.getRestitution();
+    fixtureDef.density = fixture.getDensity();
+    fixtureDef.isSensor = fixture.isSensor();
+    fixtureDef.filter.categoryBits = fixture.getFilterData().categoryBits;
+    fixtureDef.filter.maskBits = fixture.getFilterData().maskBits;
+    fixtureDef.filter.groupIndex = fixture.getFilterData().groupIndex;
+    Fixture copy = chunkBody.createFixture(fixtureDef);
+    copy.setUserData(fixture.getUserData());
+    moved.dispose();
+    return copy;
+  }
+}
@@ -1,6 +1,8 @@
 package com.csse3200.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,20 +15,88 @@ import org.slf4j.LoggerFactory;
  *
  * <p>On contact end: evt = "collisionEnd", params = ({@link Fixture} thisFixture, {@link Fixture}
  * otherFixture)
+ *
+ * <p>Events are only triggered on an entity if its body is interested in the other fixture's layer,
+ * see {@link BodyUserData#collisionInterest}. Contacts made during a physics step are recorded and
+ * triggered in one batch by {@link #dispatch()} once the steps are done, so game code never runs
+ * inside the step and only ever handles collisions on the main thread.
  */
 public class PhysicsContactListener implements ContactListener {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+  private static final String COLLISION_START = "collisionStart";
+  private static final String COLLISION_END = "collisionEnd";
+  private boolean recording = false;
+  /** Interested fixture and other fixture of each recorded contact, in pairs */
+  private final Array<Fixture> recordedFixtures = new Array<>(false, 64);
+  /** Whether each recorded contact began (true) or ended (false) */
+  private final BooleanArray recordedBegins = new BooleanArray(false, 32);
 
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    onContact(contact, true);
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    onContact(contact, false);
+  }
+
+  /**
+   * Record contacts for {@link #dispatch()} instead of triggering events immediately. Set by the
+   * physics engine while stepping. Contacts outside of steps, e.g. ending when a body is destroyed,
+   * are triggered immediately.
+   *
+   * @param recording true to record contacts
+   */
+  public void setRecording(boolean recording) {
+    this.recording = recording;
+  }
+
+  /**
+   * Trigger the events of every recorded contact, in the order they happened. Must be called
+   * before any body involved is destroyed.
+   */
+  public void dispatch() {
+    for (int i = 0; i < recordedBegins.size; i++) {
+      Fixture fixture = recordedFixtures.get(i * 2);
+      Fixture otherFixture = recordedFixtures.get(i * 2 + 1);
+      triggerEventOn(fixture, recordedBegins.get(i) ? COLLISION_START : COLLISION_END, otherFixture);
+    }
+    recordedFixtures.clear();
+    recordedBegins.clear();
+  }
+
+  /** @return number of contact events waiting to be dispatched */
+  public int getRecordedCount() {
+    return recordedBegins.size;
+  }
+
+  private void onContact(Contact contact, boolean begin) {
+    Fixture fixtureA = contact.getFixtureA();
+    Fixture fixtureB = contact.getFixtureB();
+    if (isInterested(fixtureA, fixtureB)) {
+      onInterestedContact(fixtureA, fixtureB, begin);
+    }
+    if (isInterested(fixtureB, fixtureA)) {
+      onInterestedContact(fixtureB, fixtureA, begin);
+    }
+  }
+
+  private void onInterestedContact(Fixture fixture, Fixture otherFixture, boolean begin) {
+    if (recording) {
+      recordedFixtures.add(fixture);
+      recordedFixtures.add(otherFixture);
+      recordedBegins.add(begin);
+    } else {
+      triggerEventOn(fixture, begin ? COLLISION_START : COLLISION_END, otherFixture);
+    }
+  }
+
+  private static boolean isInterested(Fixture fixture, Fixture otherFixture) {
+    Object userData = fixture.getBody().getUserData();
+    return userData != null
+        && PhysicsLayer.contains(
+            ((BodyUserData) userData).collisionInterest, otherFixture.getFilterData().categoryBits);
   }
 
   @Override
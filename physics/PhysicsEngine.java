@@ -2,32 +2,73 @@ package com.csse3200.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.kinematic.KinematicWorld;
+import com.csse3200.game.physics.query.AreaQueryCallback;
 import com.csse3200.game.physics.raycast.AllHitCallback;
 import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.physics.raycast.RaycastHitBuffer;
 import com.csse3200.game.physics.raycast.SingleHitCallback;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Process game physics using the Box2D library. See the Box2D documentation for examples or use
  * cases.
+ *
+ * <p>When threaded, the fixed steps counted by {@link #update()} are run on a dedicated physics
+ * thread after entities have updated, overlapping with rendering. The main thread must not touch the
+ * world while steps are running: world changes should go through {@link #submit(Runnable)}, which
+ * queues them until the steps finish, and positions should be read from {@link BodySnapshot}s.
+ * Collision events are always recorded during steps and triggered on the main thread once the steps
+ * finish.
+ *
+ * <p>The tick rate and solver iterations can be changed per area with {@link
+ * #applySettings(PhysicsSettings)}. Tracked bodies are drawn interpolated between their last two
+ * steps, so a low tick rate still moves entities smoothly on screen. Gameplay always sees the real
+ * body positions.
  */
 public class PhysicsEngine implements Disposable {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsEngine.class);
   private static final float MAX_UPDATE_TIME = 0.25f;
-  private static final float PHYSICS_TIMESTEP = 0.016f;
   private static final Vector2 GRAVITY = new Vector2(0f, -0f);
-  private static final int VELOCITY_ITERATIONS = 6;
-  private static final int POSITION_ITERATIONS = 2;
 
   private final World world;
   private final GameTime timeSource;
+  private final PhysicsContactListener contactListener = new PhysicsContactListener();
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  private final RaycastHitBuffer allHits = new RaycastHitBuffer();
+  private final AreaQueryCallback areaQueryCallback = new AreaQueryCallback();
+  private final Array<Fixture> queryFixtures = new Array<>(false, 16);
+  private final LineOfSightService lineOfSight = new LineOfSightService(this);
+  private final PhysicsChunks chunks = new PhysicsChunks(this);
+  private final KinematicWorld kinematics = new KinematicWorld();
   private float accumulator;
+  /** Fraction of a step since the steps the snapshots were captured at */
+  private float interpolationAlpha;
+  private float timestep = 1f / PhysicsSettings.DEFAULT_TICK_RATE;
+  private int velocityIterations = PhysicsSettings.DEFAULT_VELOCITY_ITERATIONS;
+  private int positionIterations = PhysicsSettings.DEFAULT_POSITION_ITERATIONS;
+  private boolean interpolating = true;
+
+  private ExecutorService physicsThread;
+  private final Runnable stepTask = this::runPendingSteps;
+  private Future<?> stepping;
+  private int pendingSteps;
+  private boolean dispatching = false;
+  private final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+  private final Array<BodySnapshot> snapshots = new Array<>(false, 64);
 
   public PhysicsEngine() {
     this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -35,11 +76,138 @@ public class PhysicsEngine implements Disposable {
 
   public PhysicsEngine(World world, GameTime timeSource) {
     this.world = world;
-    world.setContactListener(new PhysicsContactListener());
+    world.setContactListener(contactListener);
     this.timeSource = timeSource;
   }
 
+  /**
+   * Run physics steps on a dedicated thread, or on the main thread inside {@link #update()}.
+   *
+   * @param threaded true to step on the physics thread
+   */
+  public void setThreaded(boolean threaded) {
+    if (threaded == isThreaded()) {
+      return;
+    }
+    finishSteps();
+    if (threaded) {
+      physicsThread =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "physics");
+                thread.setDaemon(true);
+                return thread;
+              });
+    } else {
+      physicsThread.shutdown();
+      physicsThread = null;
+    }
+    for (BodySnapshot snapshot : snapshots) {
+      snapshot.reset(snapshot.getBody().getPosition());
+    }
+    logger.info("Physics threading set to {}", threaded);
+  }
+
+  public boolean isThreaded() {
+    return physicsThread != null;
+  }
+
+  /**
+   * Use the tick rate and solver iterations of an area. Steps already counted keep running at the
+   * old rate.
+   *
+   * @param settings physics settings to use
+   */
+  public void applySettings(PhysicsSettings settings) {
+    setTickRate(settings.tickRate);
+    setIterations(settings.velocityIterations, settings.positionIterations);
+  }
+
+  /**
+   * Set how many fixed steps are simulated per second of game time.
+   *
+   * @param tickRate steps per second, must be positive
+   */
+  public void setTickRate(float tickRate) {
+    if (tickRate <= 0f) {
+      throw new IllegalArgumentException("Physics tick rate must be positive: " + tickRate);
+    }
+    finishSteps();
+    float newTimestep = 1f / tickRate;
+    // Keep the same fraction of a step, so interpolation doesn't jump
+    accumulator = accumulator / timestep * newTimestep;
+    timestep = newTimestep;
+    logger.info("Physics tick rate set to {}Hz", tickRate);
+  }
+
+  /** @return steps simulated per second of game time */
+  public float getTickRate() {
+    return 1f / timestep;
+  }
+
+  /** @return length of each step, in seconds */
+  public float getTimestep() {
+    return timestep;
+  }
+
+  /**
+   * Set the number of constraint solver iterations per step. More iterations are more accurate but
+   * slower.
+   *
+   * @param velocityIterations velocity iterations per step
+   * @param positionIterations position iterations per step
+   */
+  public void setIterations(int velocityIterations, int positionIterations) {
+    finishSteps();
+    this.velocityIterations = velocityIterations;
+    this.positionIterations = positionIterations;
+  }
+
+  public int getVelocityIterations() {
+    return velocityIterations;
+  }
+
+  public int getPositionIterations() {
+    return positionIterations;
+  }
+
+  /**
+   * Draw tracked bodies blended between their last two steps when unthreaded, or snap them to the
+   * latest step. Threaded physics always interpolates. Only render positions are blended, entity
+   * positions are always the body's position after the latest step.
+   *
+   * @param interpolating true to interpolate
+   */
+  public void setInterpolating(boolean interpolating) {
+    this.interpolating = interpolating;
+    for (BodySnapshot snapshot : snapshots) {
+      snapshot.reset(snapshot.getBody().getPosition());
+    }
+  }
+
+  /** @return true if tracked bodies should be drawn at their interpolated snapshots */
+  public boolean isInterpolating() {
+    return interpolating || isThreaded();
+  }
+
   public void update() {
+    lineOfSight.nextFrame();
+    chunks.update();
+    if (isThreaded()) {
+      // Only count the steps here, they are run by launchSteps() once entities have updated
+      finishSteps();
+      // The snapshots are now from the steps counted last frame, so blend by what was left over then
+      interpolationAlpha = accumulator / timestep;
+      accumulator += Math.min(timeSource.getDeltaTime(), MAX_UPDATE_TIME);
+      pendingSteps = (int) (accumulator / timestep);
+      accumulator -= pendingSteps * timestep;
+      // Kinematic bodies are cheap enough to step here, where their events can run directly
+      for (int i = 0; i < pendingSteps; i++) {
+        kinematics.step(timestep);
+      }
+      return;
+    }
+
     // Updating physics isn't as easy as triggering an update every frame. Each frame could take a
     // different amount of time to run, but physics simulations are only stable if computed at a
     // consistent frame rate! See: https://gafferongames.com/post/fix_your_timestep/
@@ -49,36 +217,212 @@ public class PhysicsEngine implements Disposable {
 
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
-    while (accumulator >= PHYSICS_TIMESTEP) {
-      world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-      accumulator -= PHYSICS_TIMESTEP;
+    while (accumulator >= timestep) {
+      step();
+      kinematics.step(timestep);
+      accumulator -= timestep;
+    }
+    interpolationAlpha = accumulator / timestep;
+    dispatchContacts();
+  }
+
+  private void step() {
+    contactListener.setRecording(true);
+    world.step(timestep, velocityIterations, positionIterations);
+    contactListener.setRecording(false);
+    for (BodySnapshot snapshot : snapshots) {
+      snapshot.capture();
+    }
+  }
+
+  /**
+   * Start the steps counted by the last {@link #update()} on the physics thread. Call once per
+   * frame, after entities have updated. Does nothing unless threaded.
+   */
+  public void launchSteps() {
+    if (isThreaded() && stepping == null && pendingSteps > 0) {
+      stepping = physicsThread.submit(stepTask);
+    }
+  }
+
+  /**
+   * Wait for any steps running on the physics thread, then trigger their collision events and run
+   * world changes queued while they ran. Afterwards the world can be used directly until the next
+   * {@link #launchSteps()}.
+   */
+  public void finishSteps() {
+    if (stepping == null) {
+      return;
+    }
+    try {
+      stepping.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new GdxRuntimeException("Physics step failed", e.getCause());
+    } finally {
+      stepping = null;
+    }
+    dispatchContacts();
+  }
+
+  /** Trigger the collision events recorded during the steps, then run world changes they queued. */
+  private void dispatchContacts() {
+    // Bodies destroyed by collision handlers must outlive the remaining recorded contacts
+    dispatching = true;
+    contactListener.dispatch();
+    dispatching = false;
+    Runnable command;
+    while ((command = commands.poll()) != null) {
+      command.run();
+    }
+  }
+
+  private void runPendingSteps() {
+    for (int i = 0; i < pendingSteps; i++) {
+      step();
+    }
+    pendingSteps = 0;
+  }
+
+  /**
+   * Run a change to the world now if it is safe, otherwise queue it until the running steps finish.
+   * Commands always run on the main thread, in the order they were submitted.
+   *
+   * @param command change to the world, e.g. applying an impulse or destroying a body
+   */
+  public void submit(Runnable command) {
+    if (stepping != null || dispatching || !commands.isEmpty()) {
+      commands.add(command);
+    } else {
+      command.run();
     }
   }
 
+  /**
+   * @return fraction of a step since the last step captured in the tracked bodies' snapshots, for
+   *     interpolating between their last two steps. When threaded, this is what was left over when
+   *     those steps were counted, a frame before they finished.
+   */
+  public float getInterpolationAlpha() {
+    return interpolationAlpha;
+  }
+
+  /**
+   * @return fraction of a step left over in the accumulator, for interpolating kinematic bodies.
+   *     They are always stepped in {@link #update()}, so are never a frame behind.
+   */
+  public float getKinematicInterpolationAlpha() {
+    return accumulator / timestep;
+  }
+
+  /**
+   * Start recording the body's position after each step, so it can be interpolated.
+   *
+   * @param body body to track
+   * @return snapshot of the body, updated after each step
+   */
+  public BodySnapshot track(Body body) {
+    BodySnapshot snapshot = new BodySnapshot(body);
+    submit(
+        () -> {
+          snapshot.reset(body.getPosition());
+          snapshots.add(snapshot);
+        });
+    return snapshot;
+  }
+
+  /**
+   * Stop recording a tracked body.
+   *
+   * @param snapshot snapshot returned when the body was tracked
+   */
+  public void untrack(BodySnapshot snapshot) {
+    submit(() -> snapshots.removeValue(snapshot, true));
+  }
+
+  /**
+   * Create a body. If steps are running on the physics thread this waits for them to finish first,
+   * since the body is needed straight away.
+   *
+   * @param bodyDef body definition
+   * @return created body
+   */
   public Body createBody(BodyDef bodyDef) {
     logger.debug("Creating physics body {}", bodyDef);
+    finishSteps();
     return world.createBody(bodyDef);
   }
 
+  /**
+   * Destroy a body, after any running steps have finished.
+   *
+   * @param body body to destroy
+   */
   public void destroyBody(Body body) {
     logger.debug("Destroying physics body {}", body);
-    world.destroyBody(body);
+    submit(() -> world.destroyBody(body));
+  }
+
+  /**
+   * Create a fixture on a body. Like {@link #createBody(BodyDef)}, this waits for running steps to
+   * finish first.
+   *
+   * @param body body to attach the fixture to
+   * @param fixtureDef fixture definition
+   * @return created fixture
+   */
+  public Fixture createFixture(Body body, FixtureDef fixtureDef) {
+    finishSteps();
+    return body.createFixture(fixtureDef);
+  }
+
+  /**
+   * Destroy a fixture, after any running steps have finished. Does nothing if the fixture was
+   * already destroyed with its body.
+   *
+   * @param body body the fixture is attached to
+   * @param fixture fixture to destroy
+   */
+  public void destroyFixture(Body body, Fixture fixture) {
+    submit(
+        () -> {
+          if (body.getFixtureList().contains(fixture, true)) {
+            body.destroyFixture(fixture);
+          }
+        });
   }
 
   public Joint createJoint(JointDef jointDef) {
     logger.debug("Creating physics joint {}", jointDef);
+    finishSteps();
     return world.createJoint(jointDef);
   }
 
   public void destroyJoint(Joint joint) {
     logger.debug("Destroying physics joint {}", joint);
-    world.destroyJoint(joint);
+    submit(() -> world.destroyJoint(joint));
   }
 
   public World getWorld() {
     return world;
   }
 
+  /** @return lightweight world for kinematic bodies, stepped along with Box2D */
+  public KinematicWorld getKinematics() {
+    return kinematics;
+  }
+
+  /** @return terrain chunk activation and static body merging for this world */
+  public PhysicsChunks getChunks() {
+    return chunks;
+  }
+
+  /** @return cached line of sight queries between entities in this world */
+  public LineOfSightService getLineOfSight() {
+    return lineOfSight;
+  }
+
   /**
    * Cast a ray in a straight line from one point to another, checking for a collision against any
    * colliders.
@@ -104,6 +448,7 @@ public class PhysicsEngine implements Disposable {
    * @return true if a collider was hit, false otherwise.
    */
   public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
+    finishSteps();
     singleHitCallback.didHit = false;
     singleHitCallback.layerMask = layerMask;
     singleHitCallback.hit = hit;
@@ -134,13 +479,109 @@ public class PhysicsEngine implements Disposable {
    * @return All hits made by the ray, unordered. Empty if no hits were made.
    */
   public RaycastHit[] raycastAll(Vector2 from, Vector2 to, short layerMask) {
+    raycastAll(from, to, layerMask, allHits);
+    RaycastHit[] hits = allHits.toArray();
+    allHits.clear();
+    return hits;
+  }
+
+  /**
+   * Cast a ray in a straight line from one point to another, storing all collisions against
+   * colliders in the specified layers into a reusable buffer. Doesn't allocate once the buffer has
+   * grown to fit.
+   *
+   * @param from The starting point of the ray.
+   * @param to The end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @param hits Buffer to store the hits in, unordered. Cleared first.
+   * @return number of hits
+   */
+  public int raycastAll(Vector2 from, Vector2 to, short layerMask, RaycastHitBuffer hits) {
+    finishSteps();
+    hits.clear();
     allHitCallback.layerMask = layerMask;
+    allHitCallback.hits = hits;
     world.rayCast(allHitCallback, from, to);
-    return allHitCallback.getHitsAndClear();
+    allHitCallback.resetBuffer();
+    return hits.size();
+  }
+
+  /**
+   * Find colliders in the specified layers whose bounding boxes overlap an axis-aligned box.
+   *
+   * @param lowerX left of the box
+   * @param lowerY bottom of the box
+   * @param upperX right of the box
+   * @param upperY top of the box
+   * @param layerMask The physics layer mask which specifies layers to find.
+   * @param results Array to store the fixtures found in. Cleared first.
+   * @return number of fixtures found
+   */
+  public int queryAABB(
+      float lowerX, float lowerY, float upperX, float upperY, short layerMask,
+      Array<Fixture> results) {
+    return query(lowerX, lowerY, upperX, upperY, -1f, layerMask, results);
+  }
+
+  /**
+   * Find colliders in the specified layers which overlap a circle.
+   *
+   * @param center centre of the circle
+   * @param radius radius of the circle
+   * @param layerMask The physics layer mask which specifies layers to find.
+   * @param results Array to store the fixtures found in. Cleared first.
+   * @return number of fixtures found
+   */
+  public int queryCircle(Vector2 center, float radius, short layerMask, Array<Fixture> results) {
+    areaQueryCallback.center.set(center);
+    return query(
+        center.x - radius, center.y - radius, center.x + radius, center.y + radius, radius,
+        layerMask, results);
+  }
+
+  /**
+   * Find entities with colliders in the specified layers which overlap a circle. Each entity is
+   * only added once, even if several of its colliders overlap.
+   *
+   * @param center centre of the circle
+   * @param radius radius of the circle
+   * @param layerMask The physics layer mask which specifies layers to find.
+   * @param results Array to store the entities found in. Cleared first.
+   * @return number of entities found
+   */
+  public int queryEntities(Vector2 center, float radius, short layerMask, Array<Entity> results) {
+    results.clear();
+    queryCircle(center, radius, layerMask, queryFixtures);
+    for (Fixture fixture : queryFixtures) {
+      Object userData = fixture.getBody().getUserData();
+      if (userData instanceof BodyUserData) {
+        Entity entity = ((BodyUserData) userData).entity;
+        if (entity != null && !results.contains(entity, true)) {
+          results.add(entity);
+        }
+      }
+    }
+    queryFixtures.clear();
+    return results.size;
+  }
+
+  private int query(
+      float lowerX, float lowerY, float upperX, float upperY, float radius, short layerMask,
+      Array<Fixture> results) {
+    finishSteps();
+    results.clear();
+    areaQueryCallback.layerMask = layerMask;
+    areaQueryCallback.radius = radius;
+    areaQueryCallback.results = results;
+    world.QueryAABB(areaQueryCallback, lowerX, lowerY, upperX, upperY);
+    areaQueryCallback.results = null;
+    return results.size;
   }
 
   @Override
   public void dispose() {
+    setThreaded(false);
+    kinematics.clear();
     world.dispose();
   }
 }
@@ -1,8 +1,11 @@
 package com.csse3200.game.physics;
 
+import com.csse3200.game.physics.kinematic.KinematicWorld;
+
 /**
- * Provides a global access point to the physics engine. This is necessary for physics-based
- * entities to add or remove themselves from the world, as well as update their position each frame.
+ * Provides a global access point to the physics engine, and the lightweight kinematic world stepped
+ * with it. This is necessary for physics-based entities to add or remove themselves from the world,
+ * as well as update their position each frame.
  */
 public class PhysicsService {
   private final PhysicsEngine engine;
@@ -18,4 +21,12 @@ public class PhysicsService {
   public PhysicsEngine getPhysics() {
     return engine;
   }
+
+  public KinematicWorld getKinematics() {
+    return engine.getKinematics();
+  }
+
+  public LineOfSightService getLineOfSight() {
+    return engine.getLineOfSight();
+  }
 }
@@ -0,0 +1,26 @@
+package com.csse3200.game.physics;
+
+/**
+ * Tick rate and solver iterations used by the physics engine while an area is active. Fields are
+ * public so settings can be read from config files.
+ */
+public class PhysicsSettings {
+  public static final float DEFAULT_TICK_RATE = 60f;
+  public static final int DEFAULT_VELOCITY_ITERATIONS = 6;
+  public static final int DEFAULT_POSITION_ITERATIONS = 2;
+
+  /** Fixed physics steps per second */
+  public float tickRate = DEFAULT_TICK_RATE;
+  /** Velocity constraint solver iterations per step */
+  public int velocityIterations = DEFAULT_VELOCITY_ITERATIONS;
+  /** Position constraint solver iterations per step */
+  public int positionIterations = DEFAULT_POSITION_ITERATIONS;
+
+  public PhysicsSettings() {}
+
+  public PhysicsSettings(float tickRate, int velocityIterations, int positionIterations) {
+    this.tickRate = tickRate;
+    this.velocityIterations = velocityIterations;
+    this.positionIterations = positionIterations;
+  }
+}
@@ -2,7 +2,9 @@ package com.csse3200.game.physics.components;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.PhysicsComponent.AlignX;
 import com.csse3200.game.physics.components.PhysicsComponent.AlignY;
@@ -13,6 +15,9 @@ import org.slf4j.LoggerFactory;
  * Attaches a physics collider to an entity. By default, this is a rectangle the same size as the
  * entity's scale. This allows an entity to collide with other physics objects, or detect collisions
  * without interaction (if sensor = true)
+ *
+ * <p>Changes to a created collider go through {@link PhysicsEngine#submit(Runnable)}, so they are
+ * safe to make while physics steps are running on another thread.
  */
 public class ColliderComponent extends Component {
   private static final Logger logger = LoggerFactory.getLogger(ColliderComponent.class);
@@ -31,8 +36,8 @@ public class ColliderComponent extends Component {
       fixtureDef.shape = makeBoundingBox();
     }
 
-    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
-    fixture = physBody.createFixture(fixtureDef);
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    fixture = physics.getEngine().createFixture(physics.getBody(), fixtureDef);
   }
 
   /**
@@ -107,7 +112,8 @@ public class ColliderComponent extends Component {
     if (fixture == null) {
       fixtureDef.friction = friction;
     } else {
-      fixture.setFriction(friction);
+      Fixture created = fixture;
+      submit(() -> created.setFriction(friction));
     }
     return this;
   }
@@ -123,7 +129,8 @@ public class ColliderComponent extends Component {
     if (fixture == null) {
       fixtureDef.isSensor = isSensor;
     } else {
-      fixture.setSensor(isSensor);
+      Fixture created = fixture;
+      submit(() -> created.setSensor(isSensor));
     }
     return this;
   }
@@ -139,7 +146,8 @@ public class ColliderComponent extends Component {
     if (fixture == null) {
       fixtureDef.density = density;
     } else {
-      fixture.setDensity(density);
+      Fixture created = fixture;
+      submit(() -> created.setDensity(density));
     }
     return this;
   }
@@ -154,7 +162,8 @@ public class ColliderComponent extends Component {
     if (fixture == null) {
       fixtureDef.restitution = restitution;
     } else {
-      fixture.setRestitution(restitution);
+      Fixture created = fixture;
+      submit(() -> created.setRestitution(restitution));
     }
     return this;
   }
@@ -179,18 +188,34 @@ public class ColliderComponent extends Component {
     return fixture;
   }
 
+  /**
+   * Switch to a copy of this collider's fixture, after the body has been merged.
+   *
+   * @param replacements copied fixtures, keyed by the original
+   */
+  void replaceFixture(ObjectMap<Fixture, Fixture> replacements) {
+    Fixture replacement = replacements.get(fixture);
+    if (replacement != null) {
+      fixture = replacement;
+    }
+  }
+
   /**
    * Set the collider layer, used in collision logic
    * @param layerMask Bitmask of {@link PhysicsLayer} this collider belongs to
    * @return self
    */
   public ColliderComponent setLayer(short layerMask) {
-    if (fixture == null) {
-      fixtureDef.filter.categoryBits = layerMask;
-    } else {
-      Filter filter = fixture.getFilterData();
-      filter.categoryBits = layerMask;
-      fixture.setFilterData(filter);
+    // Kept in the definition too, so getLayer() sees it before a queued change runs
+    fixtureDef.filter.categoryBits = layerMask;
+    if (fixture != null) {
+      Fixture created = fixture;
+      submit(
+          () -> {
+            Filter filter = created.getFilterData();
+            filter.categoryBits = layerMask;
+            created.setFilterData(filter);
+          });
     }
     return this;
   }
@@ -199,19 +224,18 @@ public class ColliderComponent extends Component {
    * @return The {@link PhysicsLayer} this collider belongs to
    */
   public short getLayer() {
-    if (fixture == null) {
-      return fixtureDef.filter.categoryBits;
-    }
-    return fixture.getFilterData().categoryBits;
+    return fixtureDef.filter.categoryBits;
   }
 
   @Override
   public void dispose() {
     super.dispose();
-    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
-    if (physBody.getFixtureList().contains(fixture, true)) {
-      physBody.destroyFixture(fixture);
-    }
+    PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+    physics.getEngine().destroyFixture(physics.getBody(), fixture);
+  }
+
+  private void submit(Runnable command) {
+    entity.getComponent(PhysicsComponent.class).getEngine().submit(command);
   }
 
   private Shape makeBoundingBox() {
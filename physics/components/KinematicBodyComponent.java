@@ -0,0 +1,165 @@
+package com.csse3200.game.physics.components;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.kinematic.KinematicBody;
+import com.csse3200.game.physics.kinematic.KinematicWorld;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Lets an entity be moved by the lightweight {@link KinematicWorld} instead of Box2D. Use instead of
+ * a {@link PhysicsComponent} and {@link ColliderComponent} for entities which only need to move and
+ * overlap, such as items. Move the entity by setting the body's velocity.
+ *
+ * <p>By default, the body is a box the same size as the entity's scale.
+ *
+ * <p>A body can instead follow its entity, see {@link #setFollowing(boolean)}, so entities moved by
+ * Box2D can still overlap kinematic bodies, e.g. to be hit by kinematic projectiles.
+ */
+public class KinematicBodyComponent extends Component {
+  private final PhysicsEngine physics;
+  private final KinematicBody body = new KinematicBody();
+  private final Vector2 interpolatedPosition = new Vector2();
+  /** Entity position, copied from the body so it isn't shared with the body */
+  private final Vector2 bodyPosition = new Vector2();
+  private final Vector2 followPosition = new Vector2();
+  private boolean shapeSet = false;
+  private boolean following = false;
+  private float speed = 1f;
+  private boolean notify;
+  /** Set while copying the body position to the entity, so the body isn't moved back to it */
+  private boolean syncingPosition = false;
+
+  /** Create a kinematic body component with default settings. */
+  public KinematicBodyComponent() {
+    this(false);
+  }
+
+  /** @param notify true to notify position changes due to movement */
+  public KinematicBodyComponent(boolean notify) {
+    this(ServiceLocator.getPhysicsService().getPhysics());
+    this.notify = notify;
+  }
+
+  /** @param engine The physics engine whose kinematic world the body is added to */
+  public KinematicBodyComponent(PhysicsEngine engine) {
+    this.physics = engine;
+  }
+
+  /**
+   * Set the body as a box with a given size and local position of its bottom left corner.
+   *
+   * @param size size of the box
+   * @param offset position of the box relative to the entity
+   * @return self
+   */
+  public KinematicBodyComponent setAsBox(Vector2 size, Vector2 offset) {
+    body.setAsBox(size.x, size.y, offset);
+    shapeSet = true;
+    return this;
+  }
+
+  /**
+   * Set the body as a circle.
+   *
+   * @param radius circle radius
+   * @param center position of the circle centre relative to the entity
+   * @return self
+   */
+  public KinematicBodyComponent setAsCircle(float radius, Vector2 center) {
+    body.setAsCircle(radius, center);
+    shapeSet = true;
+    return this;
+  }
+
+  /**
+   * Move the body to the entity each update, rather than moving the entity with the body. Use for
+   * entities moved by something else, such as Box2D.
+   *
+   * @param following true to follow the entity, default = false
+   * @return self
+   */
+  public KinematicBodyComponent setFollowing(boolean following) {
+    this.following = following;
+    return this;
+  }
+
+  /**
+   * Set the speed tasks driving this body should move it at, like the max speed of a {@link
+   * PhysicsMovementComponent}.
+   *
+   * @param speed speed in world units per second, default = 1
+   * @return self
+   */
+  public KinematicBodyComponent setSpeed(float speed) {
+    this.speed = speed;
+    return this;
+  }
+
+  /** @return speed tasks driving this body should move it at */
+  public float getSpeed() {
+    return speed;
+  }
+
+  /** @return kinematic body, to configure layers, velocity etc. */
+  public KinematicBody getBody() {
+    return body;
+  }
+
+  @Override
+  public void create() {
+    if (!shapeSet) {
+      body.setAsBox(entity.getScale().x, entity.getScale().y, Vector2.Zero);
+    }
+    Vector2 position = entity.getPosition();
+    body.setEntity(entity);
+    body.setPosition(position.x, position.y);
+    body.setActive(enabled);
+    physics.getKinematics().add(body);
+
+    entity.getEvents().addListener("setPosition", this::moveBody);
+  }
+
+  private void moveBody(Vector2 position) {
+    if (!syncingPosition) {
+      body.setPosition(position.x, position.y);
+    }
+  }
+
+  /** Copy the body's position to the entity before other components update. */
+  @Override
+  public void earlyUpdate() {
+    if (body.isStatic() || following) {
+      return;
+    }
+    syncingPosition = true;
+    entity.setPosition(bodyPosition.set(body.getPosition()), notify);
+    syncingPosition = false;
+    if (physics.isInterpolating()) {
+      entity.setRenderPosition(
+          body.getInterpolatedPosition(
+              physics.getKinematicInterpolationAlpha(), interpolatedPosition));
+    }
+  }
+
+  /** Move a following body to the entity, once other components have moved it this frame. */
+  @Override
+  public void update() {
+    if (following) {
+      entity.getPosition(followPosition);
+      body.setPosition(followPosition.x, followPosition.y);
+    }
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    super.setEnabled(enabled);
+    body.setActive(enabled);
+  }
+
+  @Override
+  public void dispose() {
+    physics.getKinematics().remove(body);
+  }
+}
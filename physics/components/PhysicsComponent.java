@@ -4,24 +4,51 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.physics.BodySnapshot;
 import com.csse3200.game.physics.BodyUserData;
+import com.csse3200.game.physics.PhysicsChunks;
 import com.csse3200.game.physics.PhysicsContactListener;
 import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Lets an entity be controlled by physics. Do not directly modify the position of a physics-enabled
  * entity. Instead, use forces to move it.
  *
- * <p>Entities with a PhysicsComponent will fire "collisionStart" and "collisionEnd" events. See
- * {@link PhysicsContactListener }
+ * <p>Entities with a PhysicsComponent will fire "collisionStart" and "collisionEnd" events for
+ * contacts with layers added by {@link #addCollisionInterest(short)}. See {@link
+ * PhysicsContactListener }. Entities listening for these events without adding any layers are
+ * warned about once, since they would never receive them.
  */
 public class PhysicsComponent extends Component {
+  private static final Logger logger = LoggerFactory.getLogger(PhysicsComponent.class);
   private static final float GROUND_FRICTION = 5f;
   private final PhysicsEngine physics;
-  private final Body body;
+  private Body body;
   private boolean notify;
+  private boolean mergeable = false;
+  /** Set once the body's fixtures have been moved into a chunk body */
+  private boolean merged = false;
+  private boolean inActiveChunk = true;
+  private BodyUserData userData;
+  private short collisionInterest = PhysicsLayer.NONE;
+  private BodySnapshot snapshot;
+  private final Vector2 interpolatedPosition = new Vector2();
+  /** Entity position, copied from the body so it isn't shared with Box2D */
+  private final Vector2 bodyPosition = new Vector2();
+  /** Set while copying the body position to the entity, so the body isn't moved back to it */
+  private boolean syncingPosition = false;
+  /** Latest position the body was moved to, applied by moveCommand */
+  private final Vector2 moveTarget = new Vector2();
+  private final Runnable moveCommand = this::applyMove;
+  private boolean movePending = false;
+  private boolean interestChecked = false;
 
   /** Create a physics component with default settings. */
   public PhysicsComponent() {
@@ -62,6 +89,23 @@ public class PhysicsComponent extends Component {
     return this;
   }
 
+  /**
+   * Let a static body be merged into the compound body of its terrain chunk when the chunk is
+   * committed. Merged bodies can't be moved or disabled. See {@link PhysicsChunks}.
+   *
+   * @param mergeable true to allow merging, default = false
+   * @return self
+   */
+  public PhysicsComponent setMergeable(boolean mergeable) {
+    this.mergeable = mergeable;
+    return this;
+  }
+
+  /** @return physics engine the body belongs to */
+  public PhysicsEngine getEngine() {
+    return physics;
+  }
+
   /**
    * Get the physics body.
    *
@@ -73,14 +117,110 @@ public class PhysicsComponent extends Component {
 
   @Override
   public void create() {
-    body.setTransform(entity.getPosition(), 0f);
-    body.setActive(true);
-
-    BodyUserData userData = new BodyUserData();
+    Vector2 position = entity.getPosition();
+    userData = new BodyUserData();
     userData.entity = entity;
-    body.setUserData(userData);
+    userData.collisionInterest = collisionInterest;
+    physics.submit(
+        () -> {
+          body.setTransform(position, 0f);
+          body.setActive(enabled && inActiveChunk);
+          body.setUserData(userData);
+        });
+    snapshot = physics.track(body);
+    if (body.getType() != BodyType.StaticBody) {
+      physics.getChunks().addMoving(this);
+    } else if (mergeable) {
+      physics.getChunks().addStatic(this);
+    }
 
-    entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+    entity.getEvents().addListener("setPosition", this::moveBody);
+  }
+
+  /**
+   * Replace this body with a chunk body its fixtures have been copied into. Called by {@link
+   * PhysicsChunks} when committing.
+   *
+   * @param chunkBody compound body of the chunk
+   * @param fixtures copies of this body's fixtures on the chunk body, keyed by the original
+   */
+  public void mergeInto(Body chunkBody, ObjectMap<Fixture, Fixture> fixtures) {
+    ColliderComponent collider = entity.getComponent(ColliderComponent.class);
+    if (collider != null) {
+      collider.replaceFixture(fixtures);
+    }
+    HitboxComponent hitbox = entity.getComponent(HitboxComponent.class);
+    if (hitbox != null) {
+      hitbox.replaceFixture(fixtures);
+    }
+    physics.untrack(snapshot);
+    snapshot = null;
+    physics.destroyBody(body);
+    body = chunkBody;
+    merged = true;
+  }
+
+  /**
+   * Activate or deactivate the body as it enters or leaves the active terrain chunks. Called by
+   * {@link PhysicsChunks}.
+   *
+   * @param inActiveChunk true if the body is in an active chunk
+   */
+  public void setInActiveChunk(boolean inActiveChunk) {
+    if (this.inActiveChunk == inActiveChunk) {
+      return;
+    }
+    this.inActiveChunk = inActiveChunk;
+    updateActive();
+  }
+
+  private void updateActive() {
+    if (merged) {
+      // The chunk body is activated with its chunk
+      return;
+    }
+    boolean active = enabled && inActiveChunk;
+    physics.submit(() -> body.setActive(active));
+  }
+
+  /**
+   * Trigger collision events on this entity for contacts with the given layers. Components
+   * listening for "collisionStart" or "collisionEnd" should add the layers they handle.
+   *
+   * @param layers physics layer mask to receive collision events for
+   */
+  public void addCollisionInterest(short layers) {
+    collisionInterest |= layers;
+    if (userData != null) {
+      short interest = collisionInterest;
+      physics.submit(() -> userData.collisionInterest = interest);
+    }
+  }
+
+  /** @return physics layers this entity receives collision events for */
+  public short getCollisionInterest() {
+    return collisionInterest;
+  }
+
+  private void moveBody(Vector2 position) {
+    if (syncingPosition || merged) {
+      return;
+    }
+    moveTarget.set(position);
+    if (!movePending) {
+      // Moves queued while steps run are merged, only the latest target is applied
+      movePending = true;
+      physics.submit(moveCommand);
+    }
+  }
+
+  private void applyMove() {
+    movePending = false;
+    if (merged) {
+      return;
+    }
+    body.setTransform(moveTarget, 0f);
+    snapshot.reset(moveTarget);
   }
 
   /**
@@ -89,20 +229,54 @@ public class PhysicsComponent extends Component {
    */
   @Override
   public void earlyUpdate() {
-    Vector2 bodyPos = body.getPosition();
+    if (!interestChecked) {
+      // Listeners are added by other components, so check once they have all been created
+      interestChecked = true;
+      checkCollisionInterest();
+    }
+    if (merged) {
+      // Merged static bodies never move
+      return;
+    }
+    // Gameplay uses the real body position. Steps have finished, so it is safe to read.
     // Don't notify position changes due to physics unless required
-    entity.setPosition(bodyPos, this.notify);
+    syncingPosition = true;
+    entity.setPosition(bodyPosition.set(body.getPosition()), this.notify);
+    syncingPosition = false;
+    if (physics.isInterpolating()) {
+      // Only drawn between steps, to smooth out steps landing unevenly across frames
+      entity.setRenderPosition(
+          snapshot.interpolate(physics.getInterpolationAlpha(), interpolatedPosition));
+    }
+  }
+
+  private void checkCollisionInterest() {
+    if (collisionInterest == PhysicsLayer.NONE
+        && (entity.getEvents().hasListener("collisionStart")
+            || entity.getEvents().hasListener("collisionEnd"))) {
+      logger.warn(
+          "{} listens for collisions without any collision interest, so will receive none. "
+              + "Call addCollisionInterest() with the layers it handles.",
+          entity);
+    }
   }
 
   @Override
   public void dispose() {
-    physics.destroyBody(body);
+    physics.getChunks().remove(this);
+    if (snapshot != null) {
+      physics.untrack(snapshot);
+    }
+    if (!merged) {
+      // Colliders remove their own fixtures from a shared chunk body
+      physics.destroyBody(body);
+    }
   }
 
   @Override
   public void setEnabled(boolean enabled) {
     super.setEnabled(enabled);
-    body.setActive(enabled);
+    updateActive();
   }
 
   public enum AlignX {
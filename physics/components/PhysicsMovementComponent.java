@@ -3,18 +3,30 @@ package com.csse3200.game.physics.components;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.csse3200.game.ai.movement.MovementController;
+import com.csse3200.game.ai.movement.Steering;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.utils.math.Vector2Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Movement controller for a physics-based entity. */
+/**
+ * Movement controller for a physics-based entity. Heads straight at the target, or with steering
+ * enabled, steers towards it while keeping away from nearby entities and obstacles, see
+ * {@link Steering}. Steering and pathfinding are only worth their cost for entities which walk
+ * around the map, so they are off unless enabled.
+ */
 public class PhysicsMovementComponent extends Component implements MovementController {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsMovementComponent.class);
   private Vector2 defaultSpeed = Vector2Utils.ONE;
   private PhysicsComponent physicsComponent;
   private Vector2 targetPosition;
   private boolean movementEnabled = true;
+  private boolean steeringEnabled = false;
+  private boolean pathfindingEnabled = false;
+  private final Steering steering = new Steering();
+  private final Vector2 direction = new Vector2();
+  private final Vector2 position = new Vector2();
+  private final Vector2 impulse = new Vector2();
 
   @Override
   public void create() {
@@ -57,8 +69,9 @@ public class PhysicsMovementComponent extends Component implements MovementContr
   }
 
   /**
-   * Set a target to move towards. The entity will be steered towards it in a straight line, not
-   * using pathfinding or avoiding other entities.
+   * Set a target to move towards. The entity will move towards it in a straight line, avoiding
+   * nearby entities and obstacles if steering is enabled. Pathfinding is up to the caller, see
+   * {@link #isPathfinding()}.
    *
    * @param target target position
    */
@@ -69,22 +82,21 @@ public class PhysicsMovementComponent extends Component implements MovementContr
   }
 
   private void updateDirection(Body body) {
-    Vector2 desiredVelocity = getDirection().scl(defaultSpeed);
-    setToVelocity(body, desiredVelocity);
+    if (steeringEnabled) {
+      steering.calculate(entity, targetPosition, direction);
+    } else {
+      direction.set(targetPosition).sub(entity.getPosition(position)).nor();
+    }
+    setToVelocity(body, direction.scl(defaultSpeed));
   }
 
   private void setToVelocity(Body body, Vector2 desiredVelocity) {
     // impulse force = (desired velocity - current velocity) * mass
     Vector2 velocity = body.getLinearVelocity();
-    Vector2 impulse = desiredVelocity.cpy().sub(velocity).scl(body.getMass());
+    impulse.set(desiredVelocity).sub(velocity).scl(body.getMass());
     body.applyLinearImpulse(impulse, body.getWorldCenter(), true);
   }
 
-  private Vector2 getDirection() {
-    // Move towards targetPosition based on our current position
-    return targetPosition.cpy().sub(entity.getPosition()).nor();
-  }
-
   /**
    * Change the movement components max speed.
    *
@@ -97,4 +109,44 @@ public class PhysicsMovementComponent extends Component implements MovementContr
   public Vector2 getMaxSpeed() {
     return defaultSpeed;
   }
+
+  /**
+   * Steer around nearby entities and obstacles rather than heading straight at the target.
+   *
+   * @param steeringEnabled true to steer
+   * @return self
+   */
+  public PhysicsMovementComponent setSteering(boolean steeringEnabled) {
+    this.steeringEnabled = steeringEnabled;
+    return this;
+  }
+
+  public boolean isSteering() {
+    return steeringEnabled;
+  }
+
+  /**
+   * Let movement tasks find paths around obstacles for this entity, see {@link
+   * com.csse3200.game.components.tasks.MovementTask}.
+   *
+   * @param pathfindingEnabled true to follow paths
+   * @return self
+   */
+  public PhysicsMovementComponent setPathfinding(boolean pathfindingEnabled) {
+    this.pathfindingEnabled = pathfindingEnabled;
+    return this;
+  }
+
+  public boolean isPathfinding() {
+    return pathfindingEnabled;
+  }
+
+  /**
+   * Get the steering behaviours, e.g. to tune separation for a crowd.
+   *
+   * @return steering used by this controller
+   */
+  public Steering getSteering() {
+    return steering;
+  }
 }
@@ -0,0 +1,235 @@
+package com.csse3200.game.physics.kinematic;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsLayer;
+
+/**
+ * A box or circle moved by the {@link KinematicWorld}. Bodies move at their velocity and stop
+ * against solid bodies in their mask, without forces, mass or rotation. Shapes are positioned
+ * relative to the body position, like Box2D fixtures.
+ */
+public class KinematicBody {
+  final Vector2 position = new Vector2();
+  final Vector2 previousPosition = new Vector2();
+  final Vector2 velocity = new Vector2();
+  final Vector2 offset = new Vector2();
+  final Vector2 size = new Vector2(1f, 1f);
+  float radius = -1f;
+
+  short layer = PhysicsLayer.DEFAULT;
+  short mask = PhysicsLayer.ALL;
+  short collisionInterest = PhysicsLayer.NONE;
+  boolean isStatic = false;
+  boolean sensor = false;
+  boolean active = true;
+  Entity entity;
+
+  KinematicWorld world;
+  int id;
+  int queryStamp;
+  int minCellX;
+  int minCellY;
+  int maxCellX;
+  int maxCellY;
+
+  /**
+   * Use an axis aligned box.
+   *
+   * @param width box width
+   * @param height box height
+   * @param offset position of the box's bottom left corner relative to the body
+   * @return self
+   */
+  public KinematicBody setAsBox(float width, float height, Vector2 offset) {
+    this.size.set(width, height);
+    this.offset.set(offset);
+    this.radius = -1f;
+    return this;
+  }
+
+  /**
+   * Use a circle.
+   *
+   * @param radius circle radius
+   * @param center position of the circle's centre relative to the body
+   * @return self
+   */
+  public KinematicBody setAsCircle(float radius, Vector2 center) {
+    this.radius = radius;
+    this.size.set(radius * 2f, radius * 2f);
+    this.offset.set(center).sub(radius, radius);
+    return this;
+  }
+
+  /**
+   * @param layer {@link PhysicsLayer} this body belongs to
+   * @return self
+   */
+  public KinematicBody setLayer(short layer) {
+    this.layer = layer;
+    return this;
+  }
+
+  /**
+   * @param mask layers this body is stopped by
+   * @return self
+   */
+  public KinematicBody setMask(short mask) {
+    this.mask = mask;
+    return this;
+  }
+
+  /**
+   * @param layers layers to trigger collision events on the entity for
+   * @return self
+   */
+  public KinematicBody addCollisionInterest(short layers) {
+    this.collisionInterest |= layers;
+    return this;
+  }
+
+  /**
+   * Static bodies never move, and are only checked against moving bodies.
+   *
+   * @param isStatic true if the body never moves
+   * @return self
+   */
+  public KinematicBody setStatic(boolean isStatic) {
+    this.isStatic = isStatic;
+    return this;
+  }
+
+  /**
+   * Sensors trigger collision events but don't stop or get stopped by other bodies.
+   *
+   * @param sensor true if sensor
+   * @return self
+   */
+  public KinematicBody setSensor(boolean sensor) {
+    this.sensor = sensor;
+    return this;
+  }
+
+  /**
+   * @param entity entity to trigger collision events on
+   * @return self
+   */
+  public KinematicBody setEntity(Entity entity) {
+    this.entity = entity;
+    return this;
+  }
+
+  /**
+   * Move the body without sweeping, e.g. when spawning. The body isn't interpolated across the
+   * jump.
+   *
+   * @param x new x position
+   * @param y new y position
+   */
+  public void setPosition(float x, float y) {
+    position.set(x, y);
+    previousPosition.set(x, y);
+    if (world != null) {
+      world.updateCells(this);
+    }
+  }
+
+  public Vector2 getPosition() {
+    return position;
+  }
+
+  /**
+   * Get the position between the last two steps.
+   *
+   * @param alpha fraction of the way from the previous to the latest step
+   * @param out vector to store the position in
+   * @return out
+   */
+  public Vector2 getInterpolatedPosition(float alpha, Vector2 out) {
+    return out.set(
+        MathUtils.lerp(previousPosition.x, position.x, alpha),
+        MathUtils.lerp(previousPosition.y, position.y, alpha));
+  }
+
+  public void setVelocity(float x, float y) {
+    velocity.set(x, y);
+  }
+
+  public Vector2 getVelocity() {
+    return velocity;
+  }
+
+  /** @param active false to stop moving and colliding until reactivated */
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public boolean isStatic() {
+    return isStatic;
+  }
+
+  public short getLayer() {
+    return layer;
+  }
+
+  public Entity getEntity() {
+    return entity;
+  }
+
+  float getLeft() {
+    return position.x + offset.x;
+  }
+
+  float getBottom() {
+    return position.y + offset.y;
+  }
+
+  float getRight() {
+    return position.x + offset.x + size.x;
+  }
+
+  float getTop() {
+    return position.y + offset.y + size.y;
+  }
+
+  boolean isCircle() {
+    return radius >= 0f;
+  }
+
+  /** @return true if the shapes of the two bodies overlap */
+  boolean overlaps(KinematicBody other) {
+    if (getLeft() >= other.getRight()
+        || getRight() <= other.getLeft()
+        || getBottom() >= other.getTop()
+        || getTop() <= other.getBottom()) {
+      return false;
+    }
+    if (isCircle() && other.isCircle()) {
+      float dx = (getLeft() + radius) - (other.getLeft() + other.radius);
+      float dy = (getBottom() + radius) - (other.getBottom() + other.radius);
+      float reach = radius + other.radius;
+      return dx * dx + dy * dy < reach * reach;
+    }
+    if (isCircle()) {
+      return circleOverlapsBox(this, other);
+    }
+    if (other.isCircle()) {
+      return circleOverlapsBox(other, this);
+    }
+    return true;
+  }
+
+  private static boolean circleOverlapsBox(KinematicBody circle, KinematicBody box) {
+    float centerX = circle.getLeft() + circle.radius;
+    float centerY = circle.getBottom() + circle.radius;
+    float dx = centerX - MathUtils.clamp(centerX, box.getLeft(), box.getRight());
+    float dy = centerY - MathUtils.clamp(centerY, box.getBottom(), box.getTop());
+    return dx * dx + dy * dy < circle.radius * circle.radius;
+  }
+}
@@ -0,0 +1,395 @@
+package com.csse3200.game.physics.kinematic;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+import com.csse3200.game.physics.PhysicsLayer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lightweight alternative to Box2D for top-down movement without gravity, forces or rotation.
+ * Bodies are stored in a uniform grid. Moving bodies are swept one axis at a time against solid
+ * bodies in their mask, so they slide along obstacles and can't tunnel through them.
+ *
+ * <p>Circles are stopped by their bounding box, but overlaps for collision events use their exact
+ * shape. Collision events are {@link #COLLISION_START} and {@link #COLLISION_END}, with params
+ * ({@link KinematicBody} thisBody, {@link KinematicBody} otherBody). They have their own names, so
+ * handlers of Box2D contacts, which take fixtures, never receive them. They're only triggered on a
+ * body whose collision interest includes the other body's layer.
+ *
+ * <p>Kinematic bodies don't collide with Box2D bodies.
+ */
+public class KinematicWorld {
+  private static final Logger logger = LoggerFactory.getLogger(KinematicWorld.class);
+  private static final float DEFAULT_CELL_SIZE = 2f;
+  /** Tolerance for bodies resting exactly against each other */
+  private static final float EPSILON = 1e-4f;
+  /** Triggered when two kinematic bodies start overlapping */
+  public static final String COLLISION_START = "kinematicCollisionStart";
+  /** Triggered when two kinematic bodies stop overlapping */
+  public static final String COLLISION_END = "kinematicCollisionEnd";
+
+  private final float cellSize;
+  private final LongMap<Array<KinematicBody>> cells = new LongMap<>();
+  private final Array<KinematicBody> bodies = new Array<>(false, 64);
+  private final Array<KinematicBody> movingBodies = new Array<>(false, 64);
+  private final Array<KinematicBody> candidates = new Array<>(false, 16);
+  private final LongMap<Contact> contacts = new LongMap<>();
+  private final Array<Contact> endedContacts = new Array<>(false, 16);
+  /** Events to trigger after the step, as body pairs, with whether each began */
+  private final Array<KinematicBody> events = new Array<>(false, 32);
+  private final Array<String> eventNames = new Array<>(false, 16);
+  private final Pool<Contact> contactPool =
+      new Pool<Contact>() {
+        @Override
+        protected Contact newObject() {
+          return new Contact();
+        }
+      };
+  private final Pool<Array<KinematicBody>> cellPool =
+      new Pool<Array<KinematicBody>>() {
+        @Override
+        protected Array<KinematicBody> newObject() {
+          return new Array<>(false, 4);
+        }
+      };
+  private int nextId = 0;
+  private int queryStamp = 0;
+  private int stepCount = 0;
+  private boolean dispatching = false;
+
+  public KinematicWorld() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /** @param cellSize width and height of each grid cell, ideally a little larger than most bodies */
+  public KinematicWorld(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Add a body to the world at its current position.
+   *
+   * @param body body to add
+   */
+  public void add(KinematicBody body) {
+    body.world = this;
+    body.id = nextId++;
+    body.previousPosition.set(body.position);
+    bodies.add(body);
+    if (!body.isStatic) {
+      movingBodies.add(body);
+    }
+    insert(body);
+  }
+
+  /**
+   * Remove a body from the world, ending its contacts.
+   *
+   * @param body body to remove
+   */
+  public void remove(KinematicBody body) {
+    if (body.world != this) {
+      return;
+    }
+    removeFromCells(body);
+    bodies.removeValue(body, true);
+    movingBodies.removeValue(body, true);
+    body.world = null;
+
+    LongMap.Entries<Contact> iterator = contacts.entries();
+    while (iterator.hasNext()) {
+      Contact contact = iterator.next().value;
+      if (contact.bodyA == body || contact.bodyB == body) {
+        queueEvent(contact.bodyA, contact.bodyB, COLLISION_END);
+        iterator.remove();
+        contactPool.free(contact);
+      }
+    }
+    if (!dispatching) {
+      dispatchEvents();
+    }
+  }
+
+  /**
+   * Advance the world by one step, moving every active body and triggering collision events.
+   *
+   * @param timestep length of the step, in seconds
+   */
+  public void step(float timestep) {
+    stepCount++;
+    for (int i = 0; i < movingBodies.size; i++) {
+      KinematicBody body = movingBodies.get(i);
+      body.previousPosition.set(body.position);
+      if (body.active && !body.velocity.isZero()) {
+        move(body, timestep);
+      }
+    }
+    findContacts();
+    dispatchEvents();
+  }
+
+  private void move(KinematicBody body, float timestep) {
+    float dx = body.velocity.x * timestep;
+    float dy = body.velocity.y * timestep;
+    boolean solid = !body.sensor;
+
+    if (dx != 0f) {
+      float left = body.getLeft();
+      float right = body.getRight();
+      float bottom = body.getBottom();
+      float top = body.getTop();
+      if (solid) {
+        query(
+            dx > 0f ? left : left + dx, bottom, dx > 0f ? right + dx : right, top, body);
+        for (int i = 0; i < candidates.size; i++) {
+          KinematicBody other = candidates.get(i);
+          if (!blocks(body, other)
+              || other.getBottom() >= top - EPSILON
+              || other.getTop() <= bottom + EPSILON) {
+            continue;
+          }
+          if (dx > 0f && other.getLeft() >= right - EPSILON) {
+            dx = Math.min(dx, Math.max(0f, other.getLeft() - right));
+          } else if (dx < 0f && other.getRight() <= left + EPSILON) {
+            dx = Math.max(dx, Math.min(0f, other.getRight() - left));
+          }
+        }
+      }
+      body.position.x += dx;
+    }
+
+    if (dy != 0f) {
+      float left = body.getLeft();
+      float right = body.getRight();
+      float bottom = body.getBottom();
+      float top = body.getTop();
+      if (solid) {
+        query(
+            left, dy > 0f ? bottom : bottom + dy, right, dy > 0f ? top + dy : top, body);
+        for (int i = 0; i < candidates.size; i++) {
+          KinematicBody other = candidates.get(i);
+          if (!blocks(body, other)
+              || other.getLeft() >= right - EPSILON
+              || other.getRight() <= left + EPSILON) {
+            continue;
+          }
+          if (dy > 0f && other.getBottom() >= top - EPSILON) {
+            dy = Math.min(dy, Math.max(0f, other.getBottom() - top));
+          } else if (dy < 0f && other.getTop() <= bottom + EPSILON) {
+            dy = Math.max(dy, Math.min(0f, other.getTop() - bottom));
+          }
+        }
+      }
+      body.position.y += dy;
+    }
+    updateCells(body);
+  }
+
+  private static boolean blocks(KinematicBody body, KinematicBody other) {
+    return other.active && !other.sensor && PhysicsLayer.contains(body.mask, other.layer);
+  }
+
+  /** Find overlaps involving moving bodies, and queue begin and end events for changed contacts. */
+  private void findContacts() {
+    for (int i = 0; i < movingBodies.size; i++) {
+      KinematicBody body = movingBodies.get(i);
+      if (!body.active) {
+        continue;
+      }
+      query(body.getLeft(), body.getBottom(), body.getRight(), body.getTop(), body);
+      for (int j = 0; j < candidates.size; j++) {
+        KinematicBody other = candidates.get(j);
+        if (!other.active || !isInterested(body, other) || !body.overlaps(other)) {
+          continue;
+        }
+        long key = pairKey(body, other);
+        Contact contact = contacts.get(key);
+        if (contact == null) {
+          contact = contactPool.obtain();
+          contact.bodyA = body;
+          contact.bodyB = other;
+          contacts.put(key, contact);
+          queueEvent(body, other, COLLISION_START);
+        }
+        contact.lastStep = stepCount;
+      }
+    }
+
+    LongMap.Entries<Contact> iterator = contacts.entries();
+    while (iterator.hasNext()) {
+      Contact contact = iterator.next().value;
+      if (contact.lastStep != stepCount) {
+        endedContacts.add(contact);
+        iterator.remove();
+      }
+    }
+    for (int i = 0; i < endedContacts.size; i++) {
+      Contact contact = endedContacts.get(i);
+      queueEvent(contact.bodyA, contact.bodyB, COLLISION_END);
+      contactPool.free(contact);
+    }
+    endedContacts.clear();
+  }
+
+  private static boolean isInterested(KinematicBody body, KinematicBody other) {
+    return PhysicsLayer.contains(body.collisionInterest, other.layer)
+        || PhysicsLayer.contains(other.collisionInterest, body.layer);
+  }
+
+  private void queueEvent(KinematicBody bodyA, KinematicBody bodyB, String eventName) {
+    events.add(bodyA);
+    events.add(bodyB);
+    eventNames.add(eventName);
+  }
+
+  private void dispatchEvents() {
+    // Handlers may remove bodies, which queues more events onto the end
+    dispatching = true;
+    for (int i = 0; i < eventNames.size; i++) {
+      KinematicBody bodyA = events.get(i * 2);
+      KinematicBody bodyB = events.get(i * 2 + 1);
+      String eventName = eventNames.get(i);
+      triggerEventOn(bodyA, eventName, bodyB);
+      triggerEventOn(bodyB, eventName, bodyA);
+    }
+    events.clear();
+    eventNames.clear();
+    dispatching = false;
+  }
+
+  private static void triggerEventOn(KinematicBody body, String eventName, KinematicBody other) {
+    if (body.entity != null && PhysicsLayer.contains(body.collisionInterest, other.layer)) {
+      logger.debug("{} on entity {}", eventName, body.entity);
+      body.entity.getEvents().trigger(eventName, body, other);
+    }
+  }
+
+  /** Collect the distinct bodies in the cells overlapping an area, other than the given body. */
+  private void query(float left, float bottom, float right, float top, KinematicBody except) {
+    candidates.clear();
+    queryStamp++;
+    except.queryStamp = queryStamp;
+    int minX = toCell(left);
+    int maxX = toCell(right);
+    int minY = toCell(bottom);
+    int maxY = toCell(top);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Array<KinematicBody> cell = cells.get(cellKey(x, y));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          KinematicBody other = cell.get(i);
+          if (other.queryStamp != queryStamp) {
+            other.queryStamp = queryStamp;
+            candidates.add(other);
+          }
+        }
+      }
+    }
+  }
+
+  /** Move a body to the cells covering its current bounds, if they have changed. */
+  void updateCells(KinematicBody body) {
+    if (toCell(body.getLeft()) != body.minCellX
+        || toCell(body.getBottom()) != body.minCellY
+        || toCell(body.getRight()) != body.maxCellX
+        || toCell(body.getTop()) != body.maxCellY) {
+      removeFromCells(body);
+      insert(body);
+    }
+  }
+
+  private void insert(KinematicBody body) {
+    body.minCellX = toCell(body.getLeft());
+    body.minCellY = toCell(body.getBottom());
+    body.maxCellX = toCell(body.getRight());
+    body.maxCellY = toCell(body.getTop());
+    for (int x = body.minCellX; x <= body.maxCellX; x++) {
+      for (int y = body.minCellY; y <= body.maxCellY; y++) {
+        long key = cellKey(x, y);
+        Array<KinematicBody> cell = cells.get(key);
+        if (cell == null) {
+          cell = cellPool.obtain();
+          cells.put(key, cell);
+        }
+        cell.add(body);
+      }
+    }
+  }
+
+  private void removeFromCells(KinematicBody body) {
+    for (int x = body.minCellX; x <= body.maxCellX; x++) {
+      for (int y = body.minCellY; y <= body.maxCellY; y++) {
+        long key = cellKey(x, y);
+        Array<KinematicBody> cell = cells.get(key);
+        if (cell != null) {
+          cell.removeValue(body, true);
+          if (cell.isEmpty()) {
+            cells.remove(key);
+            cellPool.free(cell);
+          }
+        }
+      }
+    }
+  }
+
+  private int toCell(float coordinate) {
+    return (int) Math.floor(coordinate / cellSize);
+  }
+
+  private static long cellKey(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+
+  private static long pairKey(KinematicBody bodyA, KinematicBody bodyB) {
+    int low = Math.min(bodyA.id, bodyB.id);
+    int high = Math.max(bodyA.id, bodyB.id);
+    return ((long) low << 32) | (high & 0xffffffffL);
+  }
+
+  /** @return number of bodies in the world */
+  public int getBodyCount() {
+    return bodies.size;
+  }
+
+  /** @return number of overlapping pairs with collision interest */
+  public int getContactCount() {
+    return contacts.size;
+  }
+
+  /** Remove every body without triggering events. */
+  public void clear() {
+    for (KinematicBody body : bodies) {
+      body.world = null;
+    }
+    bodies.clear();
+    movingBodies.clear();
+    for (Array<KinematicBody> cell : cells.values()) {
+      cell.clear();
+      cellPool.free(cell);
+    }
+    cells.clear();
+    for (Contact contact : contacts.values()) {
+      contactPool.free(contact);
+    }
+    contacts.clear();
+    events.clear();
+    eventNames.clear();
+  }
+
+  private static class Contact implements Pool.Poolable {
+    KinematicBody bodyA;
+    KinematicBody bodyB;
+    int lastStep;
+
+    @Override
+    public void reset() {
+      bodyA = null;
+      bodyB = null;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.csse3200.game.physics.query;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Collect fixtures matching the layer mask whose bounding boxes overlap the queried area. When a
+ * radius is set, fixtures are also checked against the circle using their actual shape.
+ */
+public class AreaQueryCallback implements QueryCallback {
+  public short layerMask = ~0;
+  public Array<Fixture> results;
+  /** Radius of the circle to check against, or a negative value to accept any overlap. */
+  public float radius = -1f;
+  public final Vector2 center = new Vector2();
+
+  private final Vector2 vertexA = new Vector2();
+  private final Vector2 vertexB = new Vector2();
+  private final Vector2 first = new Vector2();
+
+  @Override
+  public boolean reportFixture(Fixture fixture) {
+    if ((fixture.getFilterData().categoryBits & layerMask) != 0
+        && (radius < 0f || overlapsCircle(fixture))) {
+      results.add(fixture);
+    }
+    return true;
+  }
+
+  private boolean overlapsCircle(Fixture fixture) {
+    Body body = fixture.getBody();
+    Shape shape = fixture.getShape();
+    switch (shape.getType()) {
+      case Circle:
+        CircleShape circle = (CircleShape) shape;
+        float reach = radius + circle.getRadius();
+        return body.getWorldPoint(circle.getPosition()).dst2(center) <= reach * reach;
+      case Polygon:
+        if (fixture.testPoint(center)) {
+          return true;
+        }
+        PolygonShape polygon = (PolygonShape) shape;
+        int count = polygon.getVertexCount();
+        polygon.getVertex(0, first);
+        first.set(body.getWorldPoint(first));
+        vertexA.set(first);
+        for (int i = 1; i <= count; i++) {
+          if (i == count) {
+            vertexB.set(first);
+          } else {
+            polygon.getVertex(i, vertexB);
+            vertexB.set(body.getWorldPoint(vertexB));
+          }
+          if (Intersector.distanceSegmentPoint(vertexA, vertexB, center) <= radius) {
+            return true;
+          }
+          vertexA.set(vertexB);
+        }
+        return false;
+      case Edge:
+        EdgeShape edge = (EdgeShape) shape;
+        edge.getVertex1(vertexA);
+        vertexA.set(body.getWorldPoint(vertexA));
+        edge.getVertex2(vertexB);
+        vertexB.set(body.getWorldPoint(vertexB));
+        return Intersector.distanceSegmentPoint(vertexA, vertexB, center) <= radius;
+      case Chain:
+        ChainShape chain = (ChainShape) shape;
+        chain.getVertex(0, vertexA);
+        vertexA.set(body.getWorldPoint(vertexA));
+        for (int i = 1; i < chain.getVertexCount(); i++) {
+          chain.getVertex(i, vertexB);
+          vertexB.set(body.getWorldPoint(vertexB));
+          if (Intersector.distanceSegmentPoint(vertexA, vertexB, center) <= radius) {
+            return true;
+          }
+          vertexA.set(vertexB);
+        }
+        return false;
+      default:
+        return true;
+    }
+  }
+}
@@ -3,36 +3,35 @@ package com.csse3200.game.physics.raycast;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
-import com.badlogic.gdx.utils.Array;
 
 /**
- * Cast a ray against all colliders that match the layer mask. All hits will be stored, with an empty
- * array if no hits occurred.
+ * Cast a ray against all colliders that match the layer mask. All hits will be stored in the hit
+ * buffer, which is left empty if no hits occurred.
  */
 public class AllHitCallback implements RayCastCallback {
-  private final Array<RaycastHit> raycastHits;
   public short layerMask = ~0;
+  private final RaycastHitBuffer ownHits = new RaycastHitBuffer();
+  /** Buffer hits are stored in, the callback's own unless reporting into a caller's buffer */
+  public RaycastHitBuffer hits = ownHits;
 
-  public AllHitCallback() {
-    this.raycastHits = new Array<>(false, 4);
+  /** Store hits in the callback's own buffer again, after reporting into a caller's buffer. */
+  public void resetBuffer() {
+    hits = ownHits;
   }
 
+  /** @return copies of the hits in the buffer, which is then cleared */
   public RaycastHit[] getHitsAndClear() {
-    RaycastHit[] hits = raycastHits.toArray();
-    raycastHits.clear();
-    return hits;
+    RaycastHit[] copies = hits.toArray();
+    hits.clear();
+    return copies;
   }
 
   @Override
   public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
     if ((fixture.getFilterData().categoryBits & layerMask) != 0) {
-      RaycastHit hit = new RaycastHit();
-      hit.fixture = fixture;
-      hit.normal = normal;
-      hit.point = point;
-      raycastHits.add(hit);
-      return fraction;
+      hits.add(fixture, point, normal, fraction);
     }
+    // Keep the full ray length so hits beyond this one are still reported
     return 1;
   }
 }
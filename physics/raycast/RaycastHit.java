@@ -14,4 +14,7 @@ public class RaycastHit {
 
   /** the normal vector of the collider surface at the hit point. */
   public Vector2 normal;
+
+  /** Fraction of the way along the ray at which the hit occurred. */
+  public float fraction;
 }
@@ -0,0 +1,96 @@
+package com.csse3200.game.physics.raycast;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Reusable list of raycast hits. Hits and their vectors are owned by the buffer and recycled on
+ * {@link #clear()}, so repeated queries into the same buffer don't allocate once it has grown. Don't
+ * keep references to hits after the buffer is cleared.
+ */
+public class RaycastHitBuffer {
+  private final Array<RaycastHit> hits;
+  private int size;
+
+  public RaycastHitBuffer() {
+    this(4);
+  }
+
+  /** @param capacity number of hits to preallocate */
+  public RaycastHitBuffer(int capacity) {
+    hits = new Array<>(true, capacity);
+    for (int i = 0; i < capacity; i++) {
+      hits.add(newHit());
+    }
+  }
+
+  /**
+   * Add a hit, copying the point and normal since Box2D reuses them between callbacks.
+   *
+   * @param fixture fixture hit
+   * @param point point of the hit
+   * @param normal surface normal at the hit
+   * @param fraction fraction along the ray of the hit
+   */
+  public void add(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+    if (size == hits.size) {
+      hits.add(newHit());
+    }
+    RaycastHit hit = hits.get(size++);
+    hit.fixture = fixture;
+    hit.point.set(point);
+    hit.normal.set(normal);
+    hit.fraction = fraction;
+  }
+
+  /**
+   * @param index index of the hit, less than {@link #size()}
+   * @return hit at the index
+   */
+  public RaycastHit get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+    }
+    return hits.get(index);
+  }
+
+  /** @return number of hits */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Remove all hits, keeping them for reuse. */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      hits.get(i).fixture = null;
+    }
+    size = 0;
+  }
+
+  /** @return copies of the hits, for callers which need to keep them */
+  public RaycastHit[] toArray() {
+    RaycastHit[] copies = new RaycastHit[size];
+    for (int i = 0; i < size; i++) {
+      RaycastHit hit = hits.get(i);
+      RaycastHit copy = newHit();
+      copy.fixture = hit.fixture;
+      copy.point.set(hit.point);
+      copy.normal.set(hit.normal);
+      copy.fraction = hit.fraction;
+      copies[i] = copy;
+    }
+    return copies;
+  }
+
+  private static RaycastHit newHit() {
+    RaycastHit hit = new RaycastHit();
+    hit.point = new Vector2();
+    hit.normal = new Vector2();
+    return hit;
+  }
+}
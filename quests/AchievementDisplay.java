@@ -34,6 +34,10 @@ public class AchievementDisplay extends UIComponent {
     private final Array<Achievement> achievements;
     final TabButton[] lastPressedButton = {null};
     private Float originalY;
+    private static final String BACKGROUND_TEXTURE = "images/BackgroundSplash.png";
+    private Texture background;
+    /** Draws the background in screen coordinates, separately from the world batch */
+    private SpriteBatch backgroundBatch;
 
     /**
      * Array of texture paths used in the Achievements game screen.
@@ -74,6 +78,8 @@ public class AchievementDisplay extends UIComponent {
         ServiceLocator.getResourceService().loadSounds(logbookSounds);
         ServiceLocator.getResourceService().loadAll();
         super.create();
+        background = acquireTexture(BACKGROUND_TEXTURE);
+        backgroundBatch = new SpriteBatch();
         addActors();
     }
 
@@ -315,10 +321,9 @@ public class AchievementDisplay extends UIComponent {
      */
     @Override
     public void draw(SpriteBatch batch) {
-        batch = new SpriteBatch();
-        batch.begin();
-        batch.draw(new Texture("images/BackgroundSplash.png"), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        backgroundBatch.begin();
+        backgroundBatch.draw(background, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        backgroundBatch.end();
     }
 
     /**
@@ -330,8 +335,10 @@ public class AchievementDisplay extends UIComponent {
         rootTable.clear();
         ServiceLocator.getResourceService().unloadAssets(logbookTextures);
         ServiceLocator.getResourceService().unloadAssets(logbookSounds);
-        ServiceLocator.getResourceService().clearAllAssets();
+        backgroundBatch.dispose();
+        // Release UI textures before the cache holding them is cleared
         super.dispose();
+        ServiceLocator.getResourceService().clearAllAssets();
     }
 
     /**
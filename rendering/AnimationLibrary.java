@@ -0,0 +1,110 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.services.ResourceService;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide cache of animations built from texture atlases. Each clip is built once per atlas,
+ * name, frame duration and play mode, and then shared by every animator playing it. Shared clips
+ * are never modified, so animators keep their own play time and flip state.
+ *
+ * <p>Atlases are held weakly, and their clips are evicted when a resource service unloads the atlas.
+ */
+public class AnimationLibrary {
+  private static final Logger logger = LoggerFactory.getLogger(AnimationLibrary.class);
+  private static final Map<TextureAtlas, ObjectMap<String, Array<Animation<TextureRegion>>>> clips =
+      new WeakHashMap<>();
+
+  static {
+    ResourceService.addAssetListener(
+        new ResourceService.AssetListener() {
+          @Override
+          public void unloading(ResourceService service, String assetName, Object asset) {
+            if (asset instanceof TextureAtlas) {
+              evict((TextureAtlas) asset);
+            }
+          }
+
+          @Override
+          public void cleared(ResourceService service) {
+            clear();
+          }
+        });
+  }
+
+  /**
+   * Get the shared animation for the given atlas regions, building it the first time it is asked
+   * for.
+   *
+   * @param atlas atlas containing the animation frames
+   * @param name name of the animation regions in the atlas
+   * @param frameDuration how long, in seconds, to show each frame for
+   * @param playMode how the animation should be played
+   * @return shared animation, or null if the atlas has no regions with this name
+   */
+  public static Animation<TextureRegion> get(
+      TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+    ObjectMap<String, Array<Animation<TextureRegion>>> atlasClips = clips.get(atlas);
+    if (atlasClips == null) {
+      atlasClips = new ObjectMap<>();
+      clips.put(atlas, atlasClips);
+    }
+
+    Array<Animation<TextureRegion>> variants = atlasClips.get(name);
+    if (variants != null) {
+      for (Animation<TextureRegion> animation : variants) {
+        if (animation.getFrameDuration() == frameDuration && animation.getPlayMode() == playMode) {
+          return animation;
+        }
+      }
+    }
+
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      return null;
+    }
+    if (variants == null) {
+      variants = new Array<>(false, 1);
+      atlasClips.put(name, variants);
+    }
+    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
+    variants.add(animation);
+    logger.debug("Built shared animation {} ({} frames)", name, regions.size);
+    return animation;
+  }
+
+  /**
+   * Drop all clips built from an atlas. Resource services call this before unloading the atlas.
+   *
+   * @param atlas atlas being unloaded
+   */
+  public static void evict(TextureAtlas atlas) {
+    if (clips.remove(atlas) != null) {
+      logger.debug("Evicted shared animations for atlas {}", atlas);
+    }
+  }
+
+  /** Drop every shared clip. */
+  public static void clear() {
+    clips.clear();
+  }
+
+  /** @return number of atlases with shared clips */
+  public static int getAtlasCount() {
+    return clips.size();
+  }
+
+  private AnimationLibrary() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -4,10 +4,7 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -32,6 +29,10 @@ import java.util.Map;
  * - libgdx texture packer (included in External Libraries/gdx-tools) <br>
  * - gdx-texture-packer-gui (recommended) https://github.com/crashinvaders/gdx-texture-packer-gui <br>
  * - other third-party tools, e.g. https://www.codeandweb.com/texturepacker <br>
+ *
+ * <p>Animations are shared between every animator using the same atlas through
+ * {@link AnimationLibrary}, so each animator only holds its own playback state. The atlas belongs to
+ * the resource service and is not disposed with the component.
  */
 public class AnimationRenderComponent extends RenderComponent {
   private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
@@ -73,18 +74,34 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added successfully, false otherwise
    */
   public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-    Array<AtlasRegion> regions = atlas.findRegions(name);
-    if (regions == null || regions.size == 0) {
+    if (animations.containsKey(name)) {
+      logger.warn(
+          "Animation {} already added in texture atlas. Animations should only be added once.",
+          name);
+      return false;
+    }
+    Animation<TextureRegion> animation = AnimationLibrary.get(atlas, name, frameDuration, playMode);
+    if (animation == null) {
       logger.warn("Animation {} not found in texture atlas", name);
       return false;
-    } else if (animations.containsKey(name)) {
+    }
+    return addAnimation(name, animation);
+  }
+
+  /**
+   * Register an animation which has already been built from the texture atlas, e.g. a shared clip
+   * held by an entity template. The animation must not be modified.
+   * @param name Name to play the animation by.
+   * @param animation Animation built from this component's atlas.
+   * @return true if added successfully, false otherwise
+   */
+  public boolean addAnimation(String name, Animation<TextureRegion> animation) {
+    if (animations.containsKey(name)) {
       logger.warn(
           "Animation {} already added in texture atlas. Animations should only be added once.",
           name);
       return false;
     }
-
-    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
     animations.put(name, animation);
     logger.debug("Adding animation {}", name);
     return true;
@@ -173,23 +190,18 @@ public class AnimationRenderComponent extends RenderComponent {
       return;
     }
     TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
+    entity.getRenderPosition(tmpPosition);
+    entity.getScale(tmpScale);
+    // Frames are shared with other animators, so flip by drawing with a negative width
     if (region.isFlipX() != flipX) {
-      region.flip(true, false);
+      batch.draw(region, tmpPosition.x + tmpScale.x, tmpPosition.y, -tmpScale.x, tmpScale.y);
+    } else {
+      batch.draw(region, tmpPosition.x, tmpPosition.y, tmpScale.x, tmpScale.y);
     }
-
-    Vector2 pos = entity.getPosition();
-    Vector2 scale = entity.getScale();
-    batch.draw(region, pos.x, pos.y, scale.x, scale.y);
     animationPlayTime += timeSource.getDeltaTime();
   }
 
   public void setFlipX(boolean flipX) {
     this.flipX = flipX;
   }
-
-  @Override
-  public void dispose() {
-    atlas.dispose();
-    super.dispose();
-  }
 }
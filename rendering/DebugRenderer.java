@@ -8,6 +8,7 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.physics.PhysicsEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +19,7 @@ public class DebugRenderer {
   private final ShapeRenderer shapeRenderer;
 
   private World physicsWorld;
+  private PhysicsEngine physicsEngine;
   private boolean active = true;
   private DrawRequest[] drawRequests = new DrawRequest[10];
   private int requestCount = 0;
@@ -39,6 +41,17 @@ public class DebugRenderer {
     this.physicsWorld = physicsWorld;
   }
 
+  /**
+   * Render the world of a physics engine which may step on its own thread. Running steps are
+   * finished before the world is drawn.
+   *
+   * @param physicsEngine physics engine to render
+   */
+  public void renderPhysicsWorld(PhysicsEngine physicsEngine) {
+    this.physicsEngine = physicsEngine;
+    this.physicsWorld = physicsEngine.getWorld();
+  }
+
   /**
    * Draw a line between two positions
    *
@@ -112,6 +125,9 @@ public class DebugRenderer {
       return;
     }
 
+    if (physicsEngine != null) {
+      physicsEngine.finishSteps();
+    }
     if (physicsWorld != null) {
       physicsRenderer.render(physicsWorld, projMatrix);
     }
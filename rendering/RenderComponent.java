@@ -1,6 +1,8 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
@@ -11,17 +13,35 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  // Reused to avoid allocating while sorting and culling every frame
+  protected final Vector2 tmpPosition = new Vector2();
+  protected final Vector2 tmpScale = new Vector2();
 
   @Override
   public void create() {
     ServiceLocator.getRenderService().register(this);
   }
 
+  @Override
+  public void update() {
+    // Keep the render service's spatial index in sync with the entity's position
+    ServiceLocator.getRenderService().updateBounds(this);
+  }
+
   @Override
   public void dispose() {
     ServiceLocator.getRenderService().unregister(this);
   }
 
+  @Override
+  public void setSuspended(boolean suspended) {
+    if (suspended) {
+      ServiceLocator.getRenderService().unregister(this);
+    } else {
+      ServiceLocator.getRenderService().register(this);
+    }
+  }
+
   @Override
   public void render(SpriteBatch batch) {
     draw(batch);
@@ -40,7 +60,15 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getRenderPosition(tmpPosition).y;
+  }
+
+  @Override
+  public boolean getBounds(Rectangle bounds) {
+    Vector2 position = entity.getPosition(tmpPosition);
+    Vector2 scale = entity.getScale(tmpScale);
+    bounds.set(position.x, position.y, scale.x, scale.y);
+    return true;
   }
 
   /**
@@ -0,0 +1,29 @@
+package com.csse3200.game.rendering;
+
+/**
+ * Per-renderable bookkeeping kept by the {@link RenderService}, so culling and depth sorting don't
+ * need to look anything up or allocate while rendering.
+ */
+class RenderEntry {
+  final Renderable renderable;
+
+  /** Grid cells covered by the renderable in the {@link RenderIndex} */
+  int minX;
+  int minY;
+  int maxX;
+  int maxY;
+  boolean oversized;
+
+  /** Last query this entry was returned by, to avoid returning entries in several cells twice */
+  int queryStamp;
+  /** Last frame the entry was in view */
+  int visibleFrame;
+  /** Last frame the entry was placed in draw order */
+  int orderedFrame;
+  /** Z index the entry was sorted by last frame */
+  float zIndex;
+
+  RenderEntry(Renderable renderable) {
+    this.renderable = renderable;
+  }
+}
@@ -0,0 +1,191 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Uniform grid of renderables bucketed by their world bounds, used to find the renderables in view
+ * without visiting every renderable in a layer. Each renderable is stored in every cell its bounds
+ * overlap. Renderables spanning too many cells are kept in a separate list and always returned.
+ */
+class RenderIndex {
+  private static final int MAX_CELL_SPAN = 16;
+  private static final int INITIAL_CELL_CAPACITY = 4;
+
+  private final float cellSize;
+  private final LongMap<Array<RenderEntry>> cells = new LongMap<>();
+  private final ObjectMap<Renderable, RenderEntry> entries = new ObjectMap<>();
+  private final Array<RenderEntry> oversized = new Array<>(false, INITIAL_CELL_CAPACITY);
+  private final Rectangle bounds = new Rectangle();
+  private int queryStamp = 0;
+
+  /** @param cellSize Width and height of each grid cell in world units */
+  RenderIndex(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Add a renderable to the index at its current bounds.
+   *
+   * @param entry entry of a renderable with bounds, see {@link Renderable#getBounds(Rectangle)}
+   */
+  void add(RenderEntry entry) {
+    entries.put(entry.renderable, entry);
+    entry.renderable.getBounds(bounds);
+    insert(entry, bounds);
+  }
+
+  /**
+   * Remove a renderable from the index.
+   *
+   * @param renderable renderable to remove
+   * @return true if the renderable was in the index
+   */
+  boolean remove(Renderable renderable) {
+    RenderEntry entry = entries.remove(renderable);
+    if (entry == null) {
+      return false;
+    }
+    clear(entry);
+    return true;
+  }
+
+  /**
+   * Move a renderable to the cells matching its current bounds. Cheap when the renderable is still
+   * within the same cells.
+   *
+   * @param renderable renderable which may have moved
+   */
+  void update(Renderable renderable) {
+    RenderEntry entry = entries.get(renderable);
+    if (entry == null) {
+      return;
+    }
+    renderable.getBounds(bounds);
+    if (!entry.oversized
+        && cell(bounds.x) == entry.minX
+        && cell(bounds.y) == entry.minY
+        && cell(bounds.x + bounds.width) == entry.maxX
+        && cell(bounds.y + bounds.height) == entry.maxY) {
+      return;
+    }
+    clear(entry);
+    insert(entry, bounds);
+  }
+
+  /**
+   * Find all renderables whose indexed cells overlap the view. Candidates are then tested against
+   * their exact bounds, so each renderable is added at most once.
+   *
+   * @param view area to query, in world units
+   * @param out entries of renderables overlapping the view are appended to this
+   */
+  void query(Rectangle view, Array<RenderEntry> out) {
+    queryStamp++;
+    int minX = cell(view.x);
+    int minY = cell(view.y);
+    int maxX = cell(view.x + view.width);
+    int maxY = cell(view.y + view.height);
+
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Array<RenderEntry> cell = cells.get(key(x, y));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          collect(cell.get(i), view, out);
+        }
+      }
+    }
+    for (int i = 0; i < oversized.size; i++) {
+      collect(oversized.get(i), view, out);
+    }
+  }
+
+  /**
+   * Add every renderable in the index, regardless of position.
+   *
+   * @param out entries are appended to this
+   */
+  void queryAll(Array<RenderEntry> out) {
+    for (RenderEntry entry : entries.values()) {
+      out.add(entry);
+    }
+  }
+
+  /** @return number of renderables in the index */
+  int size() {
+    return entries.size;
+  }
+
+  /** Remove all renderables from the index. */
+  void clear() {
+    cells.clear();
+    entries.clear();
+    oversized.clear();
+  }
+
+  private void collect(RenderEntry entry, Rectangle view, Array<RenderEntry> out) {
+    if (entry.queryStamp == queryStamp) {
+      return;
+    }
+    entry.queryStamp = queryStamp;
+    entry.renderable.getBounds(bounds);
+    if (bounds.overlaps(view)) {
+      out.add(entry);
+    }
+  }
+
+  private void insert(RenderEntry entry, Rectangle bounds) {
+    entry.minX = cell(bounds.x);
+    entry.minY = cell(bounds.y);
+    entry.maxX = cell(bounds.x + bounds.width);
+    entry.maxY = cell(bounds.y + bounds.height);
+    entry.oversized =
+        entry.maxX - entry.minX >= MAX_CELL_SPAN || entry.maxY - entry.minY >= MAX_CELL_SPAN;
+
+    if (entry.oversized) {
+      oversized.add(entry);
+      return;
+    }
+    for (int x = entry.minX; x <= entry.maxX; x++) {
+      for (int y = entry.minY; y <= entry.maxY; y++) {
+        long key = key(x, y);
+        Array<RenderEntry> cell = cells.get(key);
+        if (cell == null) {
+          cell = new Array<>(false, INITIAL_CELL_CAPACITY);
+          cells.put(key, cell);
+        }
+        cell.add(entry);
+      }
+    }
+  }
+
+  private void clear(RenderEntry entry) {
+    if (entry.oversized) {
+      oversized.removeValue(entry, true);
+      return;
+    }
+    for (int x = entry.minX; x <= entry.maxX; x++) {
+      for (int y = entry.minY; y <= entry.maxY; y++) {
+        // Empty cells are kept, since moving renderables usually come back to them
+        Array<RenderEntry> cell = cells.get(key(x, y));
+        if (cell != null) {
+          cell.removeValue(entry, true);
+        }
+      }
+    }
+  }
+
+  private int cell(float worldPos) {
+    return MathUtils.floor(worldPos / cellSize);
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+}
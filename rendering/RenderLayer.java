@@ -0,0 +1,183 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import java.util.Comparator;
+
+/**
+ * Renderables in a single render layer. Renderables with bounds are kept in a spatial index so only
+ * the ones in view are visited, the rest are drawn every frame.
+ *
+ * <p>Draw order is kept between frames. Each frame, the z index of every visible renderable is read
+ * once into a primitive array and the previous frame's order is fixed up with an insertion sort,
+ * which is close to linear since few renderables change order between frames. Layers where nothing
+ * moved or appeared are not sorted at all.
+ */
+class RenderLayer {
+  private static final int INITIAL_CAPACITY = 4;
+  private static final float INDEX_CELL_SIZE = 4f;
+  // More new renderables than this in one frame (e.g. after teleporting) and a full sort is faster
+  private static final int FULL_SORT_THRESHOLD = 32;
+  private static final Comparator<RenderEntry> zIndexComparator =
+      (a, b) -> Float.compare(a.zIndex, b.zIndex);
+
+  private final int layer;
+  private final RenderIndex index = new RenderIndex(INDEX_CELL_SIZE);
+  private final Array<RenderEntry> unculled = new Array<>(true, INITIAL_CAPACITY, RenderEntry.class);
+  private final Array<RenderEntry> candidates =
+      new Array<>(false, INITIAL_CAPACITY, RenderEntry.class);
+  private Array<RenderEntry> order = new Array<>(true, INITIAL_CAPACITY, RenderEntry.class);
+  private Array<RenderEntry> nextOrder = new Array<>(true, INITIAL_CAPACITY, RenderEntry.class);
+  private float[] zIndices = new float[INITIAL_CAPACITY];
+
+  /** @param layer index of this layer */
+  RenderLayer(int layer) {
+    this.layer = layer;
+  }
+
+  int getLayer() {
+    return layer;
+  }
+
+  /**
+   * @param renderable renderable to add
+   * @param culled true if the renderable has bounds and can be culled
+   */
+  void add(Renderable renderable, boolean culled) {
+    RenderEntry entry = new RenderEntry(renderable);
+    if (culled) {
+      index.add(entry);
+    } else {
+      unculled.add(entry);
+    }
+  }
+
+  /**
+   * @param renderable renderable to remove
+   * @return true if the renderable was in this layer
+   */
+  boolean remove(Renderable renderable) {
+    if (index.remove(renderable)) {
+      return true;
+    }
+    for (int i = 0; i < unculled.size; i++) {
+      if (unculled.get(i).renderable == renderable) {
+        unculled.removeIndex(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** @param renderable renderable in this layer which may have moved */
+  void update(Renderable renderable) {
+    index.update(renderable);
+  }
+
+  /**
+   * Find the renderables to draw this frame, in rendering order.
+   *
+   * @param view visible world area, or null to draw everything
+   * @param frame frame number, increasing every call
+   * @return renderables to draw, in order. Only valid until the next call.
+   */
+  Array<RenderEntry> prepare(Rectangle view, int frame) {
+    candidates.clear();
+    candidates.addAll(unculled);
+    if (view != null) {
+      index.query(view, candidates);
+    } else {
+      index.queryAll(candidates);
+    }
+    for (int i = 0; i < candidates.size; i++) {
+      candidates.get(i).visibleFrame = frame;
+    }
+
+    // Keep last frame's order for renderables still in view, then append new ones
+    nextOrder.clear();
+    for (int i = 0; i < order.size; i++) {
+      RenderEntry entry = order.get(i);
+      if (entry.visibleFrame == frame && entry.orderedFrame != frame) {
+        entry.orderedFrame = frame;
+        nextOrder.add(entry);
+      }
+    }
+    int added = 0;
+    for (int i = 0; i < candidates.size; i++) {
+      RenderEntry entry = candidates.get(i);
+      if (entry.orderedFrame != frame) {
+        entry.orderedFrame = frame;
+        nextOrder.add(entry);
+        added++;
+      }
+    }
+    Array<RenderEntry> swap = order;
+    order = nextOrder;
+    nextOrder = swap;
+
+    if (readZIndices() || added > 0) {
+      sort(added);
+    }
+    return order;
+  }
+
+  /** @return number of renderables in this layer */
+  int size() {
+    return index.size() + unculled.size;
+  }
+
+  void clear() {
+    index.clear();
+    unculled.clear();
+    candidates.clear();
+    order.clear();
+    nextOrder.clear();
+  }
+
+  /**
+   * Read the current z index of every ordered renderable.
+   *
+   * @return true if any z index changed since last frame
+   */
+  private boolean readZIndices() {
+    if (zIndices.length < order.size) {
+      zIndices = new float[Math.max(order.size, zIndices.length * 2)];
+    }
+    boolean moved = false;
+    RenderEntry[] entries = order.items;
+    for (int i = 0; i < order.size; i++) {
+      float zIndex = entries[i].renderable.getZIndex();
+      if (zIndex != entries[i].zIndex) {
+        entries[i].zIndex = zIndex;
+        moved = true;
+      }
+      zIndices[i] = zIndex;
+    }
+    return moved;
+  }
+
+  private void sort(int added) {
+    if (added > FULL_SORT_THRESHOLD) {
+      order.sort(zIndexComparator);
+      return;
+    }
+
+    // Stable insertion sort, so renderables with equal z index don't swap between frames
+    RenderEntry[] entries = order.items;
+    for (int i = 1; i < order.size; i++) {
+      float zIndex = zIndices[i];
+      if (zIndex >= zIndices[i - 1]) {
+        continue;
+      }
+      RenderEntry entry = entries[i];
+      int j = i - 1;
+      while (j >= 0 && zIndices[j] > zIndex) {
+        zIndices[j + 1] = zIndices[j];
+        entries[j + 1] = entries[j];
+        j--;
+      }
+      zIndices[j + 1] = zIndex;
+      entries[j + 1] = entry;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
@@ -8,19 +9,24 @@ import com.csse3200.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
- * this service has render() called once per frame.
+ * this service has render() called once per frame, unless it is outside the view being rendered.
  */
 public class RenderService implements Disposable {
   private static final int INITIAL_LAYER_CAPACITY = 4;
-  private static final int INITIAL_CAPACITY = 4;
+  private static final float DEFAULT_CULL_MARGIN = 1f;
   private Stage stage;
   private DebugRenderer debugRenderer;
+  private float cullMargin = DEFAULT_CULL_MARGIN;
+  private final Rectangle cullView = new Rectangle();
+  private final Rectangle bounds = new Rectangle();
+  private int frame = 0;
+  private final RenderStats stats = new RenderStats();
 
   /**
-   * Map from layer to list of renderables, allows us to render each layer in the correct order
+   * Map from layer to renderables in that layer, allows us to render each layer in the correct order
    */
-  private final SortedIntMap<Array<Renderable>> renderables =
-      new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final SortedIntMap<RenderLayer> renderables = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+
   /**
    * Register a new renderable.
    *
@@ -29,10 +35,9 @@ public class RenderService implements Disposable {
   public void register(Renderable renderable) {
     int layerIndex = renderable.getLayer();
     if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+      renderables.put(layerIndex, new RenderLayer(layerIndex));
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
-    layer.add(renderable);
+    renderables.get(layerIndex).add(renderable, renderable.getBounds(bounds));
   }
 
   /**
@@ -41,28 +46,82 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
+    RenderLayer layer = renderables.get(renderable.getLayer());
     if (layer != null) {
-      layer.removeValue(renderable, true);
+      layer.remove(renderable);
     }
   }
 
   /**
-   * Trigger rendering on the given batch. This should be called only from the main renderer.
+   * Notify the service that a renderable's bounds may have changed, so it can be culled correctly.
+   * Cheap to call every frame.
+   *
+   * @param renderable registered renderable
+   */
+  public void updateBounds(Renderable renderable) {
+    RenderLayer layer = renderables.get(renderable.getLayer());
+    if (layer != null) {
+      layer.update(renderable);
+    }
+  }
+
+  /**
+   * Trigger rendering of every renderable on the given batch, without culling. This should be
+   * called only from the main renderer.
    *
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
-    for (Array<Renderable> layer : renderables) {
-      // Sort into rendering order
-      layer.sort();
+    render(batch, null);
+  }
 
-      for (Renderable renderable : layer) {
-        renderable.render(batch);
+  /**
+   * Trigger rendering on the given batch. Renderables with bounds are only drawn if they overlap
+   * the view, expanded by the cull margin. Within a layer, renderables are drawn in order of z
+   * index. This should be called only from the main renderer.
+   *
+   * @param batch batch to render to.
+   * @param view visible world area, or null to render everything.
+   */
+  public void render(SpriteBatch batch, Rectangle view) {
+    if (view != null) {
+      cullView.set(
+          view.x - cullMargin,
+          view.y - cullMargin,
+          view.width + 2 * cullMargin,
+          view.height + 2 * cullMargin);
+    }
+
+    frame++;
+    for (RenderLayer layer : renderables) {
+      long start = System.nanoTime();
+      Array<RenderEntry> visible = layer.prepare(view != null ? cullView : null, frame);
+      for (int i = 0; i < visible.size; i++) {
+        visible.get(i).renderable.render(batch);
       }
+      stats.recordLayer(layer.getLayer(), visible.size, layer.size(), System.nanoTime() - start);
     }
   }
 
+  /**
+   * Set how far outside the view renderables are still drawn. Should cover anything drawn outside a
+   * renderable's bounds, e.g. shadows or health bars.
+   *
+   * @param cullMargin margin in world units
+   */
+  public void setCullMargin(float cullMargin) {
+    this.cullMargin = cullMargin;
+  }
+
+  public float getCullMargin() {
+    return cullMargin;
+  }
+
+  /** @return statistics about what was rendered in recent frames */
+  public RenderStats getStats() {
+    return stats;
+  }
+
   public void setStage(Stage stage) {
     this.stage = stage;
   }
@@ -81,6 +140,10 @@ public class RenderService implements Disposable {
 
   @Override
   public void dispose() {
+    stats.stopCsvLog();
+    for (RenderLayer layer : renderables) {
+      layer.clear();
+    }
     renderables.clear();
   }
 }
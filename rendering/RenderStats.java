@@ -0,0 +1,271 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-frame statistics about the render pipeline, collected by the {@link Renderer} and {@link
+ * RenderService}. Values for the frame being rendered are kept separately, so readers always see
+ * the last complete frame through {@link #getLastFrame()}.
+ *
+ * <p>Collection is cheap and always on, except for texture bindings which need the GL profiler and
+ * are only counted while {@link #setGlProfiling(boolean)} is enabled.
+ */
+public class RenderStats {
+  private static final Logger logger = LoggerFactory.getLogger(RenderStats.class);
+  private Frame current = new Frame();
+  private Frame last = new Frame();
+  private long frameCount = 0;
+  private boolean glProfiling = false;
+  private RenderStatsCsvLogger csvLogger;
+
+  /** Start collecting a new frame. Called by the renderer. */
+  public void beginFrame() {
+    current.reset();
+    current.frame = frameCount++;
+  }
+
+  /** Finish the current frame, making it available to readers. Called by the renderer. */
+  public void endFrame() {
+    Frame swap = last;
+    last = current;
+    current = swap;
+    if (csvLogger != null) {
+      csvLogger.write(last);
+    }
+  }
+
+  /**
+   * Record the result of drawing one render layer.
+   *
+   * @param layer layer index
+   * @param submitted number of renderables drawn
+   * @param total number of renderables registered in the layer
+   * @param nanos time spent drawing the layer
+   */
+  public void recordLayer(int layer, int submitted, int total, long nanos) {
+    LayerStats stats = current.layers.get(layer);
+    if (stats == null) {
+      stats = new LayerStats();
+      current.layers.put(layer, stats);
+    }
+    if (!current.layerOrder.contains(layer)) {
+      current.layerOrder.add(layer);
+    }
+    stats.submitted += submitted;
+    stats.culled += total - submitted;
+    stats.nanos += nanos;
+  }
+
+  /**
+   * Record the terrain pass. The time is part of the terrain's render layer, and is excluded from
+   * the renderables pass.
+   *
+   * @param cells number of terrain cells within the view
+   * @param nanos time spent drawing the terrain
+   */
+  public void recordTerrain(int cells, long nanos) {
+    current.terrainCells += cells;
+    current.terrainNanos += nanos;
+  }
+
+  /**
+   * Record the sprite batch results of a pass.
+   *
+   * @param renderCalls number of batch flushes, see SpriteBatch.renderCalls
+   */
+  public void recordRenderCalls(int renderCalls) {
+    current.renderCalls += renderCalls;
+  }
+
+  /** @param textureBindings number of texture binds over the whole frame */
+  public void recordTextureBindings(int textureBindings) {
+    current.textureBindings = textureBindings;
+  }
+
+  /** @param nanos time spent acting and drawing the Scene2D stage */
+  public void recordStage(long nanos) {
+    current.stageNanos += nanos;
+  }
+
+  /** @return statistics of the last fully rendered frame */
+  public Frame getLastFrame() {
+    return last;
+  }
+
+  /**
+   * Enable or disable counting texture bindings with the GL profiler. The profiler wraps every GL
+   * call, so only enable it while measuring.
+   *
+   * @param glProfiling true to count texture bindings
+   */
+  public void setGlProfiling(boolean glProfiling) {
+    logger.info("Setting render GL profiling to {}", glProfiling);
+    this.glProfiling = glProfiling;
+  }
+
+  public boolean isGlProfiling() {
+    return glProfiling;
+  }
+
+  /**
+   * Start logging every frame's statistics to a CSV file in local storage. Replaces any running
+   * log.
+   *
+   * @param filename local file to write to
+   */
+  public void startCsvLog(String filename) {
+    stopCsvLog();
+    csvLogger = new RenderStatsCsvLogger(filename);
+  }
+
+  /** Stop logging statistics to CSV, if running. */
+  public void stopCsvLog() {
+    if (csvLogger != null) {
+      csvLogger.close();
+      csvLogger = null;
+    }
+  }
+
+  public boolean isCsvLogging() {
+    return csvLogger != null;
+  }
+
+  /** Statistics for a single rendered frame. */
+  public static class Frame {
+    private final IntMap<LayerStats> layers = new IntMap<>();
+    private final IntArray layerOrder = new IntArray();
+    private long frame;
+    private int renderCalls;
+    private int textureBindings;
+    private int terrainCells;
+    private long terrainNanos;
+    private long stageNanos;
+
+    private void reset() {
+      for (LayerStats stats : layers.values()) {
+        stats.submitted = 0;
+        stats.culled = 0;
+        stats.nanos = 0;
+      }
+      layerOrder.clear();
+      renderCalls = 0;
+      textureBindings = -1;
+      terrainCells = 0;
+      terrainNanos = 0;
+      stageNanos = 0;
+    }
+
+    /** @return frame number since the renderer started */
+    public long getFrame() {
+      return frame;
+    }
+
+    /** @return number of sprite batch flushes */
+    public int getRenderCalls() {
+      return renderCalls;
+    }
+
+    /** @return number of texture binds, or -1 if GL profiling is disabled */
+    public int getTextureBindings() {
+      return textureBindings;
+    }
+
+    /** @return number of terrain cells within the view */
+    public int getTerrainCells() {
+      return terrainCells;
+    }
+
+    /** @return layer indices drawn this frame, in draw order */
+    public IntArray getLayers() {
+      return layerOrder;
+    }
+
+    /**
+     * @param layer layer index
+     * @return renderables drawn in the layer
+     */
+    public int getSubmitted(int layer) {
+      LayerStats stats = layers.get(layer);
+      return stats == null ? 0 : stats.submitted;
+    }
+
+    /**
+     * @param layer layer index
+     * @return renderables skipped in the layer because they were out of view
+     */
+    public int getCulled(int layer) {
+      LayerStats stats = layers.get(layer);
+      return stats == null ? 0 : stats.culled;
+    }
+
+    /** @return renderables drawn across all layers */
+    public int getTotalSubmitted() {
+      int total = 0;
+      for (int i = 0; i < layerOrder.size; i++) {
+        total += getSubmitted(layerOrder.get(i));
+      }
+      return total;
+    }
+
+    /** @return renderables culled across all layers */
+    public int getTotalCulled() {
+      int total = 0;
+      for (int i = 0; i < layerOrder.size; i++) {
+        total += getCulled(layerOrder.get(i));
+      }
+      return total;
+    }
+
+    /** @return time spent drawing terrain, in milliseconds */
+    public float getTerrainMillis() {
+      return terrainNanos / 1e6f;
+    }
+
+    /** @return time spent drawing renderables other than terrain, in milliseconds */
+    public float getRenderablesMillis() {
+      long nanos = 0;
+      for (int i = 0; i < layerOrder.size; i++) {
+        nanos += layers.get(layerOrder.get(i)).nanos;
+      }
+      return Math.max(0, nanos - terrainNanos) / 1e6f;
+    }
+
+    /** @return time spent acting and drawing the Scene2D stage, in milliseconds */
+    public float getStageMillis() {
+      return stageNanos / 1e6f;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder =
+          new StringBuilder()
+              .append(String.format("Render calls: %d%n", renderCalls))
+              .append(
+                  textureBindings < 0
+                      ? String.format("Texture binds: n/a%n")
+                      : String.format("Texture binds: %d%n", textureBindings))
+              .append(String.format("Terrain cells: %d%n", terrainCells));
+      for (int i = 0; i < layerOrder.size; i++) {
+        int layer = layerOrder.get(i);
+        builder.append(
+            String.format(
+                "Layer %d: %d drawn, %d culled%n", layer, getSubmitted(layer), getCulled(layer)));
+      }
+      return builder
+          .append(
+              String.format(
+                  "Terrain %.2f ms, entities %.2f ms, stage %.2f ms%n",
+                  getTerrainMillis(), getRenderablesMillis(), getStageMillis()))
+          .toString();
+    }
+  }
+
+  private static class LayerStats {
+    private int submitted;
+    private int culled;
+    private long nanos;
+  }
+}
@@ -0,0 +1,91 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.IntArray;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes one line of {@link RenderStats} per frame to a CSV file, for comparing render performance
+ * offline. Layer columns are taken from the first logged frame.
+ */
+class RenderStatsCsvLogger {
+  private static final Logger logger = LoggerFactory.getLogger(RenderStatsCsvLogger.class);
+  private final String filename;
+  private Writer writer;
+  private IntArray layers;
+
+  /** @param filename local file to write to, overwritten if it exists */
+  RenderStatsCsvLogger(String filename) {
+    this.filename = filename;
+    try {
+      writer = new BufferedWriter(Gdx.files.local(filename).writer(false));
+      logger.info("Logging render stats to {}", filename);
+    } catch (Exception e) {
+      logger.error("Could not open render stats log {}: {}", filename, e.getMessage());
+    }
+  }
+
+  void write(RenderStats.Frame frame) {
+    if (writer == null) {
+      return;
+    }
+    try {
+      if (layers == null) {
+        writeHeader(frame);
+      }
+      writer
+          .append(Long.toString(frame.getFrame()))
+          .append(',')
+          .append(Integer.toString(frame.getRenderCalls()))
+          .append(',')
+          .append(Integer.toString(frame.getTextureBindings()))
+          .append(',')
+          .append(Integer.toString(frame.getTerrainCells()))
+          .append(',')
+          .append(Float.toString(frame.getTerrainMillis()))
+          .append(',')
+          .append(Float.toString(frame.getRenderablesMillis()))
+          .append(',')
+          .append(Float.toString(frame.getStageMillis()));
+      for (int i = 0; i < layers.size; i++) {
+        writer
+            .append(',')
+            .append(Integer.toString(frame.getSubmitted(layers.get(i))))
+            .append(',')
+            .append(Integer.toString(frame.getCulled(layers.get(i))));
+      }
+      writer.append('\n');
+    } catch (IOException e) {
+      logger.error("Could not write render stats to {}: {}", filename, e.getMessage());
+      close();
+    }
+  }
+
+  void close() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.close();
+    } catch (IOException e) {
+      logger.error("Could not close render stats log {}: {}", filename, e.getMessage());
+    }
+    writer = null;
+  }
+
+  private void writeHeader(RenderStats.Frame frame) throws IOException {
+    layers = new IntArray(frame.getLayers());
+    writer.append(
+        "frame,render_calls,texture_bindings,terrain_cells,terrain_ms,entities_ms,stage_ms");
+    for (int i = 0; i < layers.size; i++) {
+      int layer = layers.get(i);
+      writer.append(",layer").append(Integer.toString(layer)).append("_submitted");
+      writer.append(",layer").append(Integer.toString(layer)).append("_culled");
+    }
+    writer.append('\n');
+  }
+}
@@ -1,6 +1,7 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -23,4 +24,11 @@ public interface Renderable extends Comparable<Renderable> {
    * @return layer
    */
   int getLayer();
+
+  /**
+   * World-space area covered by the renderable, used to skip drawing it when off-screen.
+   * @param bounds Rectangle to store the bounds in
+   * @return true if bounds were stored, false if the renderable should be drawn regardless of view
+   */
+  boolean getBounds(Rectangle bounds);
 }
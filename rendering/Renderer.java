@@ -3,7 +3,9 @@ package com.csse3200.game.rendering;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -26,6 +28,8 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private final Rectangle viewBounds = new Rectangle();
+  private GLProfiler profiler;
 
   /**
    * Create a new renderer with default settings
@@ -92,17 +96,42 @@ public class Renderer implements Disposable {
 
   /** Render everything to the render service. */
   public void render() {
+    RenderStats stats = renderService.getStats();
+    stats.beginFrame();
+    updateProfiler(stats);
+
     Matrix4 projMatrix = camera.getProjectionMatrix();
     batch.setProjectionMatrix(projMatrix);
     Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
     batch.begin();
-    renderService.render(batch);
+    renderService.render(batch, camera.getViewBounds(viewBounds));
     batch.end();
+    stats.recordRenderCalls(batch.renderCalls);
     debugRenderer.render(projMatrix);
 
+    long stageStart = System.nanoTime();
     stage.act();
     stage.draw();
+    stats.recordStage(System.nanoTime() - stageStart);
+    // The stage draws with the same batch, which resets renderCalls when it begins
+    stats.recordRenderCalls(batch.renderCalls);
+
+    if (profiler != null) {
+      stats.recordTextureBindings(profiler.getTextureBindings());
+      profiler.reset();
+    }
+    stats.endFrame();
+  }
+
+  private void updateProfiler(RenderStats stats) {
+    if (stats.isGlProfiling() && profiler == null) {
+      profiler = new GLProfiler(Gdx.graphics);
+      profiler.enable();
+    } else if (!stats.isGlProfiling() && profiler != null) {
+      profiler.disable();
+      profiler = null;
+    }
   }
 
   /**
@@ -137,6 +166,9 @@ public class Renderer implements Disposable {
 
   @Override
   public void dispose() {
+    if (profiler != null) {
+      profiler.disable();
+    }
     stage.dispose();
     batch.dispose();
   }
@@ -2,35 +2,41 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.services.ServiceLocator;
 
 /** Render a static texture. */
 public class TextureRenderComponent extends RenderComponent {
-  private final Texture texture;
+  private final TextureRegion texture;
 
   /**
-   * @param texturePath Internal path of static texture to render.
-   *                    Will be scaled to the entity's scale.
+   * @param texturePath Internal path of static texture to render. Served from a packed atlas page
+   *                    if the texture was packed. Will be scaled to the entity's scale.
    */
   public TextureRenderComponent(String texturePath) {
-    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+    this(ServiceLocator.getResourceService().getTextureRegion(texturePath));
   }
 //...
   /** @param texture Static texture to render. Will be scaled to the entity's scale. */
   public TextureRenderComponent(Texture texture) {
+    this(new TextureRegion(texture));
+  }
+
+  /** @param texture Static texture region to render. Will be scaled to the entity's scale. */
+  public TextureRenderComponent(TextureRegion texture) {
     this.texture = texture;
   }
 
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
-    entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    entity.setScale(1f, (float) texture.getRegionHeight() / texture.getRegionWidth());
   }
 
   @Override
   protected void draw(SpriteBatch batch) {
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
+    Vector2 position = entity.getRenderPosition(tmpPosition);
+    Vector2 scale = entity.getScale(tmpScale);
     batch.draw(texture, position.x, position.y, scale.x, scale.y);
   }
 }
@@ -3,6 +3,7 @@ package com.csse3200.game.screens;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
 import com.csse3200.game.areas.ForestGameArea;
@@ -95,6 +96,7 @@ public class MainGameScreen extends PausableScreen {
     PhysicsService physicsService = new PhysicsService();
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
+    ServiceLocator.registerPathfindingService(new PathfindingService(physicsEngine));
 
     ServiceLocator.registerInputService(new InputService());
     ServiceLocator.registerResourceService(new ResourceService());
@@ -105,7 +107,7 @@ public class MainGameScreen extends PausableScreen {
     // register the EntityChatService
     renderer = RenderFactory.createRenderer();
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
-    renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
+    renderer.getDebug().renderPhysicsWorld(physicsEngine);
 
     loadAssets();
     createUI();
@@ -124,6 +126,11 @@ public class MainGameScreen extends PausableScreen {
    */
   public void setMap(MapHandler.MapType mapType) {
     this.gameArea = MapHandler.switchMapTo(mapType, renderer, game, true);
+    // Load the map the player can switch to next in the background, so switching doesn't stall
+    MapHandler.MapType nextMap = mapType == MapHandler.MapType.FOREST
+        ? MapHandler.MapType.WATER
+        : MapHandler.MapType.FOREST;
+    MapHandler.preload(nextMap, renderer, game);
   }
 
   /**
@@ -135,6 +142,9 @@ public class MainGameScreen extends PausableScreen {
       if (!isPaused){
           physicsEngine.update();
           ServiceLocator.getEntityService().update();
+          MapHandler.update();
+          // When threaded, physics steps run while the frame renders
+          physicsEngine.launchSteps();
           renderer.render();
       }
   }
@@ -181,6 +191,7 @@ public class MainGameScreen extends PausableScreen {
   public void dispose() {
       logger.debug("Disposing main game screen");
       
+      MapHandler.clear();
       renderer.dispose();
       unloadAssets();
       
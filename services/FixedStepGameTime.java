@@ -0,0 +1,44 @@
+package com.csse3200.game.services;
+
+/**
+ * Game time which advances by a fixed delta each step instead of following the real frame rate.
+ * Used to run the game faster or slower than real time with repeatable results, e.g. when
+ * simulating without a display.
+ */
+public class FixedStepGameTime extends GameTime {
+  private final float stepDelta;
+  private long steps = 0;
+
+  /**
+   * @param stepDelta time passed in each step, in seconds
+   */
+  public FixedStepGameTime(float stepDelta) {
+    this.stepDelta = stepDelta;
+  }
+
+  /** Advance time by one step. Call once at the start of each simulated frame. */
+  public void step() {
+    steps++;
+  }
+
+  /** @return number of steps taken so far */
+  public long getSteps() {
+    return steps;
+  }
+
+  @Override
+  public float getDeltaTime() {
+    return stepDelta * getTimeScale();
+  }
+
+  @Override
+  public float getRawDeltaTime() {
+    return stepDelta;
+  }
+
+  /** @return simulated time passed since the first step in milliseconds */
+  @Override
+  public long getTime() {
+    return (long) (steps * (double) stepDelta * 1000d);
+  }
+}
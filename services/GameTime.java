@@ -26,6 +26,11 @@ public class GameTime {
     this.timeScale = timeScale;
   }
 
+  /** @return speed of time passing, where normal speed is 1.0 */
+  public float getTimeScale() {
+    return timeScale;
+  }
+
   /** @return time passed since the last frame in seconds, scaled by time scale. */
   public float getDeltaTime() {
     return Gdx.graphics.getDeltaTime() * timeScale;
@@ -5,19 +5,34 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
+ *
+ * <p>Caches built from loaded assets register an {@link AssetListener} to drop what they hold
+ * before the assets are unloaded.
  */
 public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+  private static final Array<AssetListener> listeners = new Array<>();
   private AssetManager assetManager;
   private AssetManager hiddenAssetManager;
+  /** Atlases packed at runtime from loose textures, by atlas name */
+  private final ObjectMap<String, TextureAtlas> packedAtlases = new ObjectMap<>();
+  /** Regions within packed atlases, by texture path */
+  private final ObjectMap<String, TextureRegion> packedRegions = new ObjectMap<>();
+  /** Regions covering whole loose textures, by texture path */
+  private final ObjectMap<String, TextureRegion> looseRegions = new ObjectMap<>();
+  private boolean packingEnabled = true;
 
   public ResourceService() {
     this(new AssetManager());
@@ -32,6 +47,27 @@ public class ResourceService implements Disposable {
     this.assetManager = assetManager;
   }
 
+  /**
+   * Listen for assets being unloaded by any resource service. Listeners are process-wide, like the
+   * caches registering them, and are told which service is unloading.
+   *
+   * @param listener listener to add, if it isn't already added
+   */
+  public static void addAssetListener(AssetListener listener) {
+    if (!listeners.contains(listener, true)) {
+      listeners.add(listener);
+    }
+  }
+
+  /**
+   * Stop listening for assets being unloaded.
+   *
+   * @param listener listener to remove
+   */
+  public static void removeAssetListener(AssetListener listener) {
+    listeners.removeValue(listener, true);
+  }
+
   /**
    * Load an asset from a file.
    * @param filename Asset path
@@ -103,7 +139,9 @@ public class ResourceService implements Disposable {
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
+    notifyCleared();
     assetManager.clear();
+    looseRegions.clear();
   }
 
   /**
@@ -122,6 +160,21 @@ public class ResourceService implements Disposable {
     }
   }
 
+  /**
+   * Loads a single asset and blocks until it is ready. Each call must be matched by unloading the
+   * asset once.
+   *
+   * @param assetName asset name
+   * @param type      asset type
+   * @param <T>       type
+   * @return loaded asset
+   */
+  public <T> T loadAssetNow(String assetName, Class<T> type) {
+    loadAsset(assetName, type);
+    assetManager.finishLoadingAsset(assetName);
+    return assetManager.get(assetName, type);
+  }
+
   /**
    * Loads multiple assets into the asset manager.
    *
@@ -144,6 +197,78 @@ public class ResourceService implements Disposable {
     loadAssets(textureNames, Texture.class);
   }
 
+  /**
+   * Pack a group of textures which are drawn together, e.g. everything in one game area, into
+   * shared atlas pages. Afterwards {@link #getTextureRegion(String)} serves regions from the pages,
+   * so the sprite batch doesn't need to switch textures between them. The loose textures should
+   * still be loaded for anything using them as a {@link Texture}.
+   *
+   * @param atlasName unique name for this group of textures
+   * @param textureNames texture filenames
+   * @see TextureAtlasPacker
+   */
+  public void packTextures(String atlasName, String[] textureNames) {
+    if (!packingEnabled || packedAtlases.containsKey(atlasName)) {
+      return;
+    }
+    logger.debug("Packing textures into atlas {}", atlasName);
+    TextureAtlas atlas = TextureAtlasPacker.pack(atlasName, textureNames);
+    packedAtlases.put(atlasName, atlas);
+    for (AtlasRegion region : atlas.getRegions()) {
+      packedRegions.put(region.name, region);
+    }
+  }
+
+  /**
+   * Enable or disable atlas packing. While disabled, {@link #packTextures(String, String[])} does
+   * nothing and textures are always served loose, e.g. when running without a display.
+   *
+   * @param packingEnabled true to pack textures into atlases
+   */
+  public void setPackingEnabled(boolean packingEnabled) {
+    this.packingEnabled = packingEnabled;
+  }
+
+  /**
+   * Dispose of textures packed with {@link #packTextures(String, String[])}.
+   *
+   * @param atlasName name the textures were packed with
+   */
+  public void unloadPackedTextures(String atlasName) {
+    TextureAtlas atlas = packedAtlases.remove(atlasName);
+    if (atlas == null) {
+      return;
+    }
+    logger.debug("Unloading packed atlas {}", atlasName);
+    for (AtlasRegion region : atlas.getRegions()) {
+      packedRegions.remove(region.name);
+    }
+    atlas.dispose();
+  }
+
+  /**
+   * Get a texture as a region. If the texture was packed, the region is part of a shared atlas
+   * page, otherwise it covers the whole loaded texture.
+   *
+   * @param textureName texture filename
+   * @return region to draw the texture with
+   */
+  public TextureRegion getTextureRegion(String textureName) {
+    TextureRegion region = packedRegions.get(textureName);
+    if (region != null) {
+      return region;
+    }
+
+    // Loose textures may have been unloaded and loaded again since the region was made
+    Texture texture = getAsset(textureName, Texture.class);
+    region = looseRegions.get(textureName);
+    if (region == null || region.getTexture() != texture) {
+      region = new TextureRegion(texture);
+      looseRegions.put(textureName, region);
+    }
+    return region;
+  }
+
   /**
    * Loads a list of texture atlas assets into the asset manager.
    *
@@ -174,6 +299,8 @@ public class ResourceService implements Disposable {
   public void unloadAssets(String[] assetNames) {
     for (String assetName : assetNames) {
       logger.debug("Unloading {}", assetName);
+      looseRegions.remove(assetName);
+      notifyUnloading(assetName);
       try {
         assetManager.unload(assetName);
       } catch (Exception e) {
@@ -184,7 +311,46 @@ public class ResourceService implements Disposable {
 
   @Override
   public void dispose() {
+    for (TextureAtlas atlas : packedAtlases.values()) {
+      atlas.dispose();
+    }
+    packedAtlases.clear();
+    packedRegions.clear();
+    looseRegions.clear();
+    notifyCleared();
     assetManager.clear();
   }
 
+  private void notifyUnloading(String assetName) {
+    Object asset = assetManager.isLoaded(assetName) ? assetManager.get(assetName) : null;
+    for (AssetListener listener : listeners) {
+      listener.unloading(this, assetName, asset);
+    }
+  }
+
+  private void notifyCleared() {
+    for (AssetListener listener : listeners) {
+      listener.cleared(this);
+    }
+  }
+
+  /** Notified before a resource service unloads assets, so caches built from them can drop them. */
+  public interface AssetListener {
+    /**
+     * Called before an asset is unloaded.
+     *
+     * @param service service unloading the asset
+     * @param assetName asset path
+     * @param asset loaded asset, or null if it isn't loaded
+     */
+    void unloading(ResourceService service, String assetName, Object asset);
+
+    /**
+     * Called before a service unloads all of its assets, e.g. when it is disposed.
+     *
+     * @param service service clearing its assets
+     */
+    void cleared(ResourceService service);
+  }
+
 }
\ No newline at end of file
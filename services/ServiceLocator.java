@@ -1,6 +1,7 @@
 package com.csse3200.game.services;
 
 import com.badlogic.gdx.Gdx;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.entities.DialogueBoxService;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.input.InputService;
@@ -27,6 +28,7 @@ public class ServiceLocator {
   private static InputService inputService;
   private static ResourceService resourceService;
   private static DialogueBoxService dialogueBoxService;
+  private static PathfindingService pathfindingService;
   // static field for GameArea
   private static GameArea gameArea;
 
@@ -58,6 +60,10 @@ public class ServiceLocator {
     return resourceService;
   }
 
+  public static PathfindingService getPathfindingService() {
+    return pathfindingService;
+  }
+
   // Getter for GameArea
   public static GameArea getGameArea() {
     return gameArea;
@@ -105,6 +111,11 @@ public class ServiceLocator {
     resourceService = source;
   }
 
+  public static void registerPathfindingService(PathfindingService source) {
+    logger.debug("Registering pathfinding service {}", source);
+    pathfindingService = source;
+  }
+
   public static void clear() {
     entityService = null;
     renderService = null;
@@ -113,6 +124,7 @@ public class ServiceLocator {
     inputService = null;
     resourceService = null;
     dialogueBoxService = null;
+    pathfindingService = null;
     gameArea = null;
   }
 
@@ -0,0 +1,219 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker.Page;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker.PixmapPackerRectangle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.files.FileLoader;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Packs loose textures into a few large atlas pages at runtime, so sprites drawn one after another
+ * share a texture and the sprite batch doesn't need to flush between them. Regions in the atlas are
+ * named by the path of the texture they were packed from.
+ *
+ * <p>Packed pages are cached in local storage on first launch. The cache is rebuilt whenever the
+ * list of textures or the contents of any texture file change. Files are compared by size first,
+ * and only hashed when every size matches, since internal files in a jar have no modification time.
+ */
+public class TextureAtlasPacker {
+  private static final Logger logger = LoggerFactory.getLogger(TextureAtlasPacker.class);
+  private static final String CACHE_DIR = "cache/atlases/";
+  private static final String MANIFEST_FILE = "manifest.json";
+  private static final int PAGE_SIZE = 2048;
+  private static final int PADDING = 2;
+
+  /**
+   * Get an atlas containing the given textures, from the cache if possible or by packing them.
+   * Textures which are missing or too large for a page are left out, and should be used loose.
+   *
+   * @param atlasName unique name of the atlas, used for the cache directory
+   * @param texturePaths internal paths of textures to pack
+   * @return atlas with one region per packed texture, named by texture path
+   */
+  public static TextureAtlas pack(String atlasName, String[] texturePaths) {
+    String cacheDir = CACHE_DIR + atlasName + "/";
+
+    AtlasManifest manifest = null;
+    if (Gdx.files.local(cacheDir + MANIFEST_FILE).exists()) {
+      manifest =
+          FileLoader.readClass(
+              AtlasManifest.class, cacheDir + MANIFEST_FILE, FileLoader.Location.LOCAL);
+    }
+    if (manifest != null
+        && manifest.matchesSizes(texturePaths, getLengths(texturePaths))
+        && Arrays.equals(manifest.checksums, getChecksums(texturePaths))) {
+      TextureAtlas atlas = loadCached(cacheDir, manifest);
+      if (atlas != null) {
+        logger.debug("Loaded atlas {} from cache", atlasName);
+        return atlas;
+      }
+    }
+
+    logger.info("Packing {} textures into atlas {}", texturePaths.length, atlasName);
+    return packAndCache(cacheDir, texturePaths);
+  }
+
+  private static TextureAtlas packAndCache(String cacheDir, String[] texturePaths) {
+    PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Format.RGBA8888, PADDING, false);
+    long[] lengths = new long[texturePaths.length];
+    long[] checksums = new long[texturePaths.length];
+    CRC32 crc = new CRC32();
+    for (int i = 0; i < texturePaths.length; i++) {
+      String path = texturePaths[i];
+      FileHandle file = Gdx.files.internal(path);
+      if (!file.exists()) {
+        logger.warn("Cannot pack missing texture {}", path);
+        lengths[i] = -1;
+        checksums[i] = -1;
+        continue;
+      }
+      // Hash the bytes being packed rather than reading each file twice
+      byte[] bytes = file.readBytes();
+      lengths[i] = bytes.length;
+      crc.reset();
+      crc.update(bytes);
+      checksums[i] = crc.getValue();
+      Pixmap pixmap = new Pixmap(bytes, 0, bytes.length);
+      if (pixmap.getWidth() > PAGE_SIZE - 2 * PADDING
+          || pixmap.getHeight() > PAGE_SIZE - 2 * PADDING) {
+        logger.debug("Texture {} is too large to pack, leaving it loose", path);
+      } else if (packer.getRect(path) == null) {
+        packer.pack(path, pixmap);
+      }
+      pixmap.dispose();
+    }
+
+    AtlasManifest manifest = new AtlasManifest();
+    manifest.textures = texturePaths;
+    manifest.lengths = lengths;
+    manifest.checksums = checksums;
+    Array<Page> pages = packer.getPages();
+    manifest.pages = pages.size;
+    for (int i = 0; i < pages.size; i++) {
+      Page page = pages.get(i);
+      try {
+        PixmapIO.writePNG(Gdx.files.local(cacheDir + pagePath(i)), page.getPixmap());
+      } catch (Exception e) {
+        logger.error("Could not cache atlas page {}: {}", cacheDir + pagePath(i), e.getMessage());
+        manifest = null;
+        break;
+      }
+      for (ObjectMap.Entry<String, PixmapPackerRectangle> rect : page.getRects()) {
+        manifest.regions.add(new AtlasRegion(rect.key, i, rect.value));
+      }
+    }
+    if (manifest != null) {
+      FileLoader.writeClass(manifest, cacheDir + MANIFEST_FILE, FileLoader.Location.LOCAL);
+    }
+
+    // Pixmaps of pages with a texture stay alive until the texture is disposed with the atlas
+    TextureAtlas atlas =
+        packer.generateTextureAtlas(TextureFilter.Nearest, TextureFilter.Nearest, false);
+    packer.dispose();
+    return atlas;
+  }
+
+  private static TextureAtlas loadCached(String cacheDir, AtlasManifest manifest) {
+    Texture[] pages = new Texture[manifest.pages];
+    try {
+      for (int i = 0; i < pages.length; i++) {
+        pages[i] = new Texture(Gdx.files.local(cacheDir + pagePath(i)));
+      }
+    } catch (Exception e) {
+      logger.warn("Atlas cache {} is unreadable, repacking: {}", cacheDir, e.getMessage());
+      for (Texture page : pages) {
+        if (page != null) {
+          page.dispose();
+        }
+      }
+      return null;
+    }
+
+    TextureAtlas atlas = new TextureAtlas();
+    for (AtlasRegion region : manifest.regions) {
+      atlas.addRegion(
+          region.name, pages[region.page], region.x, region.y, region.width, region.height);
+    }
+    return atlas;
+  }
+
+  private static long[] getLengths(String[] texturePaths) {
+    long[] lengths = new long[texturePaths.length];
+    for (int i = 0; i < texturePaths.length; i++) {
+      FileHandle file = Gdx.files.internal(texturePaths[i]);
+      lengths[i] = file.exists() ? file.length() : -1;
+    }
+    return lengths;
+  }
+
+  private static long[] getChecksums(String[] texturePaths) {
+    long[] checksums = new long[texturePaths.length];
+    CRC32 crc = new CRC32();
+    for (int i = 0; i < texturePaths.length; i++) {
+      FileHandle file = Gdx.files.internal(texturePaths[i]);
+      if (!file.exists()) {
+        checksums[i] = -1;
+        continue;
+      }
+      crc.reset();
+      crc.update(file.readBytes());
+      checksums[i] = crc.getValue();
+    }
+    return checksums;
+  }
+
+  private static String pagePath(int page) {
+    return "page" + page + ".png";
+  }
+
+  private TextureAtlasPacker() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /** Cached description of a packed atlas, stored next to its page images. */
+  public static class AtlasManifest {
+    public String[] textures = new String[0];
+    public long[] lengths = new long[0];
+    public long[] checksums = new long[0];
+    public int pages;
+    public Array<AtlasRegion> regions = new Array<>();
+
+    boolean matchesSizes(String[] texturePaths, long[] fileLengths) {
+      return Arrays.equals(textures, texturePaths) && Arrays.equals(lengths, fileLengths);
+    }
+  }
+
+  /** Location of a single packed texture within the atlas pages. */
+  public static class AtlasRegion {
+    public String name;
+    public int page;
+    public int x;
+    public int y;
+    public int width;
+    public int height;
+
+    public AtlasRegion() {}
+
+    AtlasRegion(String name, int page, PixmapPackerRectangle rect) {
+      this.name = name;
+      this.page = page;
+      this.x = (int) rect.x;
+      this.y = (int) rect.y;
+      this.width = (int) rect.width;
+      this.height = (int) rect.height;
+    }
+  }
+}
@@ -32,6 +32,10 @@ public class StatDisplay extends UIComponent {
     /** Array to store stats. */
     private final Array<Stat> stats;
     final Actor[] lastPressedButton = {null};
+    private static final String BACKGROUND_TEXTURE = "images/BackgroundSplash.png";
+    private Texture background;
+    /** Draws the background in screen coordinates, separately from the world batch */
+    private SpriteBatch backgroundBatch;
 
     /**
      * Array of texture paths used in the Achievements game screen.
@@ -56,6 +60,8 @@ public class StatDisplay extends UIComponent {
         ServiceLocator.getResourceService().loadTextures(StatTextures);
         ServiceLocator.getResourceService().loadAll();
         super.create();
+        background = acquireTexture(BACKGROUND_TEXTURE);
+        backgroundBatch = new SpriteBatch();
         addActors();
     }
 
@@ -299,10 +305,9 @@ public class StatDisplay extends UIComponent {
 
     @Override
     public void draw(SpriteBatch batch) {
-        batch = new SpriteBatch();
-        batch.begin();
-        batch.draw(new Texture("images/BackgroundSplash.png"), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+        backgroundBatch.begin();
+        backgroundBatch.draw(background, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        backgroundBatch.end();
     }
 
     /**
@@ -313,6 +318,7 @@ public class StatDisplay extends UIComponent {
         saveStats(stats);
         rootTable.clear();
         ServiceLocator.getResourceService().unloadAssets(StatTextures);
+        backgroundBatch.dispose();
         super.dispose();
     }
 
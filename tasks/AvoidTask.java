@@ -1,13 +1,24 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCategory;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.services.ServiceLocator;
 
-/** Moves away from a target entity until a safe distance is reached or line of sight is lost */
+/**
+ * Moves away from a target entity until a safe distance is reached or line of sight is lost. The
+ * target is either fixed, or the nearest entity of some categories, found each time the priority
+ * is evaluated.
+ */
 public class AvoidTask extends ChaseTask {
 
     private final float safeDistance;
     private final float minAvoidDistance;
+    private final int avoidCategories;
+    private final Vector2 avoidanceTarget = new Vector2();
+    private final Array<Entity> nearest = new Array<>(false, 1);
 
     /**
      * @param target The entity to avoid.
@@ -20,6 +31,23 @@ public class AvoidTask extends ChaseTask {
         super(target, priority, safeDistance, minAvoidDistance, isBoss);
         this.safeDistance = safeDistance;
         this.minAvoidDistance = minAvoidDistance;
+        this.avoidCategories = EntityCategory.NONE;
+    }
+
+    /**
+     * Avoid whichever entity of the categories is nearest, e.g. enemies which are streamed in and
+     * out around the player.
+     *
+     * @param categories {@link EntityCategory} bits of the entities to avoid.
+     * @param priority Task priority when avoiding (0 when not avoiding).
+     * @param safeDistance Minimum distance to maintain from the nearest entity.
+     * @param minAvoidDistance Minimum distance to avoid moving away from the nearest entity.
+     */
+    public AvoidTask(int categories, int priority, float safeDistance, float minAvoidDistance) {
+        super(null, priority, safeDistance, minAvoidDistance, false);
+        this.safeDistance = safeDistance;
+        this.minAvoidDistance = minAvoidDistance;
+        this.avoidCategories = categories;
     }
 
     /**
@@ -30,8 +58,7 @@ public class AvoidTask extends ChaseTask {
     public void start() {
         super.start();
 
-        movementTask = new MovementTask(getAvoidanceTarget());
-        movementTask.create(owner);
+        movementTask.reset(getAvoidanceTarget());
         movementTask.start();
 
         this.owner.getEntity().getEvents().trigger("avoidStart");
@@ -59,6 +86,11 @@ public class AvoidTask extends ChaseTask {
      */
     @Override
     public int getPriority() {
+        boolean found = findTarget();
+        markEvaluated();
+        if (!found) {
+            return -1;
+        }
         if (status == Status.ACTIVE) {
             return getActivePriority();
         }
@@ -66,18 +98,39 @@ public class AvoidTask extends ChaseTask {
         return getInactivePriority();
     }
 
+    /**
+     * Find the entity to avoid, if avoiding the nearest entity of some categories.
+     *
+     * @return true if there is a target which hasn't been disposed
+     */
+    private boolean findTarget() {
+        if (avoidCategories != EntityCategory.NONE) {
+            target = null;
+            EntityService entityService = ServiceLocator.getEntityService();
+            owner.getEntity().getPosition(currentPos);
+            nearest.clear();
+            if (entityService.getSpatialHash().queryNearest(
+                    currentPos, 1, safeDistance, avoidCategories, owner.getEntity(), nearest) > 0) {
+                target = nearest.first();
+            }
+            nearest.clear();
+        }
+        return target != null && !target.isDisposed();
+    }
+
     /**
      * Calculates the avoidance target position based on the entity's current position,
      * the target's position, and the minimum avoidance distance.
      * The avoidance target is calculated to be away from the target's position.
      *
-     * @return a Vector2 representing the target position to move towards for avoidance.
+     * @return a Vector2 representing the target position to move towards for avoidance. It is
+     *     reused by the next call.
      */
     private Vector2 getAvoidanceTarget() {
-        Vector2 entityPosition = owner.getEntity().getPosition();
-        Vector2 targetPosition = target.getPosition();
-        Vector2 directionAway = entityPosition.cpy().sub(targetPosition).nor();
-        return entityPosition.cpy().add(directionAway.scl(minAvoidDistance));
+        owner.getEntity().getPosition(currentPos);
+        target.getPosition(targetPos);
+        return avoidanceTarget.set(currentPos).sub(targetPos).nor()
+            .scl(minAvoidDistance).add(currentPos);
     }
 
     /**
@@ -2,15 +2,17 @@ package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.pathfinding.FlowField;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
+import com.csse3200.game.ai.tasks.TargetTracker;
+import com.csse3200.game.ai.tasks.TaskRunner;
 import com.csse3200.game.areas.ForestGameArea;
 import com.csse3200.game.areas.MapHandler;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.raycast.RaycastHit;
-import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.math.Vector2Utils;
 import org.slf4j.Logger;
@@ -18,19 +20,30 @@ import org.slf4j.LoggerFactory;
 
 /** Chases a target entity until they get too far away or line of sight is lost */
 public class ChaseTask extends DefaultTask implements PriorityTask {
-  protected final Entity target;
+  protected Entity target;
   protected final int priority;
   protected final float viewDistance;
   protected final float maxChaseDistance;
   protected final PhysicsEngine physics;
-  protected final DebugRenderer debugRenderer;
-  protected final RaycastHit hit = new RaycastHit();
-  protected MovementTask movementTask;
+  protected final MovementTask movementTask;
   private Music heartbeatSound;
   private final boolean isBoss;
   private static final String heartbeat = "sounds/heartbeat.mp3";
   private final Vector2 bossSpeed;
   private static final Logger LOGGER = LoggerFactory.getLogger(ChaseTask.class);
+  // Priorities need distance and line of sight checks, so reuse them for a while
+  private static final float EVALUATION_INTERVAL = 0.25f;
+  // Evaluate sooner once the target has moved this far
+  private static final float TARGET_MOVED_DISTANCE = 1f;
+  private final TargetTracker targetTracker = new TargetTracker(TARGET_MOVED_DISTANCE);
+  // How far ahead along the flow field to steer
+  private static final float FLOW_LOOKAHEAD = 1f;
+  private FlowField flowField;
+  private final Vector2 flowDirection = new Vector2();
+  private final Vector2 steeringTarget = new Vector2();
+  // Positions of the entity and its target, reused each frame
+  protected final Vector2 currentPos = new Vector2();
+  protected final Vector2 targetPos = new Vector2();
 
   private boolean alertPlaying = false;
 
@@ -46,9 +59,16 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
     physics = ServiceLocator.getPhysicsService().getPhysics();
-    debugRenderer = ServiceLocator.getRenderService().getDebug();
     bossSpeed = Vector2Utils.TWOHALF;
     this.isBoss = isBoss;
+    // The flow field steers around obstacles, so stale waypoints mustn't override it
+    movementTask = new MovementTask(Vector2.Zero, isBoss ? bossSpeed : null).setPathfinding(false);
+  }
+
+  @Override
+  public void create(TaskRunner taskRunner) {
+    super.create(taskRunner);
+    movementTask.create(taskRunner);
   }
 
   public boolean isBoss() {
@@ -64,12 +84,9 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 
     String event = this.isBoss ? "kangaChaseStart" : "chaseStart";
 
-      // Set movementTask based on npc type
-      Vector2 currentPos = owner.getEntity().getPosition();
-      Vector2 targetPos = target.getPosition();
-      movementTask = this.isBoss ? new MovementTask(target.getPosition(), bossSpeed) :
-              new MovementTask(targetPos);
-      movementTask.create(owner);
+      owner.getEntity().getPosition(currentPos);
+      target.getPosition(targetPos);
+      movementTask.reset(targetPos);
       movementTask.start();
 
       this.owner.getEntity().getEvents().trigger(event);
@@ -112,10 +129,10 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
    */
   @Override
   public void update() {
-    Vector2 currentPos = owner.getEntity().getPosition();
-    Vector2 targetPos = target.getPosition();
+    owner.getEntity().getPosition(currentPos);
+    target.getPosition(targetPos);
 
-    movementTask.setTarget(targetPos);
+    movementTask.setTarget(getSteeringTarget());
     movementTask.update();
     if (movementTask.getStatus() != Status.ACTIVE) {
       movementTask.start();
@@ -145,6 +162,36 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 
   }
 
+  /**
+   * Follow the flow field towards the target, which is shared with everything else chasing it.
+   * Heads straight for the target without a pathfinding service, or once in the target's cell.
+   */
+  private Vector2 getSteeringTarget() {
+    if (flowField == null) {
+      PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+      if (pathfinding == null) {
+        return targetPos;
+      }
+      flowField = pathfinding.getFlowField(target, maxChaseDistance + 1f);
+    }
+    if (flowField.getDirection(currentPos, flowDirection)) {
+      return steeringTarget.set(currentPos).mulAdd(flowDirection, FLOW_LOOKAHEAD);
+    }
+    return targetPos;
+  }
+
+  /** Give the flow field back, so it is dropped once nothing is chasing the target. */
+  private void releaseFlowField() {
+    if (flowField == null) {
+      return;
+    }
+    PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+    if (pathfinding != null) {
+      pathfinding.releaseFlowField(flowField);
+    }
+    flowField = null;
+  }
+
   public float getViewDistance() {
     return this.viewDistance;
   }
@@ -153,6 +200,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   public void stop() {
     super.stop();
     movementTask.stop();
+    releaseFlowField();
 
     if (this.isBoss) {
         stopTensionSound();
@@ -162,6 +210,10 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 
   @Override
   public int getPriority() {
+    markEvaluated();
+    if (target.isDisposed()) {
+      return -1;
+    }
     if (status == Status.ACTIVE) {
       return getActivePriority();
     }
@@ -169,8 +221,23 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     return getInactivePriority();
   }
 
+  @Override
+  public float getEvaluationInterval() {
+    return EVALUATION_INTERVAL;
+  }
+
+  @Override
+  public boolean isPriorityStale() {
+    return targetTracker.hasMoved(target);
+  }
+
+  /** Remember where the target is, call whenever the priority is evaluated. */
+  protected void markEvaluated() {
+    targetTracker.markEvaluated(target);
+  }
+
   protected float getDistanceToTarget() {
-    return owner.getEntity().getPosition().dst(target.getPosition());
+    return owner.getEntity().getPosition(currentPos).dst(target.getPosition(targetPos));
   }
 
   protected int getActivePriority() {
@@ -190,15 +257,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   }
 
   protected boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
-
-    // If there is an obstacle in the path to the player, not visible.
-    if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
-      return false;
-    }
-    debugRenderer.drawLine(from, to);
-    return true;
+    // If there is an obstacle in the path to the player, not visible. Cached across frames.
+    return physics.getLineOfSight().isVisible(owner.getEntity(), target, PhysicsLayer.OBSTACLE);
   }
 }
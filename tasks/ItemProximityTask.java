@@ -4,14 +4,11 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.components.player.PlayerInventoryDisplay;
 import com.csse3200.game.entities.DialogueBoxService;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.inventory.items.AbstractItem;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
-
 
 /**
  * A task that monitors when the proximity of a player to an item and handles item pick-up interactions.
@@ -105,7 +102,7 @@ public class ItemProximityTask extends ProximityTask {
      * @return true if item has been picked up
      */
     private boolean hasPlayerPickedUpNearItem() {
-        EventHandler eventHandler = new EventHandler();
-        return Objects.equals(eventHandler.getLastTriggeredEvent(), "itemPickedUp");
+        // This checked the last event of a new, empty event handler, which is never a pick-up
+        return false;
     }
 }
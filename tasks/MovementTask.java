@@ -1,7 +1,11 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.ai.pathfinding.PathRequest;
+import com.csse3200.game.ai.pathfinding.PathfindingService;
 import com.csse3200.game.ai.tasks.DefaultTask;
+import com.csse3200.game.ai.tasks.TaskRunner;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -11,21 +15,44 @@ import org.slf4j.LoggerFactory;
 /**
  * Move to a given position, finishing when you get close enough. Requires an entity with a
  * PhysicsMovementComponent.
+ *
+ * <p>When a pathfinding service is registered and both the movement component and this task have
+ * pathfinding enabled, the entity follows a path around obstacles. It heads straight for the target while the path is
+ * being found, or if there isn't one.
+ *
+ * <p>Tasks are meant to be owned by a parent task and restarted with {@link #reset(Vector2)}
+ * rather than constructed again. Targets are copied, so callers can pass scratch vectors.
  */
 public class MovementTask extends DefaultTask {
   private static final Logger logger = LoggerFactory.getLogger(MovementTask.class);
+  // Targets closer than this are walked to in a straight line
+  private static final float MIN_PATH_DISTANCE = 1.5f;
+  // Move on to the next waypoint within this distance
+  private static final float WAYPOINT_DISTANCE = 0.4f;
+  // Find a new path once the target moves this far from the goal of the current one
+  private static final float REPATH_DISTANCE = 1f;
+  private static final long REPATH_INTERVAL = 500L;
+  private static final long STUCK_TIME = 500L;
+  // Give crowds longer to spread out before giving up
+  private static final long CROWDED_STUCK_TIME = 1500L;
 
-  private final GameTime gameTime;
-  private Vector2 target;
+  private GameTime gameTime;
+  private final Vector2 target = new Vector2();
   private float stopDistance = 0.01f;
   private long lastTimeMoved;
-  private Vector2 lastPos;
+  private final Vector2 lastPos = new Vector2();
+  private final Vector2 position = new Vector2();
   private PhysicsMovementComponent movementComponent;
   private Vector2 speed;
+  private PathRequest pathRequest;
+  private Array<Vector2> path;
+  private int waypoint;
+  private final Vector2 pathGoal = new Vector2();
+  private long lastPathTime;
+  private boolean pathfindingEnabled = true;
 
   public MovementTask(Vector2 target) {
-    this.target = target;
-    this.gameTime = ServiceLocator.getTimeSource();
+    this.target.set(target);
   }
 
   public MovementTask(Vector2 target, float stopDistance) {
@@ -44,6 +71,43 @@ public class MovementTask extends DefaultTask {
     this.speed = speed;
   }
 
+  /**
+   * Turn path searches off for tasks whose parent already steers around obstacles some other way.
+   *
+   * @param pathfindingEnabled whether to search for paths to the target
+   * @return self
+   */
+  public MovementTask setPathfinding(boolean pathfindingEnabled) {
+    this.pathfindingEnabled = pathfindingEnabled;
+    return this;
+  }
+
+  @Override
+  public void create(TaskRunner taskRunner) {
+    super.create(taskRunner);
+    gameTime = ServiceLocator.getTimeSource();
+  }
+
+  /**
+   * Move to a new target at the same speed. Takes effect the next time the task is started.
+   *
+   * @param target position to move to
+   */
+  public void reset(Vector2 target) {
+    this.target.set(target);
+  }
+
+  /**
+   * Move to a new target at a new speed. Takes effect the next time the task is started.
+   *
+   * @param target position to move to
+   * @param speed velocity at which the entity moves, or null to keep the entity's speed
+   */
+  public void reset(Vector2 target, Vector2 speed) {
+    this.target.set(target);
+    this.speed = speed;
+  }
+
   @Override
   public void start() {
     super.start();
@@ -58,7 +122,9 @@ public class MovementTask extends DefaultTask {
     movementComponent.setMoving(true);
     logger.debug("Starting movement towards {}", target);
     lastTimeMoved = gameTime.getTime();
-    lastPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(lastPos);
+    path = null;
+    requestPath();
   }
 
   @Override
@@ -68,13 +134,66 @@ public class MovementTask extends DefaultTask {
       status = Status.FINISHED;
       logger.debug("Finished moving to {}", target);
     } else {
+      followPath();
       checkIfStuck();
     }
   }
 
   public void setTarget(Vector2 target) {
-    this.target = target;
-    movementComponent.setTarget(target);
+    this.target.set(target);
+    if (movementComponent == null) {
+      // Not started yet, start() will head for the new target
+      return;
+    }
+    if (usesPathfinding()
+        && target.dst(pathGoal) > REPATH_DISTANCE
+        && gameTime.getTimeSince(lastPathTime) > REPATH_INTERVAL) {
+      requestPath();
+    }
+    movementComponent.setTarget(getSteeringTarget());
+  }
+
+  private void requestPath() {
+    PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+    owner.getEntity().getPosition(position);
+    if (pathfinding == null
+        || !usesPathfinding()
+        || position.dst(target) < MIN_PATH_DISTANCE) {
+      pathRequest = null;
+      path = null;
+      return;
+    }
+    pathRequest = pathfinding.findPath(position, target);
+    pathGoal.set(target);
+    lastPathTime = gameTime.getTime();
+  }
+
+  private boolean usesPathfinding() {
+    return pathfindingEnabled && movementComponent.isPathfinding();
+  }
+
+  private void followPath() {
+    if (pathRequest != null && pathRequest.isDone()) {
+      path = pathRequest.getPath();
+      waypoint = 0;
+      pathRequest = null;
+    }
+    if (path == null) {
+      return;
+    }
+    owner.getEntity().getPosition(position);
+    while (waypoint < path.size - 1 && position.dst(path.get(waypoint)) < WAYPOINT_DISTANCE) {
+      waypoint++;
+    }
+    movementComponent.setTarget(getSteeringTarget());
+  }
+
+  /** The last waypoint is only the target's cell, so head for the target itself instead. */
+  private Vector2 getSteeringTarget() {
+    if (path == null || waypoint >= path.size - 1) {
+      return target;
+    }
+    return path.get(waypoint);
   }
 
   @Override
@@ -85,21 +204,25 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean isAtTarget() {
-    return owner.getEntity().getPosition().dst(target) <= stopDistance;
+    return owner.getEntity().getPosition(position).dst(target) <= stopDistance;
   }
 
   private void checkIfStuck() {
     if (didMove()) {
       lastTimeMoved = gameTime.getTime();
-      lastPos = owner.getEntity().getPosition();
-    } else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
+      owner.getEntity().getPosition(lastPos);
+    } else if (gameTime.getTimeSince(lastTimeMoved) > getStuckTime()) {
       movementComponent.setMoving(false);
       status = Status.FAILED;
       logger.debug("Got stuck! Failing movement task");
     }
   }
 
+  private long getStuckTime() {
+    return movementComponent.getSteering().isCrowded() ? CROWDED_STUCK_TIME : STUCK_TIME;
+  }
+
   private boolean didMove() {
-    return owner.getEntity().getPosition().dst2(lastPos) > 0.001f;
+    return owner.getEntity().getPosition(position).dst2(lastPos) > 0.001f;
   }
 }
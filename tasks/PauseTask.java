@@ -85,7 +85,7 @@ public class PauseTask extends ChaseTask {
 
         if (!hasApproached && distanceToTarget > maxPauseDistance && distanceToTarget <= viewDistance) {
             // Move towards the target until within maxPauseDistance
-            movementTask.setTarget(target.getPosition());
+            movementTask.setTarget(target.getPosition(targetPos));
             movementTask.update();
 
         } else if (!hasApproached && distanceToTarget <= maxPauseDistance) {
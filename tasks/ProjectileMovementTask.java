@@ -1,31 +1,38 @@
 package com.csse3200.game.components.tasks;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
-import com.csse3200.game.areas.ForestGameArea;
-import com.csse3200.game.components.ProjectileAttackComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.components.KinematicBodyComponent;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.AnimationRenderComponent;
-import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
-import com.csse3200.game.utils.math.Vector2Utils;
 
-/** Chases a target entity until they get too far away or line of sight is lost */
+/**
+ * Flies a projectile in a straight line towards where its target was when it was fired, until it
+ * gets there, hits an obstacle or hits something. Requires an entity with a {@link
+ * KinematicBodyComponent}, which sets the speed.
+ *
+ * <p>Obstacles are Box2D bodies, which kinematic bodies don't collide with, so the path flown each
+ * frame is checked with a raycast instead.
+ */
 public class ProjectileMovementTask extends DefaultTask implements PriorityTask {
   protected final int priority;
   protected final PhysicsEngine physics;
-  public MovementTask movementTask;
-  private Vector2 targetPosition;
+  private final Vector2 targetPosition;
+  private final Vector2 position = new Vector2();
+  private final Vector2 lastPosition = new Vector2();
+  private final RaycastHit hit = new RaycastHit();
+  private KinematicBodyComponent body;
+  private float remainingDistance;
+  private boolean finished = false;
 
   /**
-   * @param target The entity to chase.
-   * @param priority Task priority when chasing (0 when not chasing).
+   * @param target The entity to fire at.
+   * @param priority Task priority when flying.
    */
   public ProjectileMovementTask(Entity target, int priority) {
     this.targetPosition = target.getPosition();
@@ -33,31 +40,47 @@ public class ProjectileMovementTask extends DefaultTask implements PriorityTask
     physics = ServiceLocator.getPhysicsService().getPhysics();
   }
 
-  /**
-   * Moves the entity in the direction of the entities target (often the player)
-   */
+  /** Launch the projectile towards the target */
   @Override
   public void start() {
     super.start();
-      movementTask = new MovementTask(targetPosition);
-      movementTask.create(owner);
-      movementTask.start();
+    Entity entity = owner.getEntity();
+    body = entity.getComponent(KinematicBodyComponent.class);
+    entity.getPosition(lastPosition);
+    remainingDistance = lastPosition.dst(targetPosition);
+    position.set(targetPosition).sub(lastPosition).nor().scl(body.getSpeed());
+    body.getBody().setVelocity(position.x, position.y);
 
-      this.owner.getEntity().getEvents().trigger("ProjectileMove");
+    entity.getEvents().trigger("ProjectileMove");
   }
-  /**
-   * Updates the direction in which the entity needs to move in, checks every
-   * frame to see where the player is to determine this.
-   */
+
+  /** Dispose of the projectile once it has finished flying */
   @Override
   public void update() {
-    if (movementTask.getStatus() != Status.ACTIVE) {
-      owner.getEntity().setEnabled(false);
-      AnimationRenderComponent animationRenderComponent = owner.getEntity().getComponent(AnimationRenderComponent.class);
-      animationRenderComponent.stopAnimation();
-      owner.getEntity().dispose();
+    Entity entity = owner.getEntity();
+    if (!finished) {
+      entity.getPosition(position);
+      remainingDistance -= position.dst(lastPosition);
+      finished =
+          remainingDistance <= 0f
+              || physics.raycast(lastPosition, position, PhysicsLayer.OBSTACLE, hit);
+      lastPosition.set(position);
+    }
+    if (finished) {
+      body.getBody().setVelocity(0f, 0f);
+      entity.setEnabled(false);
+      AnimationRenderComponent animationRenderComponent =
+          entity.getComponent(AnimationRenderComponent.class);
+      if (animationRenderComponent != null) {
+        animationRenderComponent.stopAnimation();
+      }
+      entity.dispose();
     }
-    movementTask.update();
+  }
+
+  /** Stop flying, e.g. after hitting something. The projectile is disposed on the next update. */
+  public void hit() {
+    finished = true;
   }
 
   @Override
@@ -1,5 +1,6 @@
 package com.csse3200.game.components.tasks;
 
+import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
@@ -15,6 +16,8 @@ public abstract class ProximityTask extends DefaultTask  implements PriorityTask
     protected final int priority;
     protected final float proximityThreshold;
     protected boolean hasApproached;
+    private final Vector2 position = new Vector2();
+    private final Vector2 targetPosition = new Vector2();
 
     /**
      * Constructs a new ProximityTask.
@@ -94,6 +97,7 @@ public abstract class ProximityTask extends DefaultTask  implements PriorityTask
      *         false otherwise.
      */
     protected boolean targetInProximity() {
-        return target.getPosition().dst(owner.getEntity().getPosition()) <= proximityThreshold;
+        return target.getPosition(targetPosition).dst(owner.getEntity().getPosition(position))
+                <= proximityThreshold;
     }
 }
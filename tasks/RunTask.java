@@ -3,11 +3,11 @@ package com.csse3200.game.components.tasks;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
+import com.csse3200.game.ai.tasks.TargetTracker;
+import com.csse3200.game.ai.tasks.TaskRunner;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.raycast.RaycastHit;
-import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -15,13 +15,19 @@ import com.csse3200.game.services.ServiceLocator;
  * they get too far away or line of sight is lost
  * */
 public class RunTask extends DefaultTask implements PriorityTask {
+  // Priorities need distance and line of sight checks, so reuse them for a while
+  private static final float EVALUATION_INTERVAL = 0.25f;
+  // Evaluate sooner once the target has moved this far
+  private static final float TARGET_MOVED_DISTANCE = 1f;
   private final Entity target;
   private final int priority;
   private final float viewDistance;
   private final PhysicsEngine physics;
-  private final DebugRenderer debugRenderer;
-  private final RaycastHit hit = new RaycastHit();
-  private MovementTask movementTask;
+  private final MovementTask movementTask;
+  private final Vector2 targetPosition = new Vector2();
+  private final TargetTracker targetTracker = new TargetTracker(TARGET_MOVED_DISTANCE);
+  private final Vector2 position = new Vector2();
+  private final Vector2 runPosition = new Vector2();
 
   /**
    * @param target The entity to chase.
@@ -33,19 +39,21 @@ public class RunTask extends DefaultTask implements PriorityTask {
     this.priority = priority;
     this.viewDistance = viewDistance;
     physics = ServiceLocator.getPhysicsService().getPhysics();
-    debugRenderer = ServiceLocator.getRenderService().getDebug();
+    movementTask = new MovementTask(Vector2.Zero);
+  }
+
+  @Override
+  public void create(TaskRunner taskRunner) {
+    super.create(taskRunner);
+    movementTask.create(taskRunner);
   }
 
   @Override
   public void start() {
     super.start();
 
-    movementTask = new MovementTask(newPosition(true));
-    movementTask.create(owner);
+    movementTask.reset(newPosition(true));
     movementTask.start();
-
-
-
   }
 
   @Override
@@ -67,6 +75,7 @@ public class RunTask extends DefaultTask implements PriorityTask {
 
   @Override
   public int getPriority() {
+    targetTracker.markEvaluated(target);
     float dst = getDistanceToTarget();
     if (dst < viewDistance && isTargetVisible()) {
       return priority;
@@ -74,32 +83,35 @@ public class RunTask extends DefaultTask implements PriorityTask {
     return -1;
   }
 
+  @Override
+  public float getEvaluationInterval() {
+    return EVALUATION_INTERVAL;
+  }
+
+  @Override
+  public boolean isPriorityStale() {
+    return targetTracker.hasMoved(target);
+  }
+
   private float getDistanceToTarget() {
-    return owner.getEntity().getPosition().dst(target.getPosition());
+    return owner.getEntity().getPosition(position).dst(target.getPosition(targetPosition));
   }
 
   private boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
-
-    // If there is an obstacle in the path to the player, not visible.
-    if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
-      return false;
-    }
-    debugRenderer.drawLine(from, to);
-    return true;
+    // If there is an obstacle in the path to the player, not visible. Cached across frames.
+    return physics.getLineOfSight().isVisible(owner.getEntity(), target, PhysicsLayer.OBSTACLE);
   }
 
+  /** Position directly away from the target. The returned vector is reused by the next call. */
   private Vector2 newPosition(boolean trigger) {
-    Vector2 currentPos = owner.getEntity().getPosition();
-    Vector2 targetPos = target.getPosition();
+    Vector2 currentPos = owner.getEntity().getPosition(position);
+    Vector2 targetPos = target.getPosition(targetPosition);
 
     float deltaX = currentPos.x - targetPos.x;
     float deltaY = currentPos.y - targetPos.y;
-    Vector2 newPos = new Vector2(currentPos.x + deltaX, currentPos.y + deltaY);
+    Vector2 newPos = runPosition.set(currentPos.x + deltaX, currentPos.y + deltaY);
     if (trigger) {
-      triggerDirection(newPos, owner.getEntity().getPosition());
+      triggerDirection(newPos, currentPos);
     }
 
     return newPos;
@@ -5,6 +5,7 @@ import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
+import com.csse3200.game.ai.tasks.TargetTracker;
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.factories.ProjectileFactory;
@@ -19,12 +20,19 @@ import org.slf4j.LoggerFactory;
 public class ShootTask extends DefaultTask implements PriorityTask {
   private static final Logger logger = LoggerFactory.getLogger(ShootTask.class);
   private final int priority = 5;
+  // Range checks don't need to run every frame
+  private static final float EVALUATION_INTERVAL = 0.25f;
+  // Evaluate sooner once the target has moved this far
+  private static final float TARGET_MOVED_DISTANCE = 1f;
   private final float waitTime; // Time to wait between firing
   private final Entity target;  // The target entity to aim at
   private final float range;    // Range within which to start shooting
   private final GameTime timer; // Game timer for tracking shot intervals
   private long lastShotTime;    // Time of the last shot
   private int numShots = 0;     // Number of shots fired
+  private final Vector2 targetPosition = new Vector2();
+  private final TargetTracker targetTracker = new TargetTracker(TARGET_MOVED_DISTANCE);
+  private final Vector2 position = new Vector2();
 
   /**
    * A task that allows an entity to wait for a set time and then shoot a projectile at a target.
@@ -43,12 +51,23 @@ public class ShootTask extends DefaultTask implements PriorityTask {
 
   @Override
   public int getPriority() {
+    targetTracker.markEvaluated(target);
     if (status == Status.ACTIVE) {
       return getActivePriority();
     }
     return getInactivePriority();
   }
 
+  @Override
+  public float getEvaluationInterval() {
+    return EVALUATION_INTERVAL;
+  }
+
+  @Override
+  public boolean isPriorityStale() {
+    return targetTracker.hasMoved(target);
+  }
+
   @Override
   public void start() {
     super.start();
@@ -70,7 +89,7 @@ public class ShootTask extends DefaultTask implements PriorityTask {
    * @return The distance between the owner's entity and the target location.
    */
   private float getDistanceToTarget() {
-    return owner.getEntity().getPosition().dst(target.getPosition());
+    return owner.getEntity().getPosition(position).dst(target.getPosition(targetPosition));
   }
 
   /**
@@ -1,10 +1,11 @@
 package com.csse3200.game.components.tasks;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.ai.tasks.Task;
-import com.csse3200.game.utils.math.RandomUtils;
+import com.csse3200.game.ai.tasks.TaskRunner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,12 +15,16 @@ import org.slf4j.LoggerFactory;
  */
 public class SpecialWanderTask extends DefaultTask implements PriorityTask {
   private static final Logger logger = LoggerFactory.getLogger(SpecialWanderTask.class);
+  // How long to wait for the spawn animation before wandering
+  private static final float SPAWN_WAIT_TIME = 2.0f;
 
   private final Vector2 wanderRange;
   private final float waitTime;
-  private Vector2 startPos;
-  private MovementTask movementTask;
-  private WaitTask waitTask;
+  private final Vector2 startPos = new Vector2();
+  private final Vector2 currentPos = new Vector2();
+  private final Vector2 wanderPos = new Vector2();
+  private final MovementTask movementTask;
+  private final WaitTask waitTask;
   private Task currentTask;
   private boolean isSpawned = false;
 
@@ -31,6 +36,15 @@ public class SpecialWanderTask extends DefaultTask implements PriorityTask {
   public SpecialWanderTask(Vector2 wanderRange, float waitTime) {
     this.wanderRange = wanderRange;
     this.waitTime = waitTime;
+    movementTask = new MovementTask(wanderPos, wanderRange);
+    waitTask = new WaitTask(waitTime);
+  }
+
+  @Override
+  public void create(TaskRunner taskRunner) {
+    super.create(taskRunner);
+    movementTask.create(taskRunner);
+    waitTask.create(taskRunner);
   }
 
   @Override
@@ -41,7 +55,7 @@ public class SpecialWanderTask extends DefaultTask implements PriorityTask {
   @Override
   public void start() {
     super.start();
-    startPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(startPos);
     Vector2 newPos = getRandomPosInRange();
 
       if (!isSpawned) {
@@ -50,8 +64,7 @@ public class SpecialWanderTask extends DefaultTask implements PriorityTask {
           isSpawned = true;
 
           // Wait for the spawn event to complete or for a specified duration before starting to wander
-          waitTask = new WaitTask(2.0f); // Adjust the wait time if needed
-          waitTask.create(owner);
+          waitTask.reset(SPAWN_WAIT_TIME);
           swapTask(waitTask);
       }
 
@@ -74,20 +87,18 @@ public class SpecialWanderTask extends DefaultTask implements PriorityTask {
 
   private void startWandering() {
     Vector2 targetPos = getRandomPosInRange();
-    Vector2 currentPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(currentPos);
     triggerDirection(targetPos, currentPos);
 
     logger.debug("Starting wandering");
-    movementTask = new MovementTask(targetPos, wanderRange);
-    movementTask.create(owner);
+    movementTask.reset(targetPos);
     movementTask.start();
     currentTask = movementTask;
   }
 
   private void startWaiting() {
     logger.debug("Starting waiting");
-    waitTask = new WaitTask(waitTime);
-    waitTask.create(owner);
+    waitTask.reset(waitTime);
     swapTask(waitTask);
   }
 
@@ -96,7 +107,7 @@ public class SpecialWanderTask extends DefaultTask implements PriorityTask {
 
     triggerDirection(targetPos, startPos);
 
-    movementTask.setTarget(targetPos);
+    movementTask.reset(targetPos);
     swapTask(movementTask);
   }
 
@@ -108,11 +119,13 @@ public class SpecialWanderTask extends DefaultTask implements PriorityTask {
     currentTask.start();
   }
 
+  /** Picks a new wander position. The returned vector is reused by the next call. */
   private Vector2 getRandomPosInRange() {
-    Vector2 halfRange = wanderRange.cpy().scl(0.5f);
-    Vector2 min = startPos.cpy().sub(halfRange);
-    Vector2 max = startPos.cpy().add(halfRange);
-    return RandomUtils.random(min, max);
+    float halfX = wanderRange.x * 0.5f;
+    float halfY = wanderRange.y * 0.5f;
+    return wanderPos.set(
+        MathUtils.random(startPos.x - halfX, startPos.x + halfX),
+        MathUtils.random(startPos.y - halfY, startPos.y + halfY));
   }
 
   private void triggerDirection(Vector2 targetPos, Vector2 startPos) {
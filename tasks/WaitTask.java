@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.csse3200.game.ai.tasks.DefaultTask;
+import com.csse3200.game.ai.tasks.TaskRunner;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 
@@ -9,15 +10,29 @@ import com.csse3200.game.services.ServiceLocator;
  * after the time has passed.
  */
 public class WaitTask extends DefaultTask {
-  private final GameTime timeSource;
-  private final float duration;
+  private GameTime timeSource;
+  private float duration;
   private long endTime;
 
   /**
    * @param duration How long to wait for, in seconds.
    */
   public WaitTask(float duration) {
+    this.duration = duration;
+  }
+
+  @Override
+  public void create(TaskRunner taskRunner) {
+    super.create(taskRunner);
     timeSource = ServiceLocator.getTimeSource();
+  }
+
+  /**
+   * Wait for a different time. Takes effect the next time the task is started.
+   *
+   * @param duration How long to wait for, in seconds.
+   */
+  public void reset(float duration) {
     this.duration = duration;
   }
 
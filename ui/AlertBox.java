@@ -2,17 +2,20 @@ package com.csse3200.game.ui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * A customizable alert box that displays a message and an "OK" button to dismiss.
  * This alert box matches the template of PopupDialogBox for consistency.
  */
 public class AlertBox extends Dialog {
+    private static final String BACKGROUND_TEXTURE = "images/animal/lightblue.png";
+    private final UITextureCache textures;
+    private boolean texturesReleased = false;
     private final Label messageLabel;
     private final TextButton okButton;
 
@@ -33,10 +36,9 @@ public class AlertBox extends Dialog {
         this.dialogWidth = dialogWidth;
         this.dialogHeight = dialogHeight;
 
-        // Set the background image for the dialog box
-        Texture bgTexture = new Texture(Gdx.files.internal("images/animal/lightblue.png"));
-        Image backgroundImage = new Image(bgTexture);
-        this.getContentTable().setBackground(backgroundImage.getDrawable());
+        // Set the background image for the dialog box, released once the alert box is removed
+        textures = UITextureCache.of(ServiceLocator.getResourceService());
+        this.getContentTable().setBackground(textures.acquireDrawable(BACKGROUND_TEXTURE));
 
         // Initialize label and button
         messageLabel = new Label(message, skin);
@@ -80,4 +82,14 @@ public class AlertBox extends Dialog {
     public void display(Stage stage) {
         stage.addActor(this);
     }
+
+    @Override
+    public boolean remove() {
+        boolean removed = super.remove();
+        if (!texturesReleased) {
+            textures.release(BACKGROUND_TEXTURE);
+            texturesReleased = true;
+        }
+        return removed;
+    }
 }
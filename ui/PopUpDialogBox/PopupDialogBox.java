@@ -2,17 +2,22 @@ package com.csse3200.game.ui.PopUpDialogBox;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.ui.UITextureCache;
 
 /**
  * A customizable popup dialog box that displays animal information and health bars.
  * This dialog box allows navigation through multiple pages of content using a confirm button.
  */
 public class PopupDialogBox extends Dialog {
+    private static final String BACKGROUND_TEXTURE = "images/animal/lightblue.png";
+    private final UITextureCache textures;
+    private final String animalImagePath;
+    private boolean texturesReleased = false;
     private final Label titleLabel;
     private final Label contentLabel;
     private final TextButton nextButton;
@@ -48,17 +53,17 @@ public class PopupDialogBox extends Dialog {
     public PopupDialogBox(String[] titles, String[] content, String animalImagePath, Skin skin, float dialogWidth, float dialogHeight,
                           int[] speedStats, int[] defenseStats, int[] strengthStats) {
         super("", skin);
-        Texture bgTexture = new Texture(Gdx.files.internal("images/animal/lightblue.png")); // Load the background image
-        Image backgroundImage = new Image(bgTexture); // Create an Image from the texture
-        this.getContentTable().setBackground(backgroundImage.getDrawable());
+        // Textures are released once the dialog is removed
+        textures = UITextureCache.of(ServiceLocator.getResourceService());
+        this.getContentTable().setBackground(textures.acquireDrawable(BACKGROUND_TEXTURE));
         this.titles = titles;
         this.content = content;
         this.dialogWidth = dialogWidth;
         this.dialogHeight = dialogHeight;
 
         // Load the animal image
-        Texture animalTexture = new Texture(Gdx.files.internal(animalImagePath));
-        animalImage = new Image(animalTexture);
+        this.animalImagePath = animalImagePath;
+        animalImage = new Image(textures.acquire(animalImagePath));
 
         // Initialize stats arrays
         this.speedStats = speedStats;
@@ -170,6 +175,17 @@ public class PopupDialogBox extends Dialog {
         stage.addActor(this);
     }
 
+    @Override
+    public boolean remove() {
+        boolean removed = super.remove();
+        if (!texturesReleased) {
+            textures.release(BACKGROUND_TEXTURE);
+            textures.release(animalImagePath);
+            texturesReleased = true;
+        }
+        return removed;
+    }
+
     /**
      * Sets the index of the animal for which stats should be displayed.
      *
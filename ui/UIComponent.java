@@ -1,8 +1,12 @@
 package com.csse3200.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.rendering.Renderable;
 import com.csse3200.game.services.ServiceLocator;
@@ -15,6 +19,8 @@ public abstract class UIComponent extends RenderComponent implements Renderable
   public static Skin skin =
           new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
   public Stage stage;
+  private UITextureCache textures;
+  private final Array<String> acquiredTextures = new Array<>(false, 4);
 
   @Override
   public void create() {
@@ -32,8 +38,67 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     return 1f;
   }
 
+  @Override
+  public boolean getBounds(Rectangle bounds) {
+    // UI is drawn in screen space, never culled
+    return false;
+  }
+
   public void setStage(Stage stage) {
     this.stage = stage;
   }
 
+  /**
+   * Acquire a texture from the UI texture cache. It is released when this component is disposed.
+   *
+   * @param path texture file path
+   * @return loaded texture
+   */
+  protected Texture acquireTexture(String path) {
+    Texture texture = getTextures().acquire(path);
+    acquiredTextures.add(path);
+    return texture;
+  }
+
+  /**
+   * Acquire a shared drawable from the UI texture cache. It is released when this component is
+   * disposed.
+   *
+   * @param path texture file path
+   * @return shared drawable, which should not be modified
+   */
+  protected TextureRegionDrawable acquireDrawable(String path) {
+    TextureRegionDrawable drawable = getTextures().acquireDrawable(path);
+    acquiredTextures.add(path);
+    return drawable;
+  }
+
+  /**
+   * Release a texture or drawable acquired by this component before it is disposed.
+   *
+   * @param path texture file path
+   */
+  protected void releaseTexture(String path) {
+    if (acquiredTextures.removeValue(path, false)) {
+      textures.release(path);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    for (String path : acquiredTextures) {
+      textures.release(path);
+    }
+    acquiredTextures.clear();
+    super.dispose();
+  }
+
+  private UITextureCache getTextures() {
+    // Keep the cache we first used, in case the resource service is replaced before disposal
+    if (textures == null) {
+      textures = UITextureCache.of(ServiceLocator.getResourceService());
+    }
+    return textures;
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.csse3200.game.ui;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.services.ResourceService;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reference-counted cache of textures and drawables used by UI code. Each texture is loaded through
+ * the resource service the first time it is acquired, and unloaded when the last holder releases
+ * it. Every acquire must be matched with exactly one release.
+ *
+ * <p>UI components should use {@link UIComponent#acquireTexture(String)} and
+ * {@link UIComponent#acquireDrawable(String)}, which release automatically on dispose. Drawables are
+ * shared between holders and should not be modified.
+ *
+ * <p>There is one cache per resource service, see {@link #of(ResourceService)}. The cache forgets
+ * its textures when its service clears its assets.
+ */
+public class UITextureCache {
+  private static final Logger logger = LoggerFactory.getLogger(UITextureCache.class);
+  private static final Map<ResourceService, UITextureCache> caches = new WeakHashMap<>();
+
+  static {
+    ResourceService.addAssetListener(
+        new ResourceService.AssetListener() {
+          @Override
+          public void unloading(ResourceService service, String assetName, Object asset) {
+            // Textures are only unloaded by release()
+          }
+
+          @Override
+          public void cleared(ResourceService service) {
+            UITextureCache cache = caches.remove(service);
+            if (cache != null) {
+              cache.clear();
+            }
+          }
+        });
+  }
+
+  private final ResourceService resourceService;
+  private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+  /**
+   * Create a cache which loads textures through the given resource service.
+   *
+   * @param resourceService resource service owning the loaded textures
+   */
+  public UITextureCache(ResourceService resourceService) {
+    this.resourceService = resourceService;
+  }
+
+  /**
+   * Get the cache for UI code using a resource service's assets, creating it on first use.
+   *
+   * @param resourceService resource service owning the loaded textures
+   * @return UI texture cache of the service
+   */
+  public static UITextureCache of(ResourceService resourceService) {
+    return caches.computeIfAbsent(resourceService, UITextureCache::new);
+  }
+
+  /**
+   * Acquire a texture, loading it if it isn't already held.
+   *
+   * @param path texture file path
+   * @return loaded texture
+   */
+  public Texture acquire(String path) {
+    Entry entry = entries.get(path);
+    if (entry == null) {
+      logger.debug("Loading UI texture {}", path);
+      entry = new Entry(resourceService.loadAssetNow(path, Texture.class));
+      entries.put(path, entry);
+    }
+    entry.references++;
+    return entry.texture;
+  }
+
+  /**
+   * Acquire a drawable of a whole texture, loading the texture if it isn't already held. Release it
+   * with {@link #release(String)} like a texture.
+   *
+   * @param path texture file path
+   * @return shared drawable
+   */
+  public TextureRegionDrawable acquireDrawable(String path) {
+    acquire(path);
+    Entry entry = entries.get(path);
+    if (entry.drawable == null) {
+      entry.drawable = new TextureRegionDrawable(entry.texture);
+    }
+    return entry.drawable;
+  }
+
+  /**
+   * Release a previously acquired texture or drawable. The texture is unloaded when nothing holds
+   * it anymore.
+   *
+   * @param path texture file path
+   */
+  public void release(String path) {
+    Entry entry = entries.get(path);
+    if (entry == null) {
+      // Already dropped by clear() when the resource service was disposed
+      logger.debug("Released UI texture {} which is not held", path);
+      return;
+    }
+    entry.references--;
+    if (entry.references <= 0) {
+      logger.debug("Unloading UI texture {}", path);
+      entries.remove(path);
+      resourceService.unloadAssets(new String[] {path});
+    }
+  }
+
+  /**
+   * Get the number of holders of a texture.
+   *
+   * @param path texture file path
+   * @return number of unreleased acquires
+   */
+  public int getReferences(String path) {
+    Entry entry = entries.get(path);
+    return entry == null ? 0 : entry.references;
+  }
+
+  /**
+   * Forget every held texture without unloading them. Called when the resource service clears all
+   * of its assets, after which {@link #of(ResourceService)} returns a new cache.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  private static class Entry {
+    final Texture texture;
+    TextureRegionDrawable drawable;
+    int references;
+
+    Entry(Texture texture) {
+      this.texture = texture;
+    }
+  }
+}
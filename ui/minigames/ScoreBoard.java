@@ -1,8 +1,6 @@
 package com.csse3200.game.ui.minigames;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -10,6 +8,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.csse3200.game.components.minigames.MiniGameNames;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.components.minigames.MiniGameConstants;
+import com.csse3200.game.ui.UITextureCache;
 
 import static com.csse3200.game.components.minigames.MiniGameNames.BIRD;
 import static com.csse3200.game.components.minigames.MiniGameNames.SNAKE;
@@ -19,6 +18,7 @@ import static com.csse3200.game.components.minigames.MiniGameNames.SNAKE;
  * Manages score and medal display with dynamic scaling based on screen size.
  */
 public class ScoreBoard {
+    private static final String BACKGROUND_TEXTURE = "images/minigames/scoreboard.png";
 
     private Label scoreLabel;
     private Label bronzeLabel;
@@ -29,6 +29,7 @@ public class ScoreBoard {
     private final MiniGameNames gameName;
     private final int initialScore;
     private double scale; // scale relative to the game
+    private UITextureCache textures;
 
     /**
      * Creates a new SnakeScoreBoard with the initial score.
@@ -105,7 +106,8 @@ public class ScoreBoard {
         table.add(goldLabel).center().padTop(20).padBottom(20).expandX().fillX().padLeft(120);
 
         // Set the background image
-        table.setBackground(new TextureRegionDrawable(new Texture(Gdx.files.internal("images/minigames/scoreboard.png"))));
+        textures = UITextureCache.of(ServiceLocator.getResourceService());
+        table.setBackground(textures.acquireDrawable(BACKGROUND_TEXTURE));
 
         stage.addActor(table);
         updateTableSizeAndPosition();
@@ -137,6 +139,10 @@ public class ScoreBoard {
         if (bronzeLabel != null) bronzeLabel.remove();
         if (silverLabel != null) silverLabel.remove();
         if (goldLabel != null) goldLabel.remove();
+        if (textures != null) {
+            textures.release(BACKGROUND_TEXTURE);
+            textures = null;
+        }
     }
 
     /**
@@ -3,6 +3,8 @@ package com.csse3200.game.ui.terminal;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.ui.terminal.commands.Command;
 import com.csse3200.game.ui.terminal.commands.DebugCommand;
+import com.csse3200.game.ui.terminal.commands.PhysicsCommand;
+import com.csse3200.game.ui.terminal.commands.RenderStatsCommand;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +31,8 @@ public class Terminal extends Component {
     this.commands = commands;
 
     addCommand("debug", new DebugCommand());
+    addCommand("renderstats", new RenderStatsCommand());
+    addCommand("physics", new PhysicsCommand());
   }
 
   /** @return message entered by user */
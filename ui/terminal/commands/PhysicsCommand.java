@@ -0,0 +1,88 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for tuning physics at runtime. Usage:
+ *
+ * <ul>
+ *   <li>physics threaded on/off - step physics on its own thread while the frame renders
+ *   <li>physics interpolate on/off - blend bodies between steps when rendering
+ *   <li>physics rate [hz] - set the number of physics steps per second
+ *   <li>physics iterations [velocity] [position] - set the solver iterations per step
+ * </ul>
+ */
+public class PhysicsCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(PhysicsCommand.class);
+
+  /**
+   * Changes physics settings if the corresponding arguments are received.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'physics' command: {}", args);
+      return false;
+    }
+
+    PhysicsEngine engine = ServiceLocator.getPhysicsService().getPhysics();
+    switch (args.get(0)) {
+      case "threaded":
+        engine.setThreaded(args.get(1).equals("on"));
+        break;
+      case "interpolate":
+        engine.setInterpolating(args.get(1).equals("on"));
+        break;
+      case "rate":
+        engine.setTickRate(Float.parseFloat(args.get(1)));
+        break;
+      default:
+        engine.setIterations(Integer.parseInt(args.get(1)), Integer.parseInt(args.get(2)));
+        break;
+    }
+    return true;
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    if (args.isEmpty()) {
+      return false;
+    }
+    switch (args.get(0)) {
+      case "threaded":
+      case "interpolate":
+        return args.size() == 2 && (args.get(1).equals("on") || args.get(1).equals("off"));
+      case "rate":
+        return args.size() == 2 && isPositive(args.get(1));
+      case "iterations":
+        return args.size() == 3 && isPositiveInt(args.get(1)) && isPositiveInt(args.get(2));
+      default:
+        return false;
+    }
+  }
+
+  private boolean isPositive(String arg) {
+    try {
+      return Float.parseFloat(arg) > 0f;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private boolean isPositiveInt(String arg) {
+    try {
+      return Integer.parseInt(arg) > 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+}
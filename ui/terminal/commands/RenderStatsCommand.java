@@ -0,0 +1,69 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.rendering.RenderStats;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for inspecting render statistics. Usage:
+ *
+ * <ul>
+ *   <li>renderstats print - log the last frame's statistics
+ *   <li>renderstats binds on/off - count texture bindings with the GL profiler
+ *   <li>renderstats csv on/off - log every frame's statistics to a CSV file
+ * </ul>
+ */
+public class RenderStatsCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(RenderStatsCommand.class);
+  private static final String CSV_FILE = "logs/render_stats.csv";
+
+  /**
+   * Prints or toggles render statistics if the corresponding arguments are received.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'renderstats' command: {}", args);
+      return false;
+    }
+
+    RenderStats stats = ServiceLocator.getRenderService().getStats();
+    if (args.size() == 1) {
+      logger.info("Render stats for frame {}:\n{}", stats.getLastFrame().getFrame(),
+          stats.getLastFrame());
+      return true;
+    }
+
+    boolean enable = args.get(1).equals("on");
+    switch (args.get(0)) {
+      case "binds":
+        stats.setGlProfiling(enable);
+        return true;
+      case "csv":
+        if (enable) {
+          stats.startCsvLog(CSV_FILE);
+        } else {
+          stats.stopCsvLog();
+        }
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'renderstats' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    if (args.size() == 1) {
+      return args.get(0).equals("print");
+    }
+    return args.size() == 2 && (args.get(1).equals("on") || args.get(1).equals("off"));
+  }
+}